@@ -0,0 +1,38 @@
+package com.Omnibus.benchmark;
+
+import com.Omnibus.domain.model.Account;
+import com.Omnibus.domain.model.AccountStatus;
+import com.Omnibus.domain.model.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balance mutation cost of {@link Account#debit} and {@link Account#credit}.
+ * Each operation debits and credits the same amount so the balance stays stable across iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountBenchmark {
+
+    private Account account;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        account = new Account(UUID.randomUUID(), UUID.randomUUID(), "ACC-BENCH-0001",
+                Money.of("1000000.0000", "USD"), AccountStatus.ACTIVE);
+        amount = Money.of("12.3400", "USD");
+    }
+
+    @Benchmark
+    public Money debitThenCredit() {
+        account.debit(amount);
+        return account.credit(amount);
+    }
+}
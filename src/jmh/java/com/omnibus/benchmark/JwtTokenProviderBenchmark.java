@@ -0,0 +1,49 @@
+package com.Omnibus.benchmark;
+
+import com.Omnibus.infrastructure.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost as paid by the authentication filter.
+ * {@link #filterSequence} reproduces the filter's validate + subject + username calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "BenchmarkSecretKeyThatIsAtLeast256BitsLongForHS256!!";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000);
+        token = tokenProvider.generateToken(UUID.randomUUID(), "bench_user");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public UUID getUserIdFromToken() {
+        return tokenProvider.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public void filterSequence(Blackhole blackhole) {
+        blackhole.consume(tokenProvider.validateToken(token));
+        blackhole.consume(tokenProvider.getUserIdFromToken(token));
+        blackhole.consume(tokenProvider.getUsernameFromToken(token));
+    }
+}
@@ -0,0 +1,50 @@
+package com.Omnibus.benchmark;
+
+import com.Omnibus.domain.model.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction and arithmetic cost of {@link Money} — the innermost hot path of every transfer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private BigDecimal rawAmount;
+    private Money balance;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        rawAmount = new BigDecimal("250.50");
+        balance = Money.of("10000.0000", "USD");
+        amount = Money.of("250.5000", "USD");
+    }
+
+    @Benchmark
+    public Money ofBigDecimal() {
+        return Money.of(rawAmount, "usd");
+    }
+
+    @Benchmark
+    public Money ofString() {
+        return Money.of("250.50", "USD");
+    }
+
+    @Benchmark
+    public Money add() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return balance.subtract(amount);
+    }
+}
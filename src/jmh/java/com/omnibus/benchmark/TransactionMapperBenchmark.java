@@ -0,0 +1,51 @@
+package com.Omnibus.benchmark;
+
+import com.Omnibus.adapter.out.persistence.TransactionJpaEntity;
+import com.Omnibus.adapter.out.persistence.TransactionMapper;
+import com.Omnibus.domain.model.Money;
+import com.Omnibus.domain.model.Transaction;
+import com.Omnibus.domain.model.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain ⇄ JPA mapping cost of {@link TransactionMapper}, paid on every save and history read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMapperBenchmark {
+
+    private final TransactionMapper mapper = new TransactionMapper();
+
+    private Transaction transaction;
+    private TransactionJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        transaction = new Transaction(UUID.randomUUID(), TransactionType.TRANSFER,
+                UUID.randomUUID(), UUID.randomUUID(), Money.of("250.0000", "USD"), "bench");
+        transaction.markCompleted();
+        entity = mapper.toJpa(transaction);
+    }
+
+    @Benchmark
+    public TransactionJpaEntity toJpa() {
+        return mapper.toJpa(transaction);
+    }
+
+    @Benchmark
+    public Transaction toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Transaction roundTrip() {
+        return mapper.toDomain(mapper.toJpa(transaction));
+    }
+}
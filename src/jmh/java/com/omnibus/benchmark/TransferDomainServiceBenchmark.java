@@ -0,0 +1,49 @@
+package com.Omnibus.benchmark;
+
+import com.Omnibus.domain.model.*;
+import com.Omnibus.domain.service.TransferDomainService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full double-entry cost of {@link TransferDomainService#executeTransfer}: validation,
+ * debit, credit, two ledger entries and the transaction state change.
+ * Money flows back and forth between two accounts so balances stay stable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferDomainServiceBenchmark {
+
+    private final TransferDomainService service = new TransferDomainService();
+
+    private Account first;
+    private Account second;
+    private Money amount;
+    private Transaction forward;
+    private Transaction backward;
+
+    @Setup
+    public void setUp() {
+        first = new Account(UUID.randomUUID(), UUID.randomUUID(), "ACC-BENCH-0001",
+                Money.of("1000000.0000", "USD"), AccountStatus.ACTIVE);
+        second = new Account(UUID.randomUUID(), UUID.randomUUID(), "ACC-BENCH-0002",
+                Money.of("1000000.0000", "USD"), AccountStatus.ACTIVE);
+        amount = Money.of("99.9900", "USD");
+        forward = new Transaction(UUID.randomUUID(), TransactionType.TRANSFER,
+                first.getId(), second.getId(), amount, "bench");
+        backward = new Transaction(UUID.randomUUID(), TransactionType.TRANSFER,
+                second.getId(), first.getId(), amount, "bench");
+    }
+
+    @Benchmark
+    public TransferDomainService.TransferResult executeTransferRoundTrip() {
+        service.executeTransfer(first, second, amount, forward);
+        return service.executeTransfer(second, first, amount, backward);
+    }
+}
@@ -2,17 +2,36 @@ package com.Omnibus.adapter.in.web;
 
 import com.Omnibus.application.dto.AccountDTO;
 import com.Omnibus.application.dto.AccountLookupResponse;
+import com.Omnibus.application.dto.AuditTrailEntry;
+import com.Omnibus.application.dto.BalanceAsOfResponse;
 import com.Omnibus.application.dto.TransactionDTO;
+import com.Omnibus.application.dto.StatementLine;
+import com.Omnibus.application.dto.TransactionPage;
+import com.Omnibus.application.port.in.ExportAuditTrailUseCase;
+import com.Omnibus.application.port.in.ExportStatementUseCase;
 import com.Omnibus.application.port.in.GetAccountUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,10 +40,23 @@ import java.util.UUID;
 @Tag(name = "Accounts", description = "Account queries, transaction history, and recipient lookup")
 public class AccountController {
 
+        private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+        private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+        private static final String CSV_HEADER = "entryId,transactionId,entryType,amount,currency,balanceAfter,createdAt\n";
+
         private final GetAccountUseCase getAccountUseCase;
+        private final ExportStatementUseCase exportStatementUseCase;
+        private final ExportAuditTrailUseCase exportAuditTrailUseCase;
+        private final ObjectMapper objectMapper;
 
-        public AccountController(GetAccountUseCase getAccountUseCase) {
+        public AccountController(GetAccountUseCase getAccountUseCase,
+                        ExportStatementUseCase exportStatementUseCase,
+                        ExportAuditTrailUseCase exportAuditTrailUseCase,
+                        ObjectMapper objectMapper) {
                 this.getAccountUseCase = getAccountUseCase;
+                this.exportStatementUseCase = exportStatementUseCase;
+                this.exportAuditTrailUseCase = exportAuditTrailUseCase;
+                this.objectMapper = objectMapper;
         }
 
         @GetMapping
@@ -46,15 +78,122 @@ public class AccountController {
                 return ResponseEntity.ok(getAccountUseCase.getById(accountId, userId));
         }
 
+        @GetMapping("/{accountId}/balance")
+        @Operation(summary = "Get balance at a point in time", description = "Returns the account balance including every ledger entry created at or before `asOf` (ISO 8601 instant, defaults to now). Computed from the nearest periodic balance checkpoint plus the ledger entries after it, so the cost does not grow with the account's history.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Balance retrieved", content = @Content(schema = @Schema(implementation = BalanceAsOfResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "asOf before the account was opened"),
+                        @ApiResponse(responseCode = "403", description = "Not the account owner"),
+                        @ApiResponse(responseCode = "404", description = "Account not found")
+        })
+        public ResponseEntity<BalanceAsOfResponse> getBalanceAsOf(@PathVariable UUID accountId,
+                        @Parameter(description = "Point in time (ISO 8601 instant)") @RequestParam(required = false) Instant asOf,
+                        @AuthenticationPrincipal UUID userId) {
+                return ResponseEntity.ok(getAccountUseCase.getBalanceAsOf(accountId, userId,
+                                asOf != null ? asOf : Instant.now()));
+        }
+
         @GetMapping("/{accountId}/transactions")
-        @Operation(summary = "Get account transaction history", description = "Returns all transactions where this account is source or target, ordered by date descending.", responses = {
-                        @ApiResponse(responseCode = "200", description = "Transactions retrieved"),
+        @Operation(summary = "Get account transaction history", description = "Returns one page of transactions where this account is source or target, newest first (ordered by creation time, then ID). Pass the `X-Next-Cursor` response header back as `cursor` to fetch the next page; the header is absent on the last page.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Transactions retrieved", headers = @Header(name = "X-Next-Cursor", description = "Cursor for the next page (absent on the last page)")),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
                         @ApiResponse(responseCode = "403", description = "Not the account owner"),
                         @ApiResponse(responseCode = "404", description = "Account not found")
         })
         public ResponseEntity<List<TransactionDTO>> getTransactions(@PathVariable UUID accountId,
+                        @Parameter(description = "Opaque cursor from a previous page's X-Next-Cursor header") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (1-200)") @RequestParam(defaultValue = "50") int limit,
+                        @AuthenticationPrincipal UUID userId) {
+                TransactionPage page = getAccountUseCase.getTransactionsByAccountId(accountId, userId, cursor, limit);
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                if (page.nextCursor() != null) {
+                        response.header("X-Next-Cursor", page.nextCursor());
+                }
+                return response.body(page.items());
+        }
+
+        @GetMapping("/{accountId}/statement")
+        @Operation(summary = "Export account statement", description = "Streams ledger entries created in [from, to), oldest first, as NDJSON (one JSON object per line) or CSV. Rows are read through a database cursor and written as they arrive, so the export size is unbounded. `from` defaults to the epoch and `to` to now (ISO 8601 instants).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Statement stream"),
+                        @ApiResponse(responseCode = "400", description = "Invalid range or format"),
+                        @ApiResponse(responseCode = "403", description = "Not the account owner"),
+                        @ApiResponse(responseCode = "404", description = "Account not found")
+        })
+        public ResponseEntity<StreamingResponseBody> getStatement(@PathVariable UUID accountId,
+                        @Parameter(description = "Inclusive start (ISO 8601 instant)") @RequestParam(required = false) Instant from,
+                        @Parameter(description = "Exclusive end (ISO 8601 instant)") @RequestParam(required = false) Instant to,
+                        @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+                        @AuthenticationPrincipal UUID userId) {
+                boolean csv = switch (format) {
+                        case "ndjson" -> false;
+                        case "csv" -> true;
+                        default -> throw new IllegalArgumentException("format must be 'ndjson' or 'csv'");
+                };
+                Instant start = from != null ? from : Instant.EPOCH;
+                Instant end = to != null ? to : Instant.now();
+                if (!start.isBefore(end)) {
+                        throw new IllegalArgumentException("'from' must be before 'to'");
+                }
+
+                // Ownership / existence errors must surface before the response is committed
+                getAccountUseCase.getById(accountId, userId);
+
+                StreamingResponseBody body = outputStream -> {
+                        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                        try {
+                                if (csv) {
+                                        writer.write(CSV_HEADER);
+                                }
+                                exportStatementUseCase.exportStatement(accountId, userId, start, end,
+                                                line -> writeLine(writer, line, csv));
+                        } catch (UncheckedIOException e) {
+                                throw e.getCause();
+                        }
+                        writer.flush();
+                };
+
+                return ResponseEntity.ok()
+                                .contentType(csv ? CSV : NDJSON)
+                                .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                "attachment; filename=\"statement-" + accountId + (csv ? ".csv" : ".ndjson") + "\"")
+                                .body(body);
+        }
+
+        @GetMapping("/{accountId}/audit")
+        @Operation(summary = "Export account audit trail", description = "Streams the audit records of an account created in [from, to), oldest first, as NDJSON. Archived months are read from cold storage and merged ahead of the live records. `from` defaults to the epoch and `to` to now (ISO 8601 instants).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Audit trail stream"),
+                        @ApiResponse(responseCode = "400", description = "Invalid range"),
+                        @ApiResponse(responseCode = "403", description = "Not the account owner"),
+                        @ApiResponse(responseCode = "404", description = "Account not found")
+        })
+        public ResponseEntity<StreamingResponseBody> getAuditTrail(@PathVariable UUID accountId,
+                        @Parameter(description = "Inclusive start (ISO 8601 instant)") @RequestParam(required = false) Instant from,
+                        @Parameter(description = "Exclusive end (ISO 8601 instant)") @RequestParam(required = false) Instant to,
                         @AuthenticationPrincipal UUID userId) {
-                return ResponseEntity.ok(getAccountUseCase.getTransactionsByAccountId(accountId, userId));
+                Instant start = from != null ? from : Instant.EPOCH;
+                Instant end = to != null ? to : Instant.now();
+                if (!start.isBefore(end)) {
+                        throw new IllegalArgumentException("'from' must be before 'to'");
+                }
+
+                // Ownership / existence errors must surface before the response is committed
+                getAccountUseCase.getById(accountId, userId);
+
+                StreamingResponseBody body = outputStream -> {
+                        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                        try {
+                                exportAuditTrailUseCase.exportAuditTrail(accountId, userId, start, end,
+                                                entry -> writeAuditEntry(writer, entry));
+                        } catch (UncheckedIOException e) {
+                                throw e.getCause();
+                        }
+                        writer.flush();
+                };
+
+                return ResponseEntity.ok()
+                                .contentType(NDJSON)
+                                .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                "attachment; filename=\"audit-" + accountId + ".ndjson\"")
+                                .body(body);
         }
 
         @GetMapping("/lookup")
@@ -65,4 +204,39 @@ public class AccountController {
         public ResponseEntity<AccountLookupResponse> lookupByUsername(@RequestParam String username) {
                 return ResponseEntity.ok(getAccountUseCase.lookupByUsername(username));
         }
+
+        @GetMapping("/lookup/search")
+        @Operation(summary = "Search recipients by username prefix", description = "Autocomplete for the Send Money wizard: primary accounts of users whose username starts with `prefix`, ordered by username. Same limited info as the exact lookup.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Matches (possibly empty)"),
+                        @ApiResponse(responseCode = "400", description = "Prefix shorter than 2 characters or invalid limit")
+        })
+        public ResponseEntity<List<AccountLookupResponse>> searchByUsernamePrefix(
+                        @Parameter(description = "Leading characters of the username (at least 2)") @RequestParam String prefix,
+                        @Parameter(description = "Maximum matches (1-20)") @RequestParam(defaultValue = "10") int limit) {
+                return ResponseEntity.ok(getAccountUseCase.searchByUsernamePrefix(prefix, limit));
+        }
+
+        private void writeLine(Writer writer, StatementLine line, boolean csv) {
+                try {
+                        if (csv) {
+                                writer.write(line.entryId() + "," + line.transactionId() + "," + line.entryType() + ","
+                                                + line.amount().toPlainString() + "," + line.currency() + ","
+                                                + line.balanceAfter().toPlainString() + "," + line.createdAt() + "\n");
+                        } else {
+                                writer.write(objectMapper.writeValueAsString(line));
+                                writer.write('\n');
+                        }
+                } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                }
+        }
+
+        private void writeAuditEntry(Writer writer, AuditTrailEntry entry) {
+                try {
+                        writer.write(objectMapper.writeValueAsString(entry));
+                        writer.write('\n');
+                } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                }
+        }
 }
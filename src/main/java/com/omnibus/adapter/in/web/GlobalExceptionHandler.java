@@ -69,6 +69,31 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(BatchTransferAbortedException.class)
+    public ProblemDetail handleBatchAborted(BatchTransferAbortedException ex) {
+        log.warn("Batch transfer aborted: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage());
+        problem.setTitle("Batch Aborted");
+        problem.setType(URI.create("https://Omnibus.com/errors/batch-aborted"));
+        problem.setProperty("legIndex", ex.getLegIndex());
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
+    @ExceptionHandler(TransferOutcomeUnknownException.class)
+    public ProblemDetail handleOutcomeUnknown(TransferOutcomeUnknownException ex) {
+        log.error("Transfer outcome unknown: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "The transfer may or may not have been applied; retry with the same Idempotency-Key");
+        problem.setTitle("Transfer Outcome Unknown");
+        problem.setType(URI.create("https://Omnibus.com/errors/outcome-unknown"));
+        problem.setProperty("transactionId", ex.getTransactionId());
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
     @ExceptionHandler(DomainException.class)
     public ProblemDetail handleDomainException(DomainException ex) {
         log.warn("Domain error: {}", ex.getMessage());
@@ -1,7 +1,10 @@
 package com.Omnibus.adapter.in.web;
 
+import com.Omnibus.application.dto.BatchTransferCommand;
+import com.Omnibus.application.dto.BatchTransferResult;
 import com.Omnibus.application.dto.TransferCommand;
 import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.in.BatchTransferUseCase;
 import com.Omnibus.application.port.in.CreateTransferUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +25,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,9 +40,12 @@ import java.util.UUID;
 public class TransferController {
 
     private final CreateTransferUseCase createTransferUseCase;
+    private final BatchTransferUseCase batchTransferUseCase;
 
-    public TransferController(CreateTransferUseCase createTransferUseCase) {
+    public TransferController(CreateTransferUseCase createTransferUseCase,
+                              BatchTransferUseCase batchTransferUseCase) {
         this.createTransferUseCase = createTransferUseCase;
+        this.batchTransferUseCase = batchTransferUseCase;
     }
 
     @PostMapping
@@ -60,6 +67,8 @@ public class TransferController {
             @ApiResponse(responseCode = "400", description = "Validation error (invalid amount, currency, or account IDs)",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "403", description = "Missing or invalid JWT token"),
+            @ApiResponse(responseCode = "409", description = "Idempotency key claimed by another user or request",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "422", description = "Insufficient funds",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
@@ -95,7 +104,72 @@ public class TransferController {
                 .body(result);
     }
 
-    // ---- Request DTO ----
+    @PostMapping("/batch")
+    @Operation(summary = "Execute a batch of money transfers",
+            description = """
+                    Executes many transfer legs in a single database transaction. Every involved \
+                    account is locked once, in ascending UUID order, before any leg runs.
+                    
+                    In `ALL_OR_NOTHING` mode the first failing leg rolls back the whole batch (422). \
+                    In `BEST_EFFORT` mode failing legs are reported per leg and the rest commit (207). \
+                    A repeated `Idempotency-Key` from the same user replays the stored result with HTTP 200 \
+                    and an `Idempotency-Replayed: true` header; a key still in flight or used by another \
+                    request is rejected with 409.""")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "All legs executed successfully",
+                    content = @Content(schema = @Schema(implementation = BatchTransferResult.class))),
+            @ApiResponse(responseCode = "200", description = "Replayed batch (duplicate idempotency key)",
+                    headers = @Header(name = "Idempotency-Replayed", description = "Set to `true` when replaying a cached response",
+                            schema = @Schema(type = "string", example = "true")),
+                    content = @Content(schema = @Schema(implementation = BatchTransferResult.class))),
+            @ApiResponse(responseCode = "207", description = "Best-effort batch with one or more failed legs",
+                    content = @Content(schema = @Schema(implementation = BatchTransferResult.class))),
+            @ApiResponse(responseCode = "400", description = "Validation error (empty batch, too many legs, invalid leg)",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "403", description = "Missing or invalid JWT token"),
+            @ApiResponse(responseCode = "409", description = "Duplicate idempotency key",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "422", description = "All-or-nothing batch aborted by a failing leg",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public ResponseEntity<BatchTransferResult> createBatchTransfer(
+            @Valid @RequestBody BatchTransferRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false)
+            @Size(min = 1, max = 255, message = "Idempotency-Key must be 1-255 characters")
+            @Parameter(description = "Client-supplied idempotency key for the whole batch (1-255 chars).",
+                    example = "payroll-2026-02-28")
+            String idempotencyKey,
+            @Parameter(hidden = true) @AuthenticationPrincipal UUID userId) {
+
+        List<BatchTransferCommand.Leg> legs = request.legs().stream()
+                .map(leg -> new BatchTransferCommand.Leg(
+                        leg.sourceAccountId(),
+                        leg.targetAccountId(),
+                        leg.amount(),
+                        leg.currency() != null ? leg.currency() : "USD",
+                        leg.description()))
+                .toList();
+
+        BatchTransferCommand command = new BatchTransferCommand(
+                legs,
+                request.mode() != null ? request.mode() : BatchTransferCommand.Mode.ALL_OR_NOTHING,
+                idempotencyKey,
+                userId
+        );
+
+        BatchTransferResult result = batchTransferUseCase.execute(command);
+
+        if (result.replayed()) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Idempotency-Replayed", "true");
+            return ResponseEntity.ok().headers(headers).body(result);
+        }
+        return ResponseEntity
+                .status(result.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(result);
+    }
+
+    // ---- Request DTOs ----
 
     @Schema(description = "Transfer request payload")
     public record TransferRequest(
@@ -114,4 +188,13 @@ public class TransferController {
             @Size(max = 500, message = "Description must not exceed 500 characters")
             String description
     ) {}
+
+    @Schema(description = "Batch transfer request payload")
+    public record BatchTransferRequest(
+            @Schema(description = "Failure handling mode", example = "ALL_OR_NOTHING", defaultValue = "ALL_OR_NOTHING")
+            BatchTransferCommand.Mode mode,
+            @Schema(description = "Transfer legs, executed in order")
+            @NotEmpty(message = "Batch must contain at least one leg")
+            List<@Valid TransferRequest> legs
+    ) {}
 }
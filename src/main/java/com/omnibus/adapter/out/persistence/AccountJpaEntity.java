@@ -1,6 +1,7 @@
 package com.Omnibus.adapter.out.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Formula;
 import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
@@ -29,6 +30,10 @@ public class AccountJpaEntity implements Persistable<UUID> {
     @Column(nullable = false, precision = 19, scale = 4)
     private BigDecimal balance = BigDecimal.ZERO;
 
+    /** Credits parked in sub-balance buckets (sharded-balance mode), read-only. */
+    @Formula("(SELECT COALESCE(SUM(b.balance), 0) FROM account_balance_buckets b WHERE b.account_id = id)")
+    private BigDecimal bucketBalance;
+
     @Column(nullable = false, length = 20)
     private String status = "ACTIVE";
 
@@ -38,6 +43,10 @@ public class AccountJpaEntity implements Persistable<UUID> {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /** Maintained by the trg_accounts_version trigger — never written from here. */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long version;
+
     @Override
     public boolean isNew() {
         return isNew;
@@ -77,6 +86,9 @@ public class AccountJpaEntity implements Persistable<UUID> {
     public BigDecimal getBalance() { return balance; }
     public void setBalance(BigDecimal balance) { this.balance = balance; }
 
+    public BigDecimal getBucketBalance() { return bucketBalance; }
+    public void setBucketBalance(BigDecimal bucketBalance) { this.bucketBalance = bucketBalance; }
+
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
 
@@ -85,4 +97,7 @@ public class AccountJpaEntity implements Persistable<UUID> {
 
     public Instant getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
@@ -3,10 +3,12 @@ package com.Omnibus.adapter.out.persistence;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +26,72 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, UU
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM AccountJpaEntity a WHERE a.id IN :ids ORDER BY a.id")
     List<AccountJpaEntity> findAllByIdForUpdate(@Param("ids") List<UUID> ids);
+
+    /**
+     * Adds a credit to one sub-balance bucket of a sharded account (creating the bucket on first use)
+     * and returns the account's total balance as seen by this statement.
+     */
+    @Query(value = """
+            WITH credited AS (
+                INSERT INTO account_balance_buckets (account_id, bucket_no, balance, updated_at)
+                VALUES (:accountId, :bucketNo, :amount, now())
+                ON CONFLICT (account_id, bucket_no)
+                DO UPDATE SET balance = account_balance_buckets.balance + EXCLUDED.balance, updated_at = now()
+                RETURNING balance
+            )
+            SELECT a.balance
+                 + COALESCE((SELECT SUM(b.balance) FROM account_balance_buckets b
+                             WHERE b.account_id = a.id AND b.bucket_no <> :bucketNo), 0)
+                 + (SELECT balance FROM credited)
+            FROM accounts a
+            WHERE a.id = :accountId
+            """, nativeQuery = true)
+    BigDecimal creditBalanceBucket(@Param("accountId") UUID accountId,
+                                   @Param("bucketNo") short bucketNo,
+                                   @Param("amount") BigDecimal amount);
+
+    /**
+     * Locks every non-empty bucket of the account and returns their bucket numbers and balances.
+     * Callers must already hold the account row lock so bucket locks are always taken after it.
+     */
+    @Query(value = """
+            SELECT bucket_no, balance FROM account_balance_buckets
+            WHERE account_id = :accountId AND balance <> 0
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Object[]> lockNonEmptyBalanceBuckets(@Param("accountId") UUID accountId);
+
+    /**
+     * Zeroes the given buckets of the account. Only buckets locked by
+     * {@link #lockNonEmptyBalanceBuckets} may be passed: their balances cannot have moved since,
+     * while an unlocked bucket may be taking a concurrent credit.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE account_balance_buckets
+            SET balance = 0, updated_at = now()
+            WHERE account_id = :accountId AND bucket_no IN (:bucketNos)
+            """, nativeQuery = true)
+    int zeroBalanceBuckets(@Param("accountId") UUID accountId, @Param("bucketNos") List<Short> bucketNos);
+
+    /**
+     * Drains every non-empty bucket into accounts.balance in one statement.
+     * Callers must already hold the account row lock so bucket locks are always taken after it.
+     */
+    @Modifying
+    @Query(value = """
+            WITH drained AS (
+                UPDATE account_balance_buckets b
+                SET balance = 0, updated_at = now()
+                FROM (SELECT bucket_no, balance FROM account_balance_buckets
+                      WHERE account_id = :accountId AND balance <> 0
+                      FOR UPDATE) old
+                WHERE b.account_id = :accountId AND b.bucket_no = old.bucket_no
+                RETURNING old.balance
+            )
+            UPDATE accounts
+            SET balance = balance + (SELECT SUM(balance) FROM drained), updated_at = now()
+            WHERE id = :accountId AND EXISTS (SELECT 1 FROM drained)
+            """, nativeQuery = true)
+    int consolidateBalanceBuckets(@Param("accountId") UUID accountId);
 }
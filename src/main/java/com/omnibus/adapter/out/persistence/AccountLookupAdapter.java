@@ -0,0 +1,68 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.dto.AccountLookupResponse;
+import com.Omnibus.application.port.out.AccountLookupPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads the recipient lookup projection straight from {@code users} and {@code accounts}, without
+ * loading either aggregate.
+ */
+@Component
+public class AccountLookupAdapter implements AccountLookupPort {
+
+    private static final String FIND_BY_USERNAME_SQL = """
+            SELECT a.id, u.username, a.account_number
+            FROM users u
+            JOIN accounts a ON a.user_id = u.id
+            WHERE u.username = ?
+            ORDER BY a.created_at, a.id
+            LIMIT 1
+            """;
+
+    // DISTINCT ON keeps each user's oldest account; the LIKE is a range scan on idx_users_username_prefix
+    private static final String FIND_BY_PREFIX_SQL = """
+            SELECT DISTINCT ON (u.username) a.id, u.username, a.account_number
+            FROM users u
+            JOIN accounts a ON a.user_id = u.id
+            WHERE u.username LIKE ? ESCAPE '\\'
+            ORDER BY u.username, a.created_at, a.id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<AccountLookupResponse> ROW_MAPPER = (rs, rowNum) -> new AccountLookupResponse(
+            rs.getObject("id", UUID.class),
+            rs.getString("username"),
+            rs.getString("account_number"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountLookupAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<AccountLookupResponse> findByUsername(String username) {
+        return jdbcTemplate.query(FIND_BY_USERNAME_SQL, ROW_MAPPER, username).stream().findFirst();
+    }
+
+    @Override
+    public List<AccountLookupResponse> findByUsernamePrefix(String prefix, int limit) {
+        return jdbcTemplate.query(FIND_BY_PREFIX_SQL, ROW_MAPPER, escapeLike(prefix) + "%", limit);
+    }
+
+    @Override
+    public void invalidate(String username) {
+        // Nothing cached here — see CachingAccountLookup
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -17,9 +17,13 @@ public class AccountMapper {
         account.setUserId(entity.getUserId());
         account.setAccountNumber(entity.getAccountNumber());
         account.setBalance(Money.of(entity.getBalance(), entity.getCurrency()));
+        if (entity.getBucketBalance() != null && entity.getBucketBalance().signum() != 0) {
+            account.setBucketBalance(Money.of(entity.getBucketBalance(), entity.getCurrency()));
+        }
         account.setStatus(AccountStatus.valueOf(entity.getStatus()));
         account.setCreatedAt(entity.getCreatedAt());
         account.setUpdatedAt(entity.getUpdatedAt());
+        account.setVersion(entity.getVersion());
         return account;
     }
 
@@ -3,25 +3,55 @@ package com.Omnibus.adapter.out.persistence;
 import com.Omnibus.application.port.out.AccountRepositoryPort;
 import com.Omnibus.domain.model.Account;
 import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class AccountPersistenceAdapter implements AccountRepositoryPort {
 
+    private static final String UPDATE_BALANCE_SQL =
+            "UPDATE accounts SET balance = ?, updated_at = ? WHERE id = ?";
+
+    private static final String UPDATE_BALANCE_IF_VERSION_SQL =
+            "UPDATE accounts SET balance = ?, updated_at = ? WHERE id = ? AND version = ?";
+
+    private static final String LOCK_ACCOUNTS_SQL =
+            "SELECT id FROM accounts WHERE id = ANY(?) ORDER BY id FOR UPDATE";
+    private static final String APPLY_DELTAS_SQL_TEMPLATE = """
+            UPDATE accounts a
+            SET balance = a.balance + d.delta, updated_at = ?
+            FROM (VALUES %s) AS d (id, delta)
+            WHERE a.id = d.id AND a.balance + d.delta >= 0
+            RETURNING a.id, a.balance
+            """;
+
     private final AccountJpaRepository repository;
     private final AccountMapper mapper;
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     public AccountPersistenceAdapter(AccountJpaRepository repository,
                                      AccountMapper mapper,
-                                     EntityManager entityManager) {
+                                     EntityManager entityManager,
+                                     JdbcTemplate jdbcTemplate) {
         this.repository = repository;
         this.mapper = mapper;
         this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -31,6 +61,78 @@ public class AccountPersistenceAdapter implements AccountRepositoryPort {
         return mapper.toDomain(managed);
     }
 
+    @Override
+    public void updateBalances(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+        // Plain JDBC on the transaction's connection: no merge, no dirty check, no SELECT.
+        // The managed entities loaded by findAllByIdForUpdate stay unmodified, so Hibernate
+        // has nothing of its own to flush for these rows.
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, accounts, accounts.size(), (ps, account) -> {
+            Instant updatedAt = account.getUpdatedAt() != null ? account.getUpdatedAt() : Instant.now();
+            ps.setBigDecimal(1, account.getBalance().getAmount());
+            ps.setObject(2, OffsetDateTime.ofInstant(updatedAt, ZoneOffset.UTC));
+            ps.setObject(3, account.getId());
+        })[0];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new IllegalStateException("Account not found for balance update: " + accounts.get(i).getId());
+            }
+        }
+    }
+
+    @Override
+    public boolean updateBalancesIfUnchanged(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return true;
+        }
+        // Row locks taken by these UPDATEs follow the same ascending-id order as FOR UPDATE
+        List<Account> ordered = accounts.stream().sorted(Comparator.comparing(Account::getId)).toList();
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_BALANCE_IF_VERSION_SQL, ordered, ordered.size(), (ps, account) -> {
+            Instant updatedAt = account.getUpdatedAt() != null ? account.getUpdatedAt() : Instant.now();
+            ps.setBigDecimal(1, account.getBalance().getAmount());
+            ps.setObject(2, OffsetDateTime.ofInstant(updatedAt, ZoneOffset.UTC));
+            ps.setObject(3, account.getId());
+            ps.setLong(4, account.getVersion());
+        })[0];
+        for (int count : counts) {
+            if (count == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> applyBalanceDeltas(Map<UUID, BigDecimal> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        // Take the row locks in ascending id order first; UPDATE ... FROM has no defined lock order
+        UUID[] ids = deltas.keySet().toArray(UUID[]::new);
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(LOCK_ACCOUNTS_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", ids));
+            return ps;
+        }, rs -> { });
+
+        String sql = APPLY_DELTAS_SQL_TEMPLATE.formatted(
+                String.join(", ", Collections.nCopies(deltas.size(), "(CAST(? AS uuid), CAST(? AS numeric))")));
+        Map<UUID, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query(sql, ps -> {
+            ps.setObject(1, OffsetDateTime.now(ZoneOffset.UTC));
+            int index = 2;
+            for (Map.Entry<UUID, BigDecimal> delta : deltas.entrySet()) {
+                ps.setObject(index++, delta.getKey());
+                ps.setBigDecimal(index++, delta.getValue());
+            }
+        }, rs -> {
+            balances.put(rs.getObject("id", UUID.class), rs.getBigDecimal("balance"));
+        });
+        return balances;
+    }
+
     @Override
     public Optional<Account> findById(UUID id) {
         return repository.findById(id).map(mapper::toDomain);
@@ -43,6 +145,13 @@ public class AccountPersistenceAdapter implements AccountRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Account> findAllById(List<UUID> ids) {
+        return repository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Account> findAllByIdForUpdate(List<UUID> ids) {
         return repository.findAllByIdForUpdate(ids).stream()
@@ -54,4 +163,38 @@ public class AccountPersistenceAdapter implements AccountRepositoryPort {
     public boolean existsByAccountNumber(String accountNumber) {
         return repository.existsByAccountNumber(accountNumber);
     }
+
+    @Override
+    public BigDecimal creditBalanceBucket(UUID accountId, int bucket, BigDecimal amount) {
+        return repository.creditBalanceBucket(accountId, (short) bucket, amount);
+    }
+
+    @Override
+    public BigDecimal drainBalanceBuckets(UUID accountId) {
+        List<Object[]> buckets = repository.lockNonEmptyBalanceBuckets(accountId);
+        if (buckets.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal drained = BigDecimal.ZERO;
+        List<Short> bucketNos = new ArrayList<>(buckets.size());
+        for (Object[] bucket : buckets) {
+            bucketNos.add(((Number) bucket[0]).shortValue());
+            drained = drained.add((BigDecimal) bucket[1]);
+        }
+        repository.zeroBalanceBuckets(accountId, bucketNos);
+        return drained;
+    }
+
+    @Override
+    @Transactional
+    public void consolidateBalanceBuckets(UUID accountId) {
+        // Account row first, then bucket rows — same lock order as the debit path
+        repository.findAllByIdForUpdate(List.of(accountId));
+        repository.consolidateBalanceBuckets(accountId);
+    }
+
+    @Override
+    public void invalidate(List<UUID> accountIds) {
+        // Nothing cached here — see CachingAccountRepository
+    }
 }
@@ -0,0 +1,66 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.port.out.AuditTrailPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+public class AuditTrailAdapter implements AuditTrailPort {
+
+    /** A range on idx_audit_entity, pruned to the monthly partitions overlapping [from, to). */
+    private static final String STREAM_BY_ENTITY_SQL = """
+            SELECT id, entity_type, entity_id, action, actor_id,
+                   before_snapshot::text AS before_snapshot, after_snapshot::text AS after_snapshot,
+                   balance_before, balance_after, ip_address, created_at
+            FROM audit_logs
+            WHERE entity_type = ? AND entity_id = ? AND created_at >= ? AND created_at < ?
+            ORDER BY created_at, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int streamFetchSize;
+
+    public AuditTrailAdapter(JdbcTemplate jdbcTemplate,
+                             @Value("${app.statements.fetch-size:500}") int streamFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    @Override
+    public void streamByEntity(String entityType, UUID entityId, Instant from, Instant to,
+                               Consumer<AuditRecord> consumer) {
+        // Forward-only statement with a fetch size: inside a transaction the Postgres driver
+        // pulls rows through a server-side cursor, streamFetchSize rows at a time.
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_BY_ENTITY_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            ps.setString(1, entityType);
+            ps.setObject(2, entityId);
+            ps.setObject(3, OffsetDateTime.ofInstant(from, ZoneOffset.UTC));
+            ps.setObject(4, OffsetDateTime.ofInstant(to, ZoneOffset.UTC));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new AuditRecord(
+                rs.getLong("id"),
+                rs.getString("entity_type"),
+                rs.getObject("entity_id", UUID.class),
+                rs.getString("action"),
+                rs.getObject("actor_id", UUID.class),
+                rs.getString("before_snapshot"),
+                rs.getString("after_snapshot"),
+                rs.getBigDecimal("balance_before"),
+                rs.getBigDecimal("balance_after"),
+                rs.getString("ip_address"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant())));
+    }
+}
@@ -0,0 +1,122 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.port.out.BalanceCheckpointPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Writes and reads {@code account_balance_checkpoints} (Flyway V8).
+ * <p>
+ * An account's balance before its first ledger entry is that entry's {@code balance_after} minus
+ * its signed amount; an account with no entries has never moved, so its stored balance applies.
+ */
+@Component
+public class BalanceCheckpointAdapter implements BalanceCheckpointPort {
+
+    private static final String SIGNED_AMOUNT = "CASE WHEN le.entry_type = 'CREDIT' THEN le.amount ELSE -le.amount END";
+
+    /**
+     * Accounts without a checkpoint had no entries up to the newest one (otherwise the run that
+     * wrote it would have checkpointed them), so only entries after it need summing.
+     */
+    private static final String WRITE_CHECKPOINTS_SQL = """
+            WITH last_run AS (
+                SELECT COALESCE(MAX(as_of), '-infinity'::timestamptz) AS as_of FROM account_balance_checkpoints
+            ), moved AS (
+                SELECT le.account_id, SUM(%1$s) AS delta
+                FROM ledger_entries le, last_run
+                WHERE le.created_at > last_run.as_of AND le.created_at <= ?
+                GROUP BY le.account_id
+            )
+            INSERT INTO account_balance_checkpoints (account_id, as_of, balance)
+            SELECT m.account_id, ?, COALESCE(prev.balance, opening.balance) + m.delta
+            FROM moved m
+            LEFT JOIN LATERAL (
+                SELECT c.balance FROM account_balance_checkpoints c
+                WHERE c.account_id = m.account_id
+                ORDER BY c.as_of DESC LIMIT 1
+            ) prev ON true
+            LEFT JOIN LATERAL (
+                SELECT le.balance_after - %1$s AS balance FROM ledger_entries le
+                WHERE le.account_id = m.account_id
+                ORDER BY le.created_at, le.id LIMIT 1
+            ) opening ON prev.balance IS NULL
+            WHERE ? > (SELECT as_of FROM last_run)
+            ON CONFLICT (account_id, as_of) DO NOTHING
+            """.formatted(SIGNED_AMOUNT);
+
+    /**
+     * Entries before {@code live_from} may already be archived away, so they, and checkpoints
+     * older than them, are left out.
+     */
+    private static final String BALANCE_AS_OF_SQL = """
+            WITH bounds AS (
+                SELECT COALESCE(?::timestamptz, '-infinity'::timestamptz) AS live_from
+            ), cp AS (
+                SELECT c.as_of, c.balance FROM account_balance_checkpoints c, bounds
+                WHERE c.account_id = ? AND c.as_of <= ? AND c.as_of >= bounds.live_from
+                ORDER BY c.as_of DESC LIMIT 1
+            ), opening AS (
+                SELECT le.balance_after - %1$s AS balance FROM ledger_entries le, bounds
+                WHERE le.account_id = ? AND le.created_at >= bounds.live_from
+                ORDER BY le.created_at, le.id LIMIT 1
+            ), tail AS (
+                SELECT COALESCE(SUM(%1$s), 0) AS delta, COUNT(*) AS entries
+                FROM ledger_entries le, bounds
+                WHERE le.account_id = ? AND le.created_at <= ? AND le.created_at >= bounds.live_from
+                  AND le.created_at > COALESCE((SELECT as_of FROM cp), '-infinity'::timestamptz)
+            )
+            SELECT COALESCE((SELECT balance FROM cp), (SELECT balance FROM opening), a.balance) + tail.delta AS balance,
+                   (SELECT as_of FROM cp) AS checkpoint_as_of,
+                   tail.entries
+            FROM accounts a, tail
+            WHERE a.id = ?
+            """.formatted(SIGNED_AMOUNT);
+
+    /**
+     * Other sessions' transactions are only visible with the same role (or pg_read_all_stats);
+     * every application connection uses one role.
+     */
+    private static final String OLDEST_OPEN_TRANSACTION_SQL = """
+            SELECT min(xact_start) FROM pg_stat_activity
+            WHERE datname = current_database() AND xact_start IS NOT NULL AND pid <> pg_backend_pid()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BalanceCheckpointAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int writeCheckpoints(Instant asOf) {
+        OffsetDateTime cutoff = OffsetDateTime.ofInstant(asOf, ZoneOffset.UTC);
+        return jdbcTemplate.update(WRITE_CHECKPOINTS_SQL, cutoff, cutoff, cutoff);
+    }
+
+    @Override
+    public Optional<Instant> oldestOpenTransactionStart() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(OLDEST_OPEN_TRANSACTION_SQL, OffsetDateTime.class))
+                .map(OffsetDateTime::toInstant);
+    }
+
+    @Override
+    public BalanceAsOf balanceAsOf(UUID accountId, Instant asOf, Instant liveFrom) {
+        OffsetDateTime at = OffsetDateTime.ofInstant(asOf, ZoneOffset.UTC);
+        OffsetDateTime from = liveFrom != null ? OffsetDateTime.ofInstant(liveFrom, ZoneOffset.UTC) : null;
+        return jdbcTemplate.queryForObject(BALANCE_AS_OF_SQL, (rs, rowNum) -> {
+                    OffsetDateTime checkpointAsOf = rs.getObject("checkpoint_as_of", OffsetDateTime.class);
+                    return new BalanceAsOf(
+                            rs.getBigDecimal("balance"),
+                            checkpointAsOf != null ? checkpointAsOf.toInstant() : null,
+                            rs.getLong("entries"));
+                },
+                from, accountId, at, accountId, accountId, at, accountId);
+    }
+}
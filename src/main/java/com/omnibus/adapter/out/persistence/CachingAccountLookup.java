@@ -0,0 +1,108 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.dto.AccountLookupResponse;
+import com.Omnibus.application.port.out.AccountLookupPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of recipient lookups in front of {@link AccountLookupAdapter}.
+ * <p>
+ * A user's primary account never changes once created, so found entries live until evicted by
+ * size or {@code expire-after-write}. Unknown usernames are cached too, for the shorter
+ * {@code negative-expire-after-write}, so a wizard typing a name that does not exist yet stops
+ * costing a query per keystroke. Registration invalidates the username after commit; a "not found"
+ * loaded while any registration committed is not cached. Prefix searches are not cached.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.accounts.lookup-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingAccountLookup implements AccountLookupPort {
+
+    private final AccountLookupAdapter delegate;
+    private final Cache<String, AccountLookupResponse> found;
+    private final Cache<String, Boolean> notFound;
+    /** Registrations committed so far; guards negative entries against a racing registration. */
+    private final AtomicLong registrations = new AtomicLong();
+
+    public CachingAccountLookup(AccountLookupAdapter delegate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.accounts.lookup-cache.max-size:100000}") long maxSize,
+                                @Value("${app.accounts.lookup-cache.expire-after-write-seconds:3600}") long expireSeconds,
+                                @Value("${app.accounts.lookup-cache.negative-expire-after-write-seconds:30}") long negativeExpireSeconds) {
+        this.delegate = delegate;
+        this.found = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        this.notFound = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeExpireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, found, "account-lookup");
+        CaffeineCacheMetrics.monitor(meterRegistry, notFound, "account-lookup-negative");
+    }
+
+    @Override
+    public Optional<AccountLookupResponse> findByUsername(String username) {
+        AccountLookupResponse cached = found.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (notFound.getIfPresent(username) != null) {
+            return Optional.empty();
+        }
+
+        long stamp = registrations.get();
+        Optional<AccountLookupResponse> loaded = delegate.findByUsername(username);
+        if (loaded.isPresent()) {
+            found.put(username, loaded.get());
+        } else {
+            notFound.asMap().compute(username, (key, current) -> registrations.get() == stamp ? Boolean.TRUE : current);
+        }
+        return loaded;
+    }
+
+    @Override
+    public List<AccountLookupResponse> findByUsernamePrefix(String prefix, int limit) {
+        return delegate.findByUsernamePrefix(prefix, limit);
+    }
+
+    @Override
+    public void invalidate(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        } else {
+            evict(username);
+        }
+    }
+
+    private void evict(String username) {
+        // Bump and remove under the key's map lock, so a racing negative put sees one or the other
+        notFound.asMap().compute(username, (key, current) -> {
+            registrations.incrementAndGet();
+            return null;
+        });
+        found.invalidate(username);
+    }
+}
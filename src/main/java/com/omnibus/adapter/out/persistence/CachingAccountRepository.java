@@ -0,0 +1,306 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.domain.model.Account;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process cache of {@link Account} snapshots in front of {@link AccountPersistenceAdapter},
+ * keyed by account id, plus each user's account ids.
+ * <p>
+ * Only reads outside a read-write transaction (the {@code readOnly} account, profile and statement
+ * queries) are served from the cache; transfer engines always see the database. Every write made
+ * through this port drops the touched accounts once its transaction commits. A snapshot loaded on a
+ * miss is only stored if no such invalidation hit its key while it was being read, and never
+ * replaces a snapshot with a higher {@code version}, so a committed transfer is never followed by an
+ * older balance.
+ * <p>
+ * With the read replica enabled, a miss inside a read-only transaction may be answered by a lagging
+ * replica, so such loads are returned but never cached. Invalidation is per instance: another
+ * instance's writes are only picked up when the snapshot expires, so the cache is opt-in and meant for
+ * single-instance deployments or callers that accept {@code expire-after-write} of staleness.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.accounts.cache.enabled", havingValue = "true")
+public class CachingAccountRepository implements AccountRepositoryPort {
+
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final AccountPersistenceAdapter delegate;
+    private final Cache<UUID, Account> accounts;
+    private final Cache<UUID, List<UUID>> accountIdsByUser;
+    /** Invalidations per key stripe; a load is only cached if its stripe did not move meanwhile. */
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+    /** All invalidations; guards snapshots whose ids were unknown before they were read. */
+    private final AtomicLong totalInvalidations = new AtomicLong();
+    private final boolean replicaEnabled;
+
+    public CachingAccountRepository(AccountPersistenceAdapter delegate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.accounts.cache.max-size:100000}") long maxSize,
+                                    @Value("${app.accounts.cache.expire-after-write-seconds:300}") long expireSeconds,
+                                    @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        this.delegate = delegate;
+        this.replicaEnabled = replicaEnabled;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        this.accountIdsByUser = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, "accounts");
+        CaffeineCacheMetrics.monitor(meterRegistry, accountIdsByUser, "account-owners");
+    }
+
+    // ---- Reads ----
+
+    @Override
+    public Optional<Account> findById(UUID id) {
+        if (!cacheable()) {
+            return delegate.findById(id);
+        }
+        Account cached = accounts.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        long stamp = stamp(id);
+        Optional<Account> loaded = delegate.findById(id);
+        if (fillable()) {
+            loaded.ifPresent(account -> store(account, stamp));
+        }
+        return loaded;
+    }
+
+    @Override
+    public List<Account> findByUserId(UUID userId) {
+        if (!cacheable()) {
+            return delegate.findByUserId(userId);
+        }
+        List<UUID> ids = accountIdsByUser.getIfPresent(userId);
+        if (ids == null) {
+            long stamp = stamp(userId);
+            long total = totalInvalidations.get();
+            List<Account> loaded = delegate.findByUserId(userId);
+            if (fillable()) {
+                List<UUID> loadedIds = loaded.stream().map(Account::getId).toList();
+                accountIdsByUser.asMap().compute(userId, (key, current) -> stamp(userId) == stamp ? loadedIds : current);
+                loaded.forEach(account -> storeIfQuiet(account, total));
+            }
+            return loaded;
+        }
+
+        Map<UUID, Account> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            Account cached = accounts.getIfPresent(id);
+            if (cached != null) {
+                found.put(id, copy(cached));
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<UUID, Long> stamps = new HashMap<>();
+            missing.forEach(id -> stamps.put(id, stamp(id)));
+            boolean fill = fillable();
+            for (Account account : delegate.findAllById(missing)) {
+                if (fill) {
+                    store(account, stamps.get(account.getId()));
+                }
+                found.put(account.getId(), account);
+            }
+        }
+        return ids.stream().map(found::get).filter(java.util.Objects::nonNull).toList();
+    }
+
+    @Override
+    public List<Account> findAllById(List<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Account> findAllByIdForUpdate(List<UUID> ids) {
+        return delegate.findAllByIdForUpdate(ids);
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return delegate.existsByAccountNumber(accountNumber);
+    }
+
+    // ---- Writes: invalidate after commit ----
+
+    @Override
+    public Account save(Account account) {
+        Account saved = delegate.save(account);
+        invalidateAfterCommit(List.of(account.getId()), account.getUserId());
+        return saved;
+    }
+
+    @Override
+    public void updateBalances(List<Account> updated) {
+        delegate.updateBalances(updated);
+        invalidateAfterCommit(updated.stream().map(Account::getId).toList(), null);
+    }
+
+    @Override
+    public boolean updateBalancesIfUnchanged(List<Account> updated) {
+        boolean written = delegate.updateBalancesIfUnchanged(updated);
+        if (written) {
+            invalidateAfterCommit(updated.stream().map(Account::getId).toList(), null);
+        }
+        return written;
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> applyBalanceDeltas(Map<UUID, BigDecimal> deltas) {
+        Map<UUID, BigDecimal> balances = delegate.applyBalanceDeltas(deltas);
+        invalidateAfterCommit(balances.keySet(), null);
+        return balances;
+    }
+
+    @Override
+    public BigDecimal creditBalanceBucket(UUID accountId, int bucket, BigDecimal amount) {
+        BigDecimal total = delegate.creditBalanceBucket(accountId, bucket, amount);
+        invalidateAfterCommit(List.of(accountId), null);
+        return total;
+    }
+
+    @Override
+    public BigDecimal drainBalanceBuckets(UUID accountId) {
+        BigDecimal drained = delegate.drainBalanceBuckets(accountId);
+        invalidateAfterCommit(List.of(accountId), null);
+        return drained;
+    }
+
+    @Override
+    public void consolidateBalanceBuckets(UUID accountId) {
+        delegate.consolidateBalanceBuckets(accountId);
+        invalidateAfterCommit(List.of(accountId), null);
+    }
+
+    @Override
+    public void invalidate(List<UUID> accountIds) {
+        invalidateAfterCommit(accountIds, null);
+    }
+
+    // ---- Internals ----
+
+    /**
+     * Reads inside a read-write transaction may be followed by writes based on them, so they
+     * always go to the database.
+     */
+    private static boolean cacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * With the replica enabled, a read-only transaction may be reading a lagging replica; what it
+     * loads is not fresh enough to hand to later callers.
+     */
+    private boolean fillable() {
+        return !(replicaEnabled
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+
+    private void invalidateAfterCommit(Collection<UUID> accountIds, UUID ownerId) {
+        List<UUID> ids = List.copyOf(accountIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(ids, ownerId);
+                }
+            });
+        } else {
+            invalidateNow(ids, ownerId);
+        }
+    }
+
+    private void invalidateNow(List<UUID> accountIds, UUID ownerId) {
+        // Bump and remove under the key's map lock, so a concurrent store() sees one or the other
+        for (UUID id : accountIds) {
+            accounts.asMap().compute(id, (key, current) -> {
+                invalidations.incrementAndGet(stripe(key));
+                totalInvalidations.incrementAndGet();
+                return null;
+            });
+        }
+        if (ownerId != null) {
+            accountIdsByUser.asMap().compute(ownerId, (key, current) -> {
+                invalidations.incrementAndGet(stripe(key));
+                return null;
+            });
+        }
+    }
+
+    private void store(Account loaded, long stamp) {
+        Account snapshot = copy(loaded);
+        accounts.asMap().compute(snapshot.getId(), (key, current) -> {
+            if (stamp(key) != stamp) {
+                return current;
+            }
+            return current != null && current.getVersion() > snapshot.getVersion() ? current : snapshot;
+        });
+    }
+
+    /**
+     * Store a snapshot read without a per-key stamp (its id was only learned from the read): kept
+     * only if no invalidation of any account happened since {@code total} was taken.
+     */
+    private void storeIfQuiet(Account loaded, long total) {
+        Account snapshot = copy(loaded);
+        accounts.asMap().compute(snapshot.getId(), (key, current) -> {
+            if (totalInvalidations.get() != total) {
+                return current;
+            }
+            return current != null && current.getVersion() > snapshot.getVersion() ? current : snapshot;
+        });
+    }
+
+    private long stamp(UUID key) {
+        return invalidations.get(stripe(key));
+    }
+
+    private static int stripe(UUID key) {
+        return key.hashCode() & (INVALIDATION_STRIPES - 1);
+    }
+
+    private static Account copy(Account account) {
+        Account copy = new Account(account.getId(), account.getUserId(), account.getAccountNumber(),
+                account.getBalance(), account.getStatus());
+        copy.setBucketBalance(account.getBucketBalance());
+        copy.setCreatedAt(account.getCreatedAt());
+        copy.setUpdatedAt(account.getUpdatedAt());
+        copy.setVersion(account.getVersion());
+        return copy;
+    }
+}
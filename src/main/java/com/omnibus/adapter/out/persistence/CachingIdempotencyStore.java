@@ -0,0 +1,127 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.adapter.out.persistence.IdempotencyPersistenceAdapter.StoredResponse;
+import com.Omnibus.application.dto.BatchTransferResult;
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.out.IdempotencyStorePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-process cache of completed idempotency keys in front of {@link IdempotencyPersistenceAdapter}.
+ * <p>
+ * Only keys whose response has been stored <em>and committed</em> are cached, so a hit is always
+ * a finished request: {@link #tryInsert} rejects it and {@link #findByKey} answers it without a
+ * database round trip. A row read inside a transaction is cached only once that transaction
+ * commits, since it may still be the caller's own uncommitted write. Misses, in-flight keys and
+ * new keys fall through to Postgres, which stays the source of truth across instances. Entries
+ * are bounded (W-TinyLFU eviction) and expire at the row's {@code expires_at}, so the cache never
+ * outlives the key the cleanup job is about to purge.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.idempotency.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingIdempotencyStore implements IdempotencyStorePort {
+
+    private final IdempotencyPersistenceAdapter delegate;
+    private final Cache<String, StoredResponse> completed;
+
+    public CachingIdempotencyStore(IdempotencyPersistenceAdapter delegate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.idempotency.cache.max-size:100000}") long maxSize) {
+        this.delegate = delegate;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilRowExpires())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency");
+    }
+
+    @Override
+    public boolean tryInsert(String key, UUID userId) {
+        if (completed.getIfPresent(key) != null) {
+            return false;
+        }
+        return delegate.tryInsert(key, userId);
+    }
+
+    @Override
+    public Optional<CachedResponse> findByKey(String key) {
+        StoredResponse cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached.response());
+        }
+        Optional<StoredResponse> stored = delegate.findStored(key);
+        stored.ifPresent(response -> cacheOnCommit(key, response));
+        return stored.map(StoredResponse::response);
+    }
+
+    @Override
+    public void updateResponse(String key, UUID userId, int httpStatus, TransferResult responseBody) {
+        CachedResponse response = new CachedResponse(userId, httpStatus, responseBody);
+        delegate.storeResponse(key, userId, httpStatus, responseBody)
+                .ifPresent(expiresAt -> cacheOnCommit(key, new StoredResponse(response, expiresAt)));
+    }
+
+    @Override
+    public void updateBatchResponse(String key, UUID userId, int httpStatus, BatchTransferResult responseBody) {
+        CachedResponse response = new CachedResponse(userId, httpStatus, null, responseBody);
+        delegate.storeBatchResponse(key, userId, httpStatus, responseBody)
+                .ifPresent(expiresAt -> cacheOnCommit(key, new StoredResponse(response, expiresAt)));
+    }
+
+    @Override
+    public int deleteExpired(int limit) {
+        return delegate.deleteExpired(limit);
+    }
+
+    private void cacheOnCommit(String key, StoredResponse response) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rolled-back transfer must not leave a cached "completed" key behind
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    completed.put(key, response);
+                }
+            });
+        } else {
+            completed.put(key, response);
+        }
+    }
+
+    /**
+     * Expires each entry at its row's {@code expires_at}; reads and re-puts keep that deadline.
+     */
+    private static final class UntilRowExpires implements Expiry<String, StoredResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredResponse value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
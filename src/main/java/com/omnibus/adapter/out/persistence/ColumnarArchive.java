@@ -0,0 +1,395 @@
+package com.Omnibus.adapter.out.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed, column-oriented file format for archived ledger and audit rows.
+ * <pre>
+ * file     := "OMNIARC1" columnCount columnType* rowGroup* 0
+ * rowGroup := rowCount (blockLength block)*      one block per column, rowCount &gt; 0
+ * </pre>
+ * The whole file is gzip-compressed; integers are unsigned varints, signed ones zigzag-encoded.
+ * Rows are buffered {@code rowGroupSize} at a time and each group is written column by column:
+ * <ul>
+ *   <li>UUID and STRING blocks are dictionary-encoded — the group's distinct values, then one
+ *       index per row (0 for null) — so an account id repeated across rows is stored once;</li>
+ *   <li>TIMESTAMP (epoch micros) and LONG blocks are deltas from the previous row;</li>
+ *   <li>DECIMAL blocks are a null bitmap followed by the unscaled values at scale 4.</li>
+ * </ul>
+ * A reader can look a value up in one UUID block's dictionary and skip the rest of the group
+ * without decoding it.
+ */
+final class ColumnarArchive {
+
+    static final int SCALE = 4;
+
+    private static final byte[] MAGIC = "OMNIARC1".getBytes(StandardCharsets.US_ASCII);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    enum ColumnType { UUID, STRING, TIMESTAMP, LONG, DECIMAL }
+
+    private ColumnarArchive() {
+    }
+
+    /**
+     * Writes rows to a target stream. {@link #finish()} completes the file without closing the
+     * target, so the caller can force it to disk first.
+     */
+    static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final GZIPOutputStream gzip;
+        private final List<ColumnType> schema;
+        private final int rowGroupSize;
+        private final List<Object[]> group;
+        private long rowCount;
+        private boolean finished;
+
+        Writer(OutputStream target, List<ColumnType> schema, int rowGroupSize) throws IOException {
+            if (rowGroupSize < 1) {
+                throw new IllegalArgumentException("rowGroupSize must be at least 1");
+            }
+            this.gzip = new GZIPOutputStream(target, BUFFER_SIZE);
+            this.out = new DataOutputStream(new BufferedOutputStream(gzip, BUFFER_SIZE));
+            this.schema = List.copyOf(schema);
+            this.rowGroupSize = rowGroupSize;
+            this.group = new ArrayList<>(Math.min(rowGroupSize, 4096));
+            out.write(MAGIC);
+            writeVarint(out, schema.size());
+            for (ColumnType type : schema) {
+                out.writeByte(type.ordinal());
+            }
+        }
+
+        void append(Object... row) throws IOException {
+            if (row.length != schema.size()) {
+                throw new IllegalArgumentException("Expected " + schema.size() + " columns, got " + row.length);
+            }
+            group.add(row.clone());
+            rowCount++;
+            if (group.size() == rowGroupSize) {
+                flushGroup();
+            }
+        }
+
+        long rowCount() {
+            return rowCount;
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            flushGroup();
+            writeVarint(out, 0);
+            out.flush();
+            gzip.finish();
+            finished = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                finish();
+            } finally {
+                out.close();
+            }
+        }
+
+        private void flushGroup() throws IOException {
+            if (group.isEmpty()) {
+                return;
+            }
+            writeVarint(out, group.size());
+            ByteArrayOutputStream block = new ByteArrayOutputStream();
+            for (int column = 0; column < schema.size(); column++) {
+                block.reset();
+                encode(new DataOutputStream(block), schema.get(column), column);
+                writeVarint(out, block.size());
+                block.writeTo(out);
+            }
+            group.clear();
+        }
+
+        private void encode(DataOutputStream block, ColumnType type, int column) throws IOException {
+            switch (type) {
+                case UUID, STRING -> {
+                    Map<Object, Integer> dictionary = new HashMap<>();
+                    List<Object> values = new ArrayList<>();
+                    int[] indexes = new int[group.size()];
+                    for (int row = 0; row < group.size(); row++) {
+                        Object value = group.get(row)[column];
+                        if (value != null) {
+                            indexes[row] = dictionary.computeIfAbsent(value, v -> {
+                                values.add(v);
+                                return values.size();
+                            });
+                        }
+                    }
+                    writeVarint(block, values.size());
+                    for (Object value : values) {
+                        if (type == ColumnType.UUID) {
+                            UUID uuid = (UUID) value;
+                            block.writeLong(uuid.getMostSignificantBits());
+                            block.writeLong(uuid.getLeastSignificantBits());
+                        } else {
+                            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                            writeVarint(block, bytes.length);
+                            block.write(bytes);
+                        }
+                    }
+                    for (int index : indexes) {
+                        writeVarint(block, index);
+                    }
+                }
+                case TIMESTAMP, LONG -> {
+                    long previous = 0;
+                    for (Object[] row : group) {
+                        Object value = row[column];
+                        if (value == null) {
+                            throw new IllegalArgumentException(type + " column " + column + " must not be null");
+                        }
+                        long current = type == ColumnType.TIMESTAMP
+                                ? ChronoUnit.MICROS.between(Instant.EPOCH, (Instant) value)
+                                : (Long) value;
+                        writeVarint(block, zigzag(current - previous));
+                        previous = current;
+                    }
+                }
+                case DECIMAL -> {
+                    byte[] present = new byte[(group.size() + 7) / 8];
+                    for (int row = 0; row < group.size(); row++) {
+                        if (group.get(row)[column] != null) {
+                            present[row >>> 3] |= (byte) (1 << (row & 7));
+                        }
+                    }
+                    block.write(present);
+                    for (Object[] row : group) {
+                        if (row[column] != null) {
+                            writeVarint(block, zigzag(((BigDecimal) row[column]).setScale(SCALE)
+                                    .unscaledValue().longValueExact()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a file written by {@link Writer}, one row group at a time.
+     */
+    static final class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private final List<ColumnType> schema;
+
+        Reader(InputStream source, List<ColumnType> expectedSchema) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(source, BUFFER_SIZE), BUFFER_SIZE));
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Not a columnar archive file");
+            }
+            ColumnType[] types = ColumnType.values();
+            List<ColumnType> schema = new ArrayList<>();
+            for (long i = readVarint(in); i > 0; i--) {
+                int ordinal = in.readUnsignedByte();
+                if (ordinal >= types.length) {
+                    throw new IOException("Unknown column type " + ordinal);
+                }
+                schema.add(types[ordinal]);
+            }
+            if (!schema.equals(expectedSchema)) {
+                throw new IOException("Archive columns " + schema + " do not match " + expectedSchema);
+            }
+            this.schema = schema;
+        }
+
+        /**
+         * @return the next row group, or null after the last one
+         */
+        RowGroup next() throws IOException {
+            int rows = Math.toIntExact(readVarint(in));
+            if (rows == 0) {
+                return null;
+            }
+            byte[][] blocks = new byte[schema.size()][];
+            for (int column = 0; column < blocks.length; column++) {
+                blocks[column] = new byte[Math.toIntExact(readVarint(in))];
+                in.readFully(blocks[column]);
+            }
+            return new RowGroup(schema, rows, blocks);
+        }
+
+        /**
+         * Read past the end marker to the end of the file, which makes the gzip layer check the
+         * trailer's CRC-32 and length. Call after {@link #next()} returned null.
+         */
+        void verifyEnd() throws IOException {
+            if (in.read() != -1) {
+                throw new IOException("Data after the last row group");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * One row group; columns are decoded on request.
+     */
+    static final class RowGroup {
+
+        private final List<ColumnType> schema;
+        private final int rowCount;
+        private final byte[][] blocks;
+
+        private RowGroup(List<ColumnType> schema, int rowCount, byte[][] blocks) {
+            this.schema = schema;
+            this.rowCount = rowCount;
+            this.blocks = blocks;
+        }
+
+        int rowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Whether any row has {@code value} in UUID column {@code column}; reads only the dictionary.
+         */
+        boolean contains(int column, UUID value) throws IOException {
+            DataInputStream block = open(column, ColumnType.UUID);
+            for (long i = readVarint(block); i > 0; i--) {
+                if (block.readLong() == value.getMostSignificantBits()
+                        && block.readLong() == value.getLeastSignificantBits()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        UUID[] uuids(int column) throws IOException {
+            DataInputStream block = open(column, ColumnType.UUID);
+            UUID[] dictionary = new UUID[Math.toIntExact(readVarint(block)) + 1];
+            for (int i = 1; i < dictionary.length; i++) {
+                dictionary[i] = new UUID(block.readLong(), block.readLong());
+            }
+            UUID[] values = new UUID[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                values[row] = dictionary[Math.toIntExact(readVarint(block))];
+            }
+            return values;
+        }
+
+        String[] strings(int column) throws IOException {
+            DataInputStream block = open(column, ColumnType.STRING);
+            String[] dictionary = new String[Math.toIntExact(readVarint(block)) + 1];
+            for (int i = 1; i < dictionary.length; i++) {
+                byte[] bytes = new byte[Math.toIntExact(readVarint(block))];
+                block.readFully(bytes);
+                dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            String[] values = new String[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                values[row] = dictionary[Math.toIntExact(readVarint(block))];
+            }
+            return values;
+        }
+
+        Instant[] timestamps(int column) throws IOException {
+            long[] micros = deltas(open(column, ColumnType.TIMESTAMP));
+            Instant[] values = new Instant[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                values[row] = Instant.EPOCH.plus(micros[row], ChronoUnit.MICROS);
+            }
+            return values;
+        }
+
+        long[] longs(int column) throws IOException {
+            return deltas(open(column, ColumnType.LONG));
+        }
+
+        BigDecimal[] decimals(int column) throws IOException {
+            DataInputStream block = open(column, ColumnType.DECIMAL);
+            byte[] present = new byte[(rowCount + 7) / 8];
+            block.readFully(present);
+            BigDecimal[] values = new BigDecimal[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                if ((present[row >>> 3] & (1 << (row & 7))) != 0) {
+                    values[row] = BigDecimal.valueOf(unzigzag(readVarint(block)), SCALE);
+                }
+            }
+            return values;
+        }
+
+        private long[] deltas(DataInputStream block) throws IOException {
+            long[] values = new long[rowCount];
+            long previous = 0;
+            for (int row = 0; row < rowCount; row++) {
+                previous += unzigzag(readVarint(block));
+                values[row] = previous;
+            }
+            return values;
+        }
+
+        private DataInputStream open(int column, ColumnType expected) {
+            if (schema.get(column) != expected) {
+                throw new IllegalArgumentException("Column " + column + " is " + schema.get(column) + ", not " + expected);
+            }
+            return new DataInputStream(new ByteArrayInputStream(blocks[column]));
+        }
+    }
+
+    static void writeVarint(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarint(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
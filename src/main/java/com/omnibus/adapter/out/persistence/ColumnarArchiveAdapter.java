@@ -0,0 +1,408 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.adapter.out.persistence.ColumnarArchive.ColumnType;
+import com.Omnibus.adapter.out.persistence.ColumnarArchive.RowGroup;
+import com.Omnibus.application.port.out.ArchivePort;
+import com.Omnibus.application.port.out.AuditTrailPort.AuditRecord;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import com.Omnibus.domain.model.EntryType;
+import com.Omnibus.domain.model.LedgerEntry;
+import com.Omnibus.domain.model.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cold storage in local {@link ColumnarArchive} files, one per table and UTC month:
+ * {@code <directory>/<table>/<yyyy-MM>.omc}. A file is written under a temporary name unique to
+ * the run, forced to disk and renamed, so a month is either fully archived or not at all.
+ * <p>
+ * The archive covers the unbroken run of months starting at the oldest file; a file after a gap
+ * is ignored until the gap is filled.
+ * <p>
+ * Reads scan the files of the months overlapping the requested range and skip every row group
+ * whose dictionary does not contain the account or entity asked for.
+ */
+@Component
+public class ColumnarArchiveAdapter implements ArchivePort {
+
+    private static final String SUFFIX = ".omc";
+
+    private static final List<ColumnType> LEDGER_SCHEMA = List.of(
+            ColumnType.UUID,        // id
+            ColumnType.UUID,        // transaction_id
+            ColumnType.UUID,        // account_id
+            ColumnType.STRING,      // entry_type
+            ColumnType.DECIMAL,     // amount
+            ColumnType.DECIMAL,     // balance_after
+            ColumnType.TIMESTAMP);  // created_at
+
+    private static final List<ColumnType> AUDIT_SCHEMA = List.of(
+            ColumnType.LONG,        // id
+            ColumnType.STRING,      // entity_type
+            ColumnType.UUID,        // entity_id
+            ColumnType.STRING,      // action
+            ColumnType.UUID,        // actor_id
+            ColumnType.STRING,      // before_snapshot
+            ColumnType.STRING,      // after_snapshot
+            ColumnType.DECIMAL,     // balance_before
+            ColumnType.DECIMAL,     // balance_after
+            ColumnType.STRING,      // ip_address
+            ColumnType.TIMESTAMP);  // created_at
+
+    private static final String EXPORT_LEDGER_SQL = """
+            SELECT id, transaction_id, account_id, entry_type, amount, balance_after, created_at
+            FROM ledger_entries
+            WHERE created_at >= ? AND created_at < ?
+            ORDER BY created_at, id
+            """;
+
+    private static final String EXPORT_AUDIT_SQL = """
+            SELECT id, entity_type, entity_id, action, actor_id,
+                   before_snapshot::text AS before_snapshot, after_snapshot::text AS after_snapshot,
+                   balance_before, balance_after, ip_address, created_at
+            FROM audit_logs
+            WHERE created_at >= ? AND created_at < ?
+            ORDER BY created_at, id
+            """;
+
+    /** Session-level advisory lock key held by the instance running archival ("OMNIARC1"). */
+    private static final long ARCHIVAL_LOCK_KEY = 0x4F4D4E4941524331L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final int rowGroupSize;
+    private final int fetchSize;
+
+    public ColumnarArchiveAdapter(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.archive.directory:archive}") String directory,
+                                  @Value("${app.archive.row-group-size:65536}") int rowGroupSize,
+                                  @Value("${app.archive.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Path.of(directory);
+        this.rowGroupSize = rowGroupSize;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Optional<YearMonth> archivedBefore(PartitionedTable table) {
+        List<YearMonth> months = archivedMonths(table);
+        return months.isEmpty() ? Optional.empty() : Optional.of(months.get(months.size() - 1).plusMonths(1));
+    }
+
+    @Override
+    public <T> Optional<T> runExclusively(Supplier<T> work) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)")) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(work.get());
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)");
+            }
+        });
+    }
+
+    @Override
+    public long exportMonth(PartitionedTable table, YearMonth month) {
+        Path file = file(table, month);
+        Path temporary = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            long rows;
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 ColumnarArchive.Writer writer = new ColumnarArchive.Writer(
+                         Channels.newOutputStream(channel), schema(table), rowGroupSize)) {
+                Object[] range = {timestamp(start(month)), timestamp(start(month.plusMonths(1)))};
+                if (table == PartitionedTable.LEDGER_ENTRIES) {
+                    stream(EXPORT_LEDGER_SQL, rs -> append(writer,
+                            rs.getObject("id", UUID.class),
+                            rs.getObject("transaction_id", UUID.class),
+                            rs.getObject("account_id", UUID.class),
+                            rs.getString("entry_type"),
+                            rs.getBigDecimal("amount"),
+                            rs.getBigDecimal("balance_after"),
+                            rs.getObject("created_at", OffsetDateTime.class).toInstant()), range);
+                } else {
+                    stream(EXPORT_AUDIT_SQL, rs -> append(writer,
+                            rs.getLong("id"),
+                            rs.getString("entity_type"),
+                            rs.getObject("entity_id", UUID.class),
+                            rs.getString("action"),
+                            rs.getObject("actor_id", UUID.class),
+                            rs.getString("before_snapshot"),
+                            rs.getString("after_snapshot"),
+                            rs.getBigDecimal("balance_before"),
+                            rs.getBigDecimal("balance_after"),
+                            rs.getString("ip_address"),
+                            rs.getObject("created_at", OffsetDateTime.class).toInstant()), range);
+                }
+                writer.finish();
+                channel.force(true);
+                rows = writer.rowCount();
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive " + table.tableName() + " " + month, e);
+        } finally {
+            deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public OptionalLong verifiedRowCount(PartitionedTable table, YearMonth month) {
+        Path file = file(table, month);
+        if (!Files.exists(file)) {
+            return OptionalLong.empty();
+        }
+        long rows = 0;
+        try (InputStream in = Files.newInputStream(file);
+             ColumnarArchive.Reader reader = new ColumnarArchive.Reader(in, schema(table))) {
+            for (RowGroup group = reader.next(); group != null; group = reader.next()) {
+                rows += group.rowCount();
+            }
+            reader.verifyEnd();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archive file " + file + " is damaged", e);
+        }
+        return OptionalLong.of(rows);
+    }
+
+    @Override
+    public long countMonth(PartitionedTable table, YearMonth month) {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM %s WHERE created_at >= ? AND created_at < ?".formatted(tableName(table)),
+                Long.class, timestamp(start(month)), timestamp(start(month.plusMonths(1))));
+        return rows != null ? rows : 0;
+    }
+
+    @Override
+    public long deleteMonth(PartitionedTable table, YearMonth month) {
+        return jdbcTemplate.update(
+                "DELETE FROM %s WHERE created_at >= ? AND created_at < ?".formatted(tableName(table)),
+                timestamp(start(month)), timestamp(start(month.plusMonths(1))));
+    }
+
+    @Override
+    public void streamLedgerEntries(UUID accountId, Instant from, Instant to, Consumer<LedgerEntry> consumer) {
+        scan(PartitionedTable.LEDGER_ENTRIES, 2, accountId, from, to, group -> {
+            UUID[] ids = group.uuids(0);
+            UUID[] transactionIds = group.uuids(1);
+            UUID[] accountIds = group.uuids(2);
+            String[] entryTypes = group.strings(3);
+            BigDecimal[] amounts = group.decimals(4);
+            BigDecimal[] balancesAfter = group.decimals(5);
+            Instant[] createdAt = group.timestamps(6);
+            for (int row = 0; row < group.rowCount(); row++) {
+                if (accountId.equals(accountIds[row]) && inRange(createdAt[row], from, to)) {
+                    LedgerEntry entry = new LedgerEntry();
+                    entry.setId(ids[row]);
+                    entry.setTransactionId(transactionIds[row]);
+                    entry.setAccountId(accountIds[row]);
+                    entry.setEntryType(EntryType.valueOf(entryTypes[row]));
+                    entry.setAmount(Money.of(amounts[row], "USD"));
+                    entry.setBalanceAfter(Money.of(balancesAfter[row], "USD"));
+                    entry.setCreatedAt(createdAt[row]);
+                    consumer.accept(entry);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void streamAuditRecords(String entityType, UUID entityId, Instant from, Instant to,
+                                   Consumer<AuditRecord> consumer) {
+        scan(PartitionedTable.AUDIT_LOGS, 2, entityId, from, to, group -> {
+            long[] ids = group.longs(0);
+            String[] entityTypes = group.strings(1);
+            UUID[] entityIds = group.uuids(2);
+            String[] actions = group.strings(3);
+            UUID[] actorIds = group.uuids(4);
+            String[] beforeSnapshots = group.strings(5);
+            String[] afterSnapshots = group.strings(6);
+            BigDecimal[] balancesBefore = group.decimals(7);
+            BigDecimal[] balancesAfter = group.decimals(8);
+            String[] ipAddresses = group.strings(9);
+            Instant[] createdAt = group.timestamps(10);
+            for (int row = 0; row < group.rowCount(); row++) {
+                if (entityId.equals(entityIds[row]) && entityType.equals(entityTypes[row])
+                        && inRange(createdAt[row], from, to)) {
+                    consumer.accept(new AuditRecord(ids[row], entityTypes[row], entityIds[row], actions[row],
+                            actorIds[row], beforeSnapshots[row], afterSnapshots[row], balancesBefore[row],
+                            balancesAfter[row], ipAddresses[row], createdAt[row]));
+                }
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface GroupHandler {
+        void handle(RowGroup group) throws IOException;
+    }
+
+    /**
+     * Hand every row group of the files overlapping {@code [from, to)} that may hold
+     * {@code key} in UUID column {@code keyColumn} to the handler, oldest month first.
+     */
+    private void scan(PartitionedTable table, int keyColumn, UUID key, Instant from, Instant to,
+                      GroupHandler handler) {
+        for (YearMonth month : archivedMonths(table)) {
+            if (!start(month).isBefore(to) || !start(month.plusMonths(1)).isAfter(from)) {
+                continue;
+            }
+            try (InputStream in = Files.newInputStream(file(table, month));
+                 ColumnarArchive.Reader reader = new ColumnarArchive.Reader(in, schema(table))) {
+                for (RowGroup group = reader.next(); group != null; group = reader.next()) {
+                    if (group.contains(keyColumn, key)) {
+                        handler.handle(group);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read archived " + table.tableName() + " " + month, e);
+            }
+        }
+    }
+
+    /**
+     * The unbroken run of archived months starting at the oldest file.
+     */
+    private List<YearMonth> archivedMonths(PartitionedTable table) {
+        List<YearMonth> months = archiveFiles(table);
+        for (int i = 1; i < months.size(); i++) {
+            if (!months.get(i).equals(months.get(i - 1).plusMonths(1))) {
+                return months.subList(0, i);
+            }
+        }
+        return months;
+    }
+
+    private List<YearMonth> archiveFiles(PartitionedTable table) {
+        Path tableDirectory = directory.resolve(table.tableName());
+        if (!Files.isDirectory(tableDirectory)) {
+            return List.of();
+        }
+        List<YearMonth> months = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tableDirectory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    months.add(YearMonth.parse(name.substring(0, name.length() - SUFFIX.length())));
+                } catch (DateTimeParseException e) {
+                    // Not one of ours
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list archive directory " + tableDirectory, e);
+        }
+        months.sort(null);
+        return months;
+    }
+
+    private Path file(PartitionedTable table, YearMonth month) {
+        return directory.resolve(table.tableName()).resolve(month + SUFFIX);
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, ARCHIVAL_LOCK_KEY);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static String tableName(PartitionedTable table) {
+        if (table == PartitionedTable.TRANSACTIONS) {
+            throw new IllegalArgumentException("transactions are not archived");
+        }
+        return table.tableName();
+    }
+
+    /**
+     * Left-over temporary files are never read: only {@code *.omc} names are listed.
+     */
+    private static void deleteIfExists(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Harmless; see above
+        }
+    }
+
+    private static List<ColumnType> schema(PartitionedTable table) {
+        return switch (table) {
+            case LEDGER_ENTRIES -> LEDGER_SCHEMA;
+            case AUDIT_LOGS -> AUDIT_SCHEMA;
+            case TRANSACTIONS -> throw new IllegalArgumentException("transactions are not archived");
+        };
+    }
+
+    private static void append(ColumnarArchive.Writer writer, Object... row) {
+        try {
+            writer.append(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forward-only statement with a fetch size: inside a transaction the Postgres driver pulls
+     * rows through a server-side cursor, fetchSize rows at a time.
+     */
+    private void stream(String sql, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static boolean inRange(Instant instant, Instant from, Instant to) {
+        return !instant.isBefore(from) && instant.isBefore(to);
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -21,6 +21,9 @@ public class IdempotencyKeyJpaEntity {
     @Column(name = "http_status")
     private Integer httpStatus;
 
+    @Column(name = "response_type", nullable = false, length = 20)
+    private String responseType;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "response_body", columnDefinition = "JSONB")
     private String responseBody;
@@ -47,6 +50,9 @@ public class IdempotencyKeyJpaEntity {
     public Integer getHttpStatus() { return httpStatus; }
     public void setHttpStatus(Integer httpStatus) { this.httpStatus = httpStatus; }
 
+    public String getResponseType() { return responseType; }
+    public void setResponseType(String responseType) { this.responseType = responseType; }
+
     public String getResponseBody() { return responseBody; }
     public void setResponseBody(String responseBody) { this.responseBody = responseBody; }
 
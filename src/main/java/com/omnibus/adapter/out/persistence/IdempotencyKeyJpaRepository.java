@@ -11,9 +11,17 @@ import java.util.UUID;
 @Repository
 public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
 
+    /**
+     * Delete at most {@code limit} expired keys. The victims are picked through
+     * idx_idempotency_expires and deleted by physical row address (ctid), so the statement
+     * locks and writes WAL for one bounded chunk; rows locked by in-flight requests are skipped.
+     */
     @Modifying
-    @Query("DELETE FROM IdempotencyKeyJpaEntity i WHERE i.expiresAt < :now")
-    int deleteExpired(Instant now);
+    @Query(value = "DELETE FROM idempotency_keys WHERE ctid = ANY (ARRAY(" +
+            "SELECT ctid FROM idempotency_keys WHERE expires_at < :now " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED))",
+            nativeQuery = true)
+    int deleteExpired(Instant now, int limit);
 
     @Modifying
     @Query(value = "INSERT INTO idempotency_keys (key, user_id, expires_at, created_at) " +
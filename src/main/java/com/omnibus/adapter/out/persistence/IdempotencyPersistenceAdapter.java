@@ -1,52 +1,124 @@
 package com.Omnibus.adapter.out.persistence;
 
+import com.Omnibus.application.dto.BatchTransferResult;
+import com.Omnibus.application.dto.TransferResult;
 import com.Omnibus.application.port.out.IdempotencyStorePort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class IdempotencyPersistenceAdapter implements IdempotencyStorePort {
 
+    private static final String TRANSFER = "TRANSFER";
+    private static final String BATCH = "BATCH";
+
     private final IdempotencyKeyJpaRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
 
-    public IdempotencyPersistenceAdapter(IdempotencyKeyJpaRepository repository) {
+    public IdempotencyPersistenceAdapter(IdempotencyKeyJpaRepository repository, ObjectMapper objectMapper,
+                                         @Value("${app.idempotency.ttl-hours:24}") long ttlHours) {
         this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
     }
 
     @Override
     public boolean tryInsert(String key, UUID userId) {
-        int inserted = repository.insertIfAbsent(
-                key, userId, Instant.now().plus(24, ChronoUnit.HOURS));
+        int inserted = repository.insertIfAbsent(key, userId, Instant.now().plus(ttl));
         return inserted == 1;
     }
 
     @Override
     public Optional<CachedResponse> findByKey(String key) {
+        return findStored(key).map(StoredResponse::response);
+    }
+
+    @Override
+    public void updateResponse(String key, UUID userId, int httpStatus, TransferResult responseBody) {
+        storeResponse(key, userId, httpStatus, responseBody);
+    }
+
+    @Override
+    public void updateBatchResponse(String key, UUID userId, int httpStatus, BatchTransferResult responseBody) {
+        storeBatchResponse(key, userId, httpStatus, responseBody);
+    }
+
+    /**
+     * Same as {@link #findByKey} but also returns the row's {@code expires_at}.
+     */
+    Optional<StoredResponse> findStored(String key) {
         return repository.findById(key)
                 .filter(entity -> entity.getHttpStatus() != null)
-                .map(entity -> new CachedResponse(
-                        entity.getHttpStatus(),
-                        entity.getResponseBody()
-                ));
+                .map(entity -> new StoredResponse(
+                        BATCH.equals(entity.getResponseType())
+                                ? new CachedResponse(entity.getUserId(), entity.getHttpStatus(), null,
+                                        deserialize(entity.getResponseBody(), BatchTransferResult.class))
+                                : new CachedResponse(entity.getUserId(), entity.getHttpStatus(),
+                                        deserialize(entity.getResponseBody(), TransferResult.class)),
+                        entity.getExpiresAt()));
     }
 
-    @Override
-    public void updateResponse(String key, int httpStatus, String responseBody) {
-        repository.findById(key).ifPresent(entity -> {
-            entity.setHttpStatus(httpStatus);
-            entity.setResponseBody(responseBody);
-            repository.save(entity);
-        });
+    /**
+     * Same as {@link #updateResponse} but returns the row's {@code expires_at}, or empty when the
+     * key does not exist or belongs to another user.
+     */
+    Optional<Instant> storeResponse(String key, UUID userId, int httpStatus, TransferResult responseBody) {
+        return store(key, userId, httpStatus, TRANSFER, responseBody);
+    }
+
+    /**
+     * Batch form of {@link #storeResponse}.
+     */
+    Optional<Instant> storeBatchResponse(String key, UUID userId, int httpStatus, BatchTransferResult responseBody) {
+        return store(key, userId, httpStatus, BATCH, responseBody);
+    }
+
+    private Optional<Instant> store(String key, UUID userId, int httpStatus, String responseType, Object responseBody) {
+        return repository.findById(key)
+                .filter(entity -> entity.getUserId().equals(userId))
+                .map(entity -> {
+                    entity.setHttpStatus(httpStatus);
+                    entity.setResponseType(responseType);
+                    entity.setResponseBody(serialize(responseBody));
+                    repository.save(entity);
+                    return entity.getExpiresAt();
+                });
     }
 
     @Override
     @Transactional
-    public int deleteExpired() {
-        return repository.deleteExpired(Instant.now());
+    public int deleteExpired(int limit) {
+        return repository.deleteExpired(Instant.now(), limit);
+    }
+
+    record StoredResponse(CachedResponse response, Instant expiresAt) {
+    }
+
+    private String serialize(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response", e);
+        }
+    }
+
+    private <T> T deserialize(String responseBody, Class<T> type) {
+        if (responseBody == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(responseBody, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize idempotent response", e);
+        }
     }
 }
@@ -1,15 +1,38 @@
 package com.Omnibus.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryJpaEntity, UUID> {
 
-    List<LedgerEntryJpaEntity> findByTransactionId(UUID transactionId);
+    /**
+     * A transaction's entries. None is older than its transaction, so the created_at bound
+     * prunes every earlier monthly partition.
+     */
+    @Query("""
+            SELECT e FROM LedgerEntryJpaEntity e
+            WHERE e.transactionId = :transactionId AND e.createdAt >= :transactionCreatedAt
+            """)
+    List<LedgerEntryJpaEntity> findByTransactionId(@Param("transactionId") UUID transactionId,
+                                                   @Param("transactionCreatedAt") Instant transactionCreatedAt);
 
-    List<LedgerEntryJpaEntity> findByAccountIdOrderByCreatedAtDesc(UUID accountId);
+    /**
+     * An account's entries created in {@code [from, to)}, newest first; only the partitions
+     * overlapping the range are scanned.
+     */
+    @Query("""
+            SELECT e FROM LedgerEntryJpaEntity e
+            WHERE e.accountId = :accountId AND e.createdAt >= :from AND e.createdAt < :to
+            ORDER BY e.createdAt DESC
+            """)
+    List<LedgerEntryJpaEntity> findByAccountId(@Param("accountId") UUID accountId,
+                                               @Param("from") Instant from,
+                                               @Param("to") Instant to);
 }
@@ -1,21 +1,46 @@
 package com.Omnibus.adapter.out.persistence;
 
 import com.Omnibus.application.port.out.LedgerRepositoryPort;
+import com.Omnibus.domain.model.EntryType;
 import com.Omnibus.domain.model.LedgerEntry;
+import com.Omnibus.domain.model.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
 public class LedgerPersistenceAdapter implements LedgerRepositoryPort {
 
+    private static final String STREAM_BY_ACCOUNT_SQL = """
+            SELECT id, transaction_id, account_id, entry_type, amount, balance_after, created_at
+            FROM ledger_entries
+            WHERE account_id = ? AND created_at >= ? AND created_at < ?
+            ORDER BY created_at
+            """;
+
     private final LedgerEntryJpaRepository repository;
     private final TransactionMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final int streamFetchSize;
 
-    public LedgerPersistenceAdapter(LedgerEntryJpaRepository repository, TransactionMapper mapper) {
+    public LedgerPersistenceAdapter(LedgerEntryJpaRepository repository,
+                                    TransactionMapper mapper,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Value("${app.statements.fetch-size:500}") int streamFetchSize) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
@@ -26,16 +51,50 @@ public class LedgerPersistenceAdapter implements LedgerRepositoryPort {
     }
 
     @Override
-    public List<LedgerEntry> findByTransactionId(UUID transactionId) {
-        return repository.findByTransactionId(transactionId).stream()
+    public List<LedgerEntry> saveAll(List<LedgerEntry> entries) {
+        List<LedgerEntryJpaEntity> entities = entries.stream().map(mapper::ledgerToJpa).toList();
+        return repository.saveAll(entities).stream()
+                .map(mapper::ledgerToDomain)
+                .toList();
+    }
+
+    @Override
+    public List<LedgerEntry> findByTransactionId(UUID transactionId, Instant transactionCreatedAt) {
+        return repository.findByTransactionId(transactionId, transactionCreatedAt).stream()
                 .map(mapper::ledgerToDomain)
                 .toList();
     }
 
     @Override
-    public List<LedgerEntry> findByAccountId(UUID accountId) {
-        return repository.findByAccountIdOrderByCreatedAtDesc(accountId).stream()
+    public List<LedgerEntry> findByAccountId(UUID accountId, Instant from, Instant to) {
+        return repository.findByAccountId(accountId, from, to).stream()
                 .map(mapper::ledgerToDomain)
                 .toList();
     }
+
+    @Override
+    public void streamByAccountId(UUID accountId, Instant from, Instant to, Consumer<LedgerEntry> consumer) {
+        // Forward-only statement with a fetch size: inside a transaction the Postgres driver
+        // pulls rows through a server-side cursor, streamFetchSize rows at a time.
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_BY_ACCOUNT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            ps.setObject(1, accountId);
+            ps.setObject(2, OffsetDateTime.ofInstant(from, ZoneOffset.UTC));
+            ps.setObject(3, OffsetDateTime.ofInstant(to, ZoneOffset.UTC));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            LedgerEntry entry = new LedgerEntry();
+            entry.setId(rs.getObject("id", UUID.class));
+            entry.setTransactionId(rs.getObject("transaction_id", UUID.class));
+            entry.setAccountId(rs.getObject("account_id", UUID.class));
+            entry.setEntryType(EntryType.valueOf(rs.getString("entry_type")));
+            entry.setAmount(Money.of(rs.getBigDecimal("amount"), "USD"));
+            entry.setBalanceAfter(Money.of(rs.getBigDecimal("balance_after"), "USD"));
+            entry.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+            consumer.accept(entry);
+        });
+    }
+
 }
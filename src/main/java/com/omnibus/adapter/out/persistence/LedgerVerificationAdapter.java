@@ -0,0 +1,206 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.port.out.LedgerVerificationPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * JDBC side of the ledger invariant verifier (Flyway V9). Shard membership is
+ * {@code (hashtext(id::text) & 2147483647) % shard_count}.
+ */
+@Component
+public class LedgerVerificationAdapter implements LedgerVerificationPort {
+
+    private static final String SHARD_PREDICATE = "(hashtext(%s::text) & 2147483647) %% ? = ?";
+
+    private static final String LOAD_CHECKPOINT_SQL = """
+            SELECT verified_up_to, entries_verified, violations
+            FROM ledger_verification_checkpoints
+            WHERE shard_count = ? AND shard = ?
+            """;
+
+    private static final String LOAD_BALANCES_SQL = """
+            SELECT account_id, balance FROM ledger_verification_balances
+            WHERE shard_count = ? AND shard = ?
+            """;
+
+    private static final String LOAD_OPEN_TRANSACTIONS_SQL = """
+            SELECT transaction_id, net, first_seen FROM ledger_verification_open_transactions
+            WHERE shard_count = ? AND shard = ?
+            """;
+
+    private static final String STREAM_ENTRIES_SQL = """
+            SELECT transaction_id, account_id,
+                   CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END AS amount,
+                   balance_after, created_at,
+                   %1$s AS account_in_shard,
+                   %2$s AS transaction_in_shard
+            FROM ledger_entries
+            WHERE created_at > ? AND created_at <= ?
+              AND (%1$s OR %2$s)
+            ORDER BY created_at, id
+            """.formatted(SHARD_PREDICATE.formatted("account_id"), SHARD_PREDICATE.formatted("transaction_id"));
+
+    private static final String STREAM_TAIL_SQL = """
+            SELECT account_id, SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END) AS delta
+            FROM ledger_entries
+            WHERE created_at > ? AND %s
+            GROUP BY account_id
+            """.formatted(SHARD_PREDICATE.formatted("account_id"));
+
+    private static final String STREAM_ACCOUNT_TOTALS_SQL = """
+            SELECT a.id, a.balance + COALESCE(b.total, 0) AS total
+            FROM accounts a
+            LEFT JOIN (SELECT account_id, SUM(balance) AS total FROM account_balance_buckets GROUP BY account_id) b
+                   ON b.account_id = a.id
+            WHERE %s
+            """.formatted(SHARD_PREDICATE.formatted("a.id"));
+
+    private static final String UPSERT_CHECKPOINT_SQL = """
+            INSERT INTO ledger_verification_checkpoints
+                (shard_count, shard, verified_up_to, entries_verified, violations, updated_at)
+            VALUES (?, ?, ?, ?, ?, now())
+            ON CONFLICT (shard_count, shard) DO UPDATE
+            SET verified_up_to = EXCLUDED.verified_up_to,
+                entries_verified = EXCLUDED.entries_verified,
+                violations = EXCLUDED.violations,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String UPSERT_BALANCE_SQL = """
+            INSERT INTO ledger_verification_balances (shard_count, account_id, shard, balance)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (shard_count, account_id) DO UPDATE SET balance = EXCLUDED.balance
+            """;
+
+    private static final String DELETE_OPEN_TRANSACTIONS_SQL =
+            "DELETE FROM ledger_verification_open_transactions WHERE shard_count = ? AND shard = ?";
+
+    private static final String INSERT_OPEN_TRANSACTION_SQL = """
+            INSERT INTO ledger_verification_open_transactions (shard_count, transaction_id, shard, net, first_seen)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public LedgerVerificationAdapter(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.ledger.verifier.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Optional<ShardCheckpoint> loadCheckpoint(int shards, int shard) {
+        return jdbcTemplate.query(LOAD_CHECKPOINT_SQL, (rs, rowNum) -> new ShardCheckpoint(
+                        rs.getObject("verified_up_to", OffsetDateTime.class).toInstant(),
+                        rs.getLong("entries_verified"),
+                        rs.getLong("violations")),
+                shards, shard).stream().findFirst();
+    }
+
+    @Override
+    public void loadBalances(int shards, int shard, BiConsumer<UUID, BigDecimal> consumer) {
+        stream(LOAD_BALANCES_SQL, rs -> consumer.accept(
+                rs.getObject("account_id", UUID.class), rs.getBigDecimal("balance")), shards, shard);
+    }
+
+    @Override
+    public void loadOpenTransactions(int shards, int shard, Consumer<OpenTransaction> consumer) {
+        stream(LOAD_OPEN_TRANSACTIONS_SQL, rs -> consumer.accept(new OpenTransaction(
+                rs.getObject("transaction_id", UUID.class),
+                rs.getBigDecimal("net"),
+                rs.getObject("first_seen", OffsetDateTime.class).toInstant())), shards, shard);
+    }
+
+    @Override
+    public void streamEntries(int shards, int shard, Instant after, Instant upTo, Consumer<Entry> consumer) {
+        stream(STREAM_ENTRIES_SQL, rs -> consumer.accept(new Entry(
+                        rs.getObject("transaction_id", UUID.class),
+                        rs.getObject("account_id", UUID.class),
+                        rs.getBigDecimal("amount"),
+                        rs.getBigDecimal("balance_after"),
+                        rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                        rs.getBoolean("account_in_shard"),
+                        rs.getBoolean("transaction_in_shard"))),
+                shards, shard, shards, shard,
+                timestamp(after != null ? after : Instant.EPOCH), timestamp(upTo),
+                shards, shard, shards, shard);
+    }
+
+    @Override
+    public void streamTail(int shards, int shard, Instant after, BiConsumer<UUID, BigDecimal> consumer) {
+        stream(STREAM_TAIL_SQL, rs -> consumer.accept(
+                rs.getObject("account_id", UUID.class), rs.getBigDecimal("delta")),
+                timestamp(after), shards, shard);
+    }
+
+    @Override
+    public void streamAccountTotals(int shards, int shard, BiConsumer<UUID, BigDecimal> consumer) {
+        stream(STREAM_ACCOUNT_TOTALS_SQL, rs -> consumer.accept(
+                rs.getObject("id", UUID.class), rs.getBigDecimal("total")), shards, shard);
+    }
+
+    @Override
+    public void saveState(int shards, int shard, ShardCheckpoint checkpoint,
+                          Collection<AccountBalance> changedBalances,
+                          Collection<OpenTransaction> openTransactions) {
+        jdbcTemplate.update(UPSERT_CHECKPOINT_SQL, shards, shard, timestamp(checkpoint.verifiedUpTo()),
+                checkpoint.entriesVerified(), checkpoint.violations());
+
+        jdbcTemplate.batchUpdate(UPSERT_BALANCE_SQL, new ArrayList<>(changedBalances), BATCH_SIZE, (ps, balance) -> {
+            ps.setInt(1, shards);
+            ps.setObject(2, balance.accountId());
+            ps.setInt(3, shard);
+            ps.setBigDecimal(4, balance.balance());
+        });
+
+        jdbcTemplate.update(DELETE_OPEN_TRANSACTIONS_SQL, shards, shard);
+        List<OpenTransaction> open = new ArrayList<>(openTransactions);
+        jdbcTemplate.batchUpdate(INSERT_OPEN_TRANSACTION_SQL, open, BATCH_SIZE, (ps, transaction) -> {
+            ps.setInt(1, shards);
+            ps.setObject(2, transaction.transactionId());
+            ps.setInt(3, shard);
+            ps.setBigDecimal(4, transaction.net());
+            ps.setObject(5, timestamp(transaction.firstSeen()));
+        });
+    }
+
+    /**
+     * Forward-only statement with a fetch size: inside a transaction the Postgres driver pulls
+     * rows through a server-side cursor, fetchSize rows at a time.
+     */
+    private void stream(String sql, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
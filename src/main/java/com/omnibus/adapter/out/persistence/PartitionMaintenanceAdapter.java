@@ -0,0 +1,89 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.port.out.PartitionMaintenancePort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC side of partition maintenance. Partitions are named {@code <table>_YYYY_MM} and created
+ * by the {@code create_monthly_partition} function from Flyway V10.
+ */
+@Component
+public class PartitionMaintenanceAdapter implements PartitionMaintenancePort {
+
+    private static final String CREATE_SQL = "SELECT create_monthly_partition(?, ?)";
+
+    private static final String LIST_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartitionMaintenanceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean createMonthlyPartition(PartitionedTable table, YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(CREATE_SQL, Boolean.class,
+                table.tableName(), month.atDay(1)));
+    }
+
+    @Override
+    public List<MonthlyPartition> listMonthlyPartitions(PartitionedTable table) {
+        Pattern monthly = Pattern.compile(Pattern.quote(table.tableName()) + "_(\\d{4})_(\\d{2})");
+        List<MonthlyPartition> partitions = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(LIST_SQL, String.class, table.tableName())) {
+            Matcher matcher = monthly.matcher(name);
+            if (matcher.matches()) {
+                partitions.add(new MonthlyPartition(name,
+                        YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))));
+            }
+        }
+        partitions.sort(Comparator.comparing(MonthlyPartition::month));
+        return partitions;
+    }
+
+    @Override
+    public Optional<YearMonth> oldestDefaultMonth(PartitionedTable table) {
+        OffsetDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT min(created_at) FROM %s_default".formatted(table.tableName()), OffsetDateTime.class);
+        return Optional.ofNullable(oldest).map(at -> YearMonth.from(at.withOffsetSameInstant(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public void detachPartition(PartitionedTable table, MonthlyPartition partition) {
+        jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s"
+                .formatted(table.tableName(), identifier(table, partition)));
+    }
+
+    @Override
+    public void dropPartition(PartitionedTable table, MonthlyPartition partition) {
+        jdbcTemplate.execute("DROP TABLE %s".formatted(identifier(table, partition)));
+    }
+
+    /**
+     * The partition name is spliced into DDL, so it must be the one this adapter would produce.
+     */
+    private static String identifier(PartitionedTable table, MonthlyPartition partition) {
+        String expected = "%s_%04d_%02d".formatted(table.tableName(),
+                partition.month().getYear(), partition.month().getMonthValue());
+        if (!expected.equals(partition.name())) {
+            throw new IllegalArgumentException("Not a monthly partition of " + table.tableName() + ": " + partition.name());
+        }
+        return expected;
+    }
+}
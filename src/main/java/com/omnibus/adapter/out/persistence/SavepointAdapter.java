@@ -0,0 +1,39 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.port.out.SavepointPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plain SQL savepoints on the transaction-bound JDBC connection. The JPA transaction manager
+ * does not support savepoints with Hibernate, but it exposes its connection to {@link JdbcTemplate}.
+ */
+@Component
+public class SavepointAdapter implements SavepointPort {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SavepointAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String set() {
+        String savepoint = "sp_" + sequence.incrementAndGet();
+        jdbcTemplate.execute("SAVEPOINT " + savepoint);
+        return savepoint;
+    }
+
+    @Override
+    public void rollbackTo(String savepoint) {
+        jdbcTemplate.execute("ROLLBACK TO SAVEPOINT " + savepoint);
+    }
+
+    @Override
+    public void release(String savepoint) {
+        jdbcTemplate.execute("RELEASE SAVEPOINT " + savepoint);
+    }
+}
@@ -17,7 +17,7 @@ public class TransactionJpaEntity implements Persistable<UUID> {
     @Transient
     private boolean isNew = true;
 
-    @Column(name = "idempotency_key", unique = true)
+    @Column(name = "idempotency_key")
     private String idempotencyKey;
 
     @Column(nullable = false, length = 30)
@@ -1,8 +1,11 @@
 package com.Omnibus.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,7 +13,46 @@ import java.util.UUID;
 @Repository
 public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, UUID> {
 
-    Optional<TransactionJpaEntity> findByIdempotencyKey(String idempotencyKey);
+    /**
+     * The transaction written under an idempotency key. Keys are only unique while they are
+     * retained, so the lookup is bounded to keys created since {@code createdAfter}, which also
+     * prunes every older monthly partition.
+     */
+    @Query("""
+            SELECT t FROM TransactionJpaEntity t
+            WHERE t.idempotencyKey = :idempotencyKey AND t.createdAt >= :createdAfter
+            """)
+    Optional<TransactionJpaEntity> findByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey,
+                                                        @Param("createdAfter") Instant createdAfter);
 
-    List<TransactionJpaEntity> findBySourceAccountIdOrTargetAccountId(UUID sourceAccountId, UUID targetAccountId);
+    /**
+     * One keyset page of an account's history, newest first, strictly before {@code (beforeCreatedAt, beforeId)}.
+     * Each side of the UNION is a bounded range scan on its (account, created_at, id) index.
+     * Partition pruning does not see through the row comparison, so the plain
+     * {@code created_at <= :beforeCreatedAt} repeats its bound for the planner; within the
+     * remaining partitions the scan runs newest month first and stops once the page is full.
+     */
+    @Query(value = """
+            SELECT * FROM (
+                (SELECT * FROM transactions
+                 WHERE source_account_id = :accountId
+                   AND created_at <= :beforeCreatedAt
+                   AND (created_at, id) < (:beforeCreatedAt, :beforeId)
+                 ORDER BY created_at DESC, id DESC
+                 LIMIT :limit)
+                UNION ALL
+                (SELECT * FROM transactions
+                 WHERE target_account_id = :accountId
+                   AND created_at <= :beforeCreatedAt
+                   AND (created_at, id) < (:beforeCreatedAt, :beforeId)
+                 ORDER BY created_at DESC, id DESC
+                 LIMIT :limit)
+            ) page
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TransactionJpaEntity> findPageByAccountId(@Param("accountId") UUID accountId,
+                                                   @Param("beforeCreatedAt") Instant beforeCreatedAt,
+                                                   @Param("beforeId") UUID beforeId,
+                                                   @Param("limit") int limit);
 }
@@ -1,10 +1,15 @@
 package com.Omnibus.adapter.out.persistence;
 
 import com.Omnibus.application.port.out.TransactionRepositoryPort;
+import com.Omnibus.domain.model.LedgerEntry;
 import com.Omnibus.domain.model.Transaction;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.Comparator;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,12 +17,36 @@ import java.util.UUID;
 @Component
 public class TransactionPersistenceAdapter implements TransactionRepositoryPort {
 
+    /** Keyset start for the first page — sorts after every real (created_at, id). */
+    private static final Instant FIRST_PAGE_CREATED_AT = Instant.parse("9999-12-31T23:59:59Z");
+    private static final UUID FIRST_PAGE_ID = new UUID(-1L, -1L);
+
+    /**
+     * Transaction rows are inserted by a data-modifying CTE in the same statement as their ledger
+     * rows (there is no ledger-to-transaction foreign key on the partitioned tables, Flyway V10).
+     */
+    private static final String INSERT_TRANSFER_SQL_PREFIX = """
+            WITH txn AS (
+                INSERT INTO transactions (id, idempotency_key, type, status, source_account_id,
+                                          target_account_id, amount, description, created_at, completed_at)
+                VALUES %s
+            )
+            INSERT INTO ledger_entries (id, transaction_id, account_id, entry_type, amount, balance_after, created_at)
+            VALUES %s
+            """;
+    private static final String TRANSACTION_ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String LEDGER_ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+
     private final TransactionJpaRepository repository;
     private final TransactionMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public TransactionPersistenceAdapter(TransactionJpaRepository repository, TransactionMapper mapper) {
+    public TransactionPersistenceAdapter(TransactionJpaRepository repository,
+                                         TransactionMapper mapper,
+                                         JdbcTemplate jdbcTemplate) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -27,22 +56,66 @@ public class TransactionPersistenceAdapter implements TransactionRepositoryPort
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public void saveWithEntries(Transaction transaction, List<LedgerEntry> entries) {
+        saveAllWithEntries(List.of(transaction), entries);
+    }
+
+    @Override
+    public void saveAllWithEntries(List<Transaction> transactions, List<LedgerEntry> entries) {
+        String sql = INSERT_TRANSFER_SQL_PREFIX.formatted(
+                String.join(", ", Collections.nCopies(transactions.size(), TRANSACTION_ROW_PLACEHOLDERS)),
+                String.join(", ", Collections.nCopies(entries.size(), LEDGER_ROW_PLACEHOLDERS)));
+        Instant now = Instant.now();
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (Transaction transaction : transactions) {
+                ps.setObject(index++, transaction.getId());
+                ps.setString(index++, transaction.getIdempotencyKey());
+                ps.setString(index++, transaction.getType().name());
+                ps.setString(index++, transaction.getStatus().name());
+                ps.setObject(index++, transaction.getSourceAccountId());
+                ps.setObject(index++, transaction.getTargetAccountId());
+                ps.setBigDecimal(index++, transaction.getAmount().getAmount());
+                ps.setString(index++, transaction.getDescription());
+                ps.setObject(index++, timestamp(transaction.getCreatedAt() != null ? transaction.getCreatedAt() : now));
+                ps.setObject(index++, timestamp(transaction.getCompletedAt()));
+            }
+            for (LedgerEntry entry : entries) {
+                ps.setObject(index++, entry.getId());
+                ps.setObject(index++, entry.getTransactionId());
+                ps.setObject(index++, entry.getAccountId());
+                ps.setString(index++, entry.getEntryType().name());
+                ps.setBigDecimal(index++, entry.getAmount().getAmount());
+                ps.setBigDecimal(index++, entry.getBalanceAfter().getAmount());
+                ps.setObject(index++, timestamp(entry.getCreatedAt() != null ? entry.getCreatedAt() : now));
+            }
+        });
+    }
+
     @Override
     public Optional<Transaction> findById(UUID id) {
         return repository.findById(id).map(mapper::toDomain);
     }
 
     @Override
-    public Optional<Transaction> findByIdempotencyKey(String idempotencyKey) {
-        return repository.findByIdempotencyKey(idempotencyKey).map(mapper::toDomain);
+    public Optional<Transaction> findByIdempotencyKey(String idempotencyKey, Instant createdAfter) {
+        return repository.findByIdempotencyKey(idempotencyKey, createdAfter).map(mapper::toDomain);
     }
 
     @Override
-    public List<Transaction> findByAccountId(UUID accountId) {
-        return repository.findBySourceAccountIdOrTargetAccountId(accountId, accountId)
+    public List<Transaction> findPageByAccountId(UUID accountId, Instant beforeCreatedAt, UUID beforeId, int limit) {
+        boolean firstPage = beforeCreatedAt == null || beforeId == null;
+        return repository.findPageByAccountId(accountId,
+                        firstPage ? FIRST_PAGE_CREATED_AT : beforeCreatedAt,
+                        firstPage ? FIRST_PAGE_ID : beforeId,
+                        limit)
                 .stream()
                 .map(mapper::toDomain)
-                .sorted(Comparator.comparing(Transaction::getCreatedAt).reversed())
                 .toList();
     }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant != null ? OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
 }
@@ -0,0 +1,47 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.port.out.TransferProcedurePort;
+import com.Omnibus.domain.model.Transaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Calls the {@code execute_transfer} PL/pgSQL function (Flyway V5) — a whole transfer in one round trip.
+ */
+@Component
+public class TransferProcedureAdapter implements TransferProcedurePort {
+
+    private static final String EXECUTE_TRANSFER_SQL =
+            "SELECT * FROM execute_transfer(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransferProcedureAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Outcome execute(Transaction transaction, UUID actorId) {
+        return jdbcTemplate.queryForObject(EXECUTE_TRANSFER_SQL, (rs, rowNum) -> {
+                    OffsetDateTime completedAt = rs.getObject("completed_at", OffsetDateTime.class);
+                    return new Outcome(
+                            Status.valueOf(rs.getString("outcome")),
+                            rs.getBigDecimal("source_balance_before"),
+                            rs.getBigDecimal("source_balance_after"),
+                            rs.getBigDecimal("target_balance_before"),
+                            rs.getBigDecimal("target_balance_after"),
+                            completedAt != null ? completedAt.toInstant() : null);
+                },
+                transaction.getId(),
+                transaction.getIdempotencyKey(),
+                actorId,
+                transaction.getSourceAccountId(),
+                transaction.getTargetAccountId(),
+                transaction.getAmount().getAmount(),
+                transaction.getAmount().getCurrency(),
+                transaction.getDescription());
+    }
+}
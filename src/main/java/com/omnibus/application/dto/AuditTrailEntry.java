@@ -0,0 +1,18 @@
+package com.Omnibus.application.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One audit record of an account as written to an audit trail export.
+ */
+public record AuditTrailEntry(
+        long auditId,
+        String action,
+        UUID actorId,
+        BigDecimal balanceBefore,
+        BigDecimal balanceAfter,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,27 @@
+package com.Omnibus.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An account's balance at a point in time.
+ */
+@Schema(description = "Account balance at a point in time")
+public record BalanceAsOfResponse(
+        @Schema(description = "Account UUID")
+        UUID accountId,
+        @Schema(description = "Point in time the balance applies to")
+        Instant asOf,
+        @Schema(description = "Balance including every ledger entry created at or before asOf", example = "9900.0000")
+        BigDecimal balance,
+        @Schema(description = "ISO 4217 currency code", example = "USD")
+        String currency,
+        @Schema(description = "Checkpoint the balance was computed from (absent if none precedes asOf)")
+        Instant checkpointAsOf,
+        @Schema(description = "Ledger entries replayed on top of the checkpoint", example = "3")
+        long replayedEntries
+) {
+}
@@ -0,0 +1,38 @@
+package com.Omnibus.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Command object for executing many transfer legs in a single database transaction.
+ */
+public record BatchTransferCommand(
+        List<Leg> legs,
+        Mode mode,
+        String idempotencyKey,
+        UUID actorId
+) {
+
+    /**
+     * A single transfer within the batch.
+     */
+    public record Leg(
+            UUID sourceAccountId,
+            UUID targetAccountId,
+            BigDecimal amount,
+            String currency,
+            String description
+    ) {
+    }
+
+    /**
+     * How a failing leg affects the rest of the batch.
+     */
+    public enum Mode {
+        /** Any failing leg rolls back the entire batch. */
+        ALL_OR_NOTHING,
+        /** Failing legs are reported and skipped; the remaining legs commit. */
+        BEST_EFFORT
+    }
+}
@@ -0,0 +1,43 @@
+package com.Omnibus.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Result of a batch transfer — one entry per submitted leg, in submission order.
+ */
+@Schema(description = "Batch transfer result with per-leg outcomes")
+public record BatchTransferResult(
+        @Schema(description = "Execution mode", example = "BEST_EFFORT", allowableValues = {"ALL_OR_NOTHING", "BEST_EFFORT"})
+        String mode,
+        @Schema(description = "Number of legs that completed", example = "99")
+        int succeeded,
+        @Schema(description = "Number of legs that failed", example = "1")
+        int failed,
+        @Schema(description = "Per-leg outcomes, in submission order")
+        List<LegResult> legs,
+        @Schema(description = "True if this is a replayed idempotent response", example = "false")
+        boolean replayed
+) {
+
+    /**
+     * The same result flagged as an idempotent replay.
+     */
+    public BatchTransferResult asReplay() {
+        return new BatchTransferResult(mode, succeeded, failed, legs, true);
+    }
+
+    @Schema(description = "Outcome of a single batch leg")
+    public record LegResult(
+            @Schema(description = "Zero-based position of the leg in the request", example = "0")
+            int index,
+            @Schema(description = "Leg status", example = "COMPLETED", allowableValues = {"COMPLETED", "FAILED"})
+            String status,
+            @Schema(description = "Transfer result (present when the leg completed)")
+            TransferResult transfer,
+            @Schema(description = "Failure reason (present when the leg failed)", example = "Account has insufficient funds")
+            String error
+    ) {
+    }
+}
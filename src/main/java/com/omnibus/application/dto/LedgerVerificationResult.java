@@ -0,0 +1,24 @@
+package com.Omnibus.application.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of one ledger verifier run over one shard.
+ *
+ * @param verifiedUpTo          entries created at or before this instant are verified
+ * @param entries               ledger entries read in this run
+ * @param unbalancedTransactions transactions whose debits and credits differ (first few)
+ * @param mismatchedAccounts    accounts whose stored balance differs from the ledger (first few)
+ */
+public record LedgerVerificationResult(
+        int shard,
+        Instant verifiedUpTo,
+        long entries,
+        long transactionViolations,
+        long balanceViolations,
+        List<UUID> unbalancedTransactions,
+        List<UUID> mismatchedAccounts
+) {
+}
@@ -0,0 +1,19 @@
+package com.Omnibus.application.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One ledger entry as written to an account statement export.
+ */
+public record StatementLine(
+        UUID entryId,
+        UUID transactionId,
+        String entryType,
+        BigDecimal amount,
+        String currency,
+        BigDecimal balanceAfter,
+        Instant createdAt
+) {
+}
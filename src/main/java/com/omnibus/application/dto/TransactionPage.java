@@ -0,0 +1,10 @@
+package com.Omnibus.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of account transaction history plus the opaque cursor for the next page
+ * ({@code null} when this is the last page).
+ */
+public record TransactionPage(List<TransactionDTO> items, String nextCursor) {
+}
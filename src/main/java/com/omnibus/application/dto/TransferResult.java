@@ -32,4 +32,12 @@ public record TransferResult(
         @Schema(description = "True if this is a replayed idempotent response", example = "false")
         boolean replayed
 ) {
+
+    /**
+     * The same result flagged as an idempotent replay.
+     */
+    public TransferResult asReplay() {
+        return new TransferResult(transactionId, sourceAccountId, targetAccountId, amount, currency,
+                sourceBalanceAfter, targetBalanceAfter, status, completedAt, true);
+    }
 }
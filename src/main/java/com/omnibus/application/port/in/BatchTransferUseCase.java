@@ -0,0 +1,12 @@
+package com.Omnibus.application.port.in;
+
+import com.Omnibus.application.dto.BatchTransferCommand;
+import com.Omnibus.application.dto.BatchTransferResult;
+
+/**
+ * Use-case port: execute many transfer legs in one database transaction.
+ */
+public interface BatchTransferUseCase {
+
+    BatchTransferResult execute(BatchTransferCommand command);
+}
@@ -0,0 +1,26 @@
+package com.Omnibus.application.port.in;
+
+import com.Omnibus.application.dto.AuditTrailEntry;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Use-case port: export the audit trail of an account as a stream of entries, archived and live
+ * records alike, oldest first.
+ */
+public interface ExportAuditTrailUseCase {
+
+    /**
+     * Stream the audit records of an account created in {@code [from, to)} — verifies account ownership.
+     *
+     * @param accountId the account whose trail is exported
+     * @param userId    the authenticated user (for ownership check)
+     * @param from      inclusive lower bound on record creation time
+     * @param to        exclusive upper bound on record creation time
+     * @param sink      receives each entry in order
+     * @throws com.Omnibus.domain.exception.AccountOwnershipException if the user does not own the account
+     */
+    void exportAuditTrail(UUID accountId, UUID userId, Instant from, Instant to, Consumer<AuditTrailEntry> sink);
+}
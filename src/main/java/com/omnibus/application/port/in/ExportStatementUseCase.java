@@ -0,0 +1,27 @@
+package com.Omnibus.application.port.in;
+
+import com.Omnibus.application.dto.StatementLine;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Use-case port: export an account statement as a stream of ledger lines.
+ * Lines are pushed to the sink one at a time, oldest first, so memory use does not
+ * depend on the number of entries.
+ */
+public interface ExportStatementUseCase {
+
+    /**
+     * Stream ledger entries of an account created in {@code [from, to)} — verifies account ownership.
+     *
+     * @param accountId the account to export
+     * @param userId    the authenticated user (for ownership check)
+     * @param from      inclusive lower bound on entry creation time
+     * @param to        exclusive upper bound on entry creation time
+     * @param sink      receives each line in order
+     * @throws com.Omnibus.domain.exception.AccountOwnershipException if the user does not own the account
+     */
+    void exportStatement(UUID accountId, UUID userId, Instant from, Instant to, Consumer<StatementLine> sink);
+}
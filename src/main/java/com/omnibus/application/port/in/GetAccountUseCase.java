@@ -2,8 +2,10 @@ package com.Omnibus.application.port.in;
 
 import com.Omnibus.application.dto.AccountDTO;
 import com.Omnibus.application.dto.AccountLookupResponse;
-import com.Omnibus.application.dto.TransactionDTO;
+import com.Omnibus.application.dto.BalanceAsOfResponse;
+import com.Omnibus.application.dto.TransactionPage;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,12 +30,24 @@ public interface GetAccountUseCase {
     List<AccountDTO> getByUserId(UUID userId);
 
     /**
-     * Get transaction history for an account — verifies account ownership.
+     * Get one page of transaction history for an account, newest first — verifies account ownership.
      *
      * @param accountId the account to get transactions for
      * @param userId    the authenticated user (for ownership check)
+     * @param cursor    opaque cursor from the previous page, or null for the first page
+     * @param limit     maximum number of transactions to return
      */
-    List<TransactionDTO> getTransactionsByAccountId(UUID accountId, UUID userId);
+    TransactionPage getTransactionsByAccountId(UUID accountId, UUID userId, String cursor, int limit);
+
+    /**
+     * Get an account's balance at a point in time from the nearest balance checkpoint and the
+     * ledger entries after it — verifies account ownership.
+     *
+     * @param accountId the account to get the balance of
+     * @param userId    the authenticated user (for ownership check)
+     * @param asOf      point in time; entries created at or before it are included
+     */
+    BalanceAsOfResponse getBalanceAsOf(UUID accountId, UUID userId, Instant asOf);
 
     /**
      * Look up a user's primary account by username for the Send Money wizard.
@@ -42,4 +56,13 @@ public interface GetAccountUseCase {
      * @param username the username to look up
      */
     AccountLookupResponse lookupByUsername(String username);
+
+    /**
+     * Primary accounts of users whose username starts with {@code prefix}, for recipient
+     * autocomplete. Same limited info as {@link #lookupByUsername(String)}.
+     *
+     * @param prefix at least two leading characters of the username
+     * @param limit  maximum number of matches to return (1-20)
+     */
+    List<AccountLookupResponse> searchByUsernamePrefix(String prefix, int limit);
 }
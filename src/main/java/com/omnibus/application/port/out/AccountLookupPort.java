@@ -0,0 +1,27 @@
+package com.Omnibus.application.port.out;
+
+import com.Omnibus.application.dto.AccountLookupResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbound port for recipient lookups: a user's primary account (their oldest) joined with the
+ * username, read in one query.
+ */
+public interface AccountLookupPort {
+
+    Optional<AccountLookupResponse> findByUsername(String username);
+
+    /**
+     * Primary accounts of users whose username starts with {@code prefix}, ordered by username.
+     * Served by the {@code text_pattern_ops} index on {@code users.username} (Flyway V7).
+     */
+    List<AccountLookupResponse> findByUsernamePrefix(String prefix, int limit);
+
+    /**
+     * Drop any cached answer for {@code username}, including a cached "not found".
+     * Takes effect when the current transaction commits.
+     */
+    void invalidate(String username);
+}
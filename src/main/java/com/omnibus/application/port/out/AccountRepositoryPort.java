@@ -2,7 +2,9 @@ package com.Omnibus.application.port.out;
 
 import com.Omnibus.domain.model.Account;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,10 +15,39 @@ public interface AccountRepositoryPort {
 
     Account save(Account account);
 
+    /**
+     * Write {@code balance} and {@code updated_at} of accounts whose rows the caller already holds
+     * locked, as one batched {@code UPDATE accounts SET balance = ?, updated_at = ? WHERE id = ?}.
+     * Unlike {@link #save(Account)} this never reads the row back.
+     */
+    void updateBalances(List<Account> accounts);
+
+    /**
+     * Optimistic counterpart of {@link #updateBalances(List)} for accounts read without a lock:
+     * {@code UPDATE accounts SET balance = ?, updated_at = ? WHERE id = ? AND version = ?},
+     * batched and applied in ascending id order.
+     *
+     * @return false if any account changed since it was read; the caller must roll back
+     */
+    boolean updateBalancesIfUnchanged(List<Account> accounts);
+
+    /**
+     * Lock the accounts in ascending id order and add each signed delta to its balance in one statement.
+     * An account whose balance would drop below zero is left unchanged and missing from the result.
+     *
+     * @return the balance of every updated account after its delta
+     */
+    Map<UUID, BigDecimal> applyBalanceDeltas(Map<UUID, BigDecimal> deltas);
+
     Optional<Account> findById(UUID id);
 
     List<Account> findByUserId(UUID userId);
 
+    /**
+     * Plain (unlocked) read of several accounts, for the optimistic transfer engine.
+     */
+    List<Account> findAllById(List<UUID> ids);
+
     /**
      * Find and lock multiple accounts using SELECT ... FOR UPDATE ORDER BY id.
      * Accounts are returned in ascending ID order to prevent deadlocks.
@@ -24,4 +55,28 @@ public interface AccountRepositoryPort {
     List<Account> findAllByIdForUpdate(List<UUID> ids);
 
     boolean existsByAccountNumber(String accountNumber);
+
+    /**
+     * Credit one sub-balance bucket of a sharded (hot) account without taking the account row lock.
+     *
+     * @return the account's total balance (main balance plus all buckets) after the credit
+     */
+    BigDecimal creditBalanceBucket(UUID accountId, int bucket, BigDecimal amount);
+
+    /**
+     * Zero every bucket of the account and return the drained sum.
+     * The caller must already hold the account row lock and fold the sum into the main balance.
+     */
+    BigDecimal drainBalanceBuckets(UUID accountId);
+
+    /**
+     * Lock the account and fold all of its buckets into the main balance in its own transaction.
+     */
+    void consolidateBalanceBuckets(UUID accountId);
+
+    /**
+     * Tell any account cache that these accounts were written outside this port (e.g. by a
+     * database function). Takes effect when the current transaction commits.
+     */
+    void invalidate(List<UUID> accountIds);
 }
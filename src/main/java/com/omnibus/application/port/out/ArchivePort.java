@@ -0,0 +1,81 @@
+package com.Omnibus.application.port.out;
+
+import com.Omnibus.application.port.out.AuditTrailPort.AuditRecord;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import com.Omnibus.domain.model.LedgerEntry;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Outbound port for cold storage of ledger_entries and audit_logs: whole UTC months exported to
+ * compressed columnar files and then deleted from the database.
+ * <p>
+ * Months are archived oldest first without gaps, so a table's rows created before
+ * {@link #archivedBefore} are read from the archive and all later rows from the live table.
+ * A month's rows are deleted from the database only after its file has been read back and
+ * holds as many rows as the database does.
+ */
+public interface ArchivePort {
+
+    /**
+     * @return the first month of {@code table} after the oldest archived one that has no archive
+     *         file, or empty if none is archived
+     */
+    Optional<YearMonth> archivedBefore(PartitionedTable table);
+
+    /**
+     * Run {@code work} while holding a lock shared by every instance, so only one of them
+     * archives at a time.
+     *
+     * @return the work's result, or empty if another instance holds the lock
+     */
+    <T> Optional<T> runExclusively(Supplier<T> work);
+
+    /**
+     * Write every row of {@code table} created in {@code month} to the month's archive file,
+     * replacing any earlier attempt. The file is durable when this returns; the rows stay in
+     * the database. Must run inside a transaction so the database cursor is used.
+     *
+     * @return the number of rows archived
+     */
+    long exportMonth(PartitionedTable table, YearMonth month);
+
+    /**
+     * Read the month's archive file end to end, checking its framing and checksum.
+     *
+     * @return the number of rows in the file, or empty if the month has no file
+     * @throws java.io.UncheckedIOException if the file is damaged
+     */
+    OptionalLong verifiedRowCount(PartitionedTable table, YearMonth month);
+
+    /**
+     * @return the number of rows of {@code table} in the database created in {@code month}
+     */
+    long countMonth(PartitionedTable table, YearMonth month);
+
+    /**
+     * Delete the rows of {@code table} created in {@code month} from the database. A month with
+     * a monthly partition is dropped through {@link PartitionMaintenancePort} instead; this
+     * removes a month held in the default partition.
+     *
+     * @return the number of rows deleted
+     */
+    long deleteMonth(PartitionedTable table, YearMonth month);
+
+    /**
+     * Stream an account's archived ledger entries created in {@code [from, to)}, oldest first.
+     */
+    void streamLedgerEntries(UUID accountId, Instant from, Instant to, Consumer<LedgerEntry> consumer);
+
+    /**
+     * Stream an entity's archived audit rows created in {@code [from, to)}, oldest first.
+     */
+    void streamAuditRecords(String entityType, UUID entityId, Instant from, Instant to,
+                            Consumer<AuditRecord> consumer);
+}
@@ -5,7 +5,7 @@ import java.util.UUID;
 
 /**
  * Outbound port for immutable audit logging.
- * Implementations use REQUIRES_NEW propagation so audit entries survive rollbacks.
+ * Implementations write outside the caller's transaction so audit entries survive rollbacks.
  */
 public interface AuditLogPort {
 
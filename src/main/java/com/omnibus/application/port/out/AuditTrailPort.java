@@ -0,0 +1,33 @@
+package com.Omnibus.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Outbound port for reading audit_logs rows back.
+ */
+public interface AuditTrailPort {
+
+    /**
+     * Stream the audit rows of one entity created in {@code [from, to)}, oldest first, without
+     * materializing them. Must run inside a transaction so the database cursor is used.
+     */
+    void streamByEntity(String entityType, UUID entityId, Instant from, Instant to, Consumer<AuditRecord> consumer);
+
+    record AuditRecord(
+            long id,
+            String entityType,
+            UUID entityId,
+            String action,
+            UUID actorId,
+            String beforeSnapshot,
+            String afterSnapshot,
+            BigDecimal balanceBefore,
+            BigDecimal balanceAfter,
+            String ipAddress,
+            Instant createdAt
+    ) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.Omnibus.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Outbound port for balance checkpoints and point-in-time balances derived from them.
+ */
+public interface BalanceCheckpointPort {
+
+    /**
+     * Checkpoint every account whose ledger moved between the newest existing checkpoint and
+     * {@code asOf}. Does nothing if {@code asOf} is not after the newest checkpoint.
+     * Ledger entries created at or before {@code asOf} must all be committed: each checkpoint
+     * builds on the previous one, so an entry that commits later is never counted.
+     *
+     * @return the number of checkpoints written
+     */
+    int writeCheckpoints(Instant asOf);
+
+    /**
+     * Start time of the oldest transaction still open on the database, other than the caller's.
+     * An entry committed later was created no earlier than this, give or take clock skew.
+     */
+    Optional<Instant> oldestOpenTransactionStart();
+
+    /**
+     * Balance of an account at {@code asOf}, from {@code ledger_entries} alone: the latest
+     * checkpoint at or before it plus the ledger entries after that checkpoint, in one statement.
+     * <p>
+     * Entries created before {@code liveFrom} have been archived and may already be gone, so
+     * checkpoints and entries before it are ignored; the replay then starts from the balance
+     * before the first remaining entry. If {@code asOf} is before {@code liveFrom}, that opening
+     * balance is returned; the caller unwinds the archived entries from there.
+     *
+     * @param liveFrom start of the ledger still in the database, or null if nothing is archived
+     */
+    BalanceAsOf balanceAsOf(UUID accountId, Instant asOf, Instant liveFrom);
+
+    /**
+     * @param checkpointAsOf  the checkpoint the balance was replayed from, or null if none
+     * @param replayedEntries ledger entries applied on top of the checkpoint
+     */
+    record BalanceAsOf(BigDecimal balance, Instant checkpointAsOf, long replayedEntries) {
+    }
+}
@@ -1,5 +1,8 @@
 package com.Omnibus.application.port.out;
 
+import com.Omnibus.application.dto.BatchTransferResult;
+import com.Omnibus.application.dto.TransferResult;
+
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,20 +18,39 @@ public interface IdempotencyStorePort {
     boolean tryInsert(String key, UUID userId);
 
     /**
-     * Retrieve the cached response for a previously processed idempotency key.
+     * Retrieve the cached response for a previously processed idempotency key, together with
+     * the user who claimed it. Callers must compare the owner before replaying the body.
      */
     Optional<CachedResponse> findByKey(String key);
 
     /**
-     * Update the cached response for a key after successful processing.
+     * Store the full response for a key after successful processing, so replays
+     * can be answered from the store alone.
+     */
+    void updateResponse(String key, UUID userId, int httpStatus, TransferResult responseBody);
+
+    /**
+     * Batch form of {@link #updateResponse}: store the whole batch result under the batch key.
+     */
+    void updateBatchResponse(String key, UUID userId, int httpStatus, BatchTransferResult responseBody);
+
+    /**
+     * Delete up to {@code limit} expired keys in one short transaction (TTL cleanup).
+     * Keys locked by another transaction are skipped.
+     *
+     * @return the number of keys deleted; fewer than {@code limit} means no unlocked expired keys remain
      */
-    void updateResponse(String key, int httpStatus, String responseBody);
+    int deleteExpired(int limit);
 
     /**
-     * Delete expired keys (TTL cleanup).
+     * A stored response. Exactly one of {@code responseBody} (single transfer) and
+     * {@code batchResponseBody} (batch) is set, depending on which request claimed the key.
      */
-    int deleteExpired();
+    record CachedResponse(UUID userId, int httpStatus, TransferResult responseBody,
+                          BatchTransferResult batchResponseBody) {
 
-    record CachedResponse(int httpStatus, String responseBody) {
+        public CachedResponse(UUID userId, int httpStatus, TransferResult responseBody) {
+            this(userId, httpStatus, responseBody, null);
+        }
     }
 }
@@ -2,8 +2,10 @@ package com.Omnibus.application.port.out;
 
 import com.Omnibus.domain.model.LedgerEntry;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Outbound port for ledger entry persistence.
@@ -12,7 +14,25 @@ public interface LedgerRepositoryPort {
 
     LedgerEntry save(LedgerEntry entry);
 
-    List<LedgerEntry> findByTransactionId(UUID transactionId);
+    /**
+     * Persist several entries; inserts are grouped into JDBC batches when the persistence context flushes.
+     */
+    List<LedgerEntry> saveAll(List<LedgerEntry> entries);
 
-    List<LedgerEntry> findByAccountId(UUID accountId);
+    /**
+     * Entries of a transaction; {@code transactionCreatedAt} is the transaction's creation time,
+     * which no entry precedes.
+     */
+    List<LedgerEntry> findByTransactionId(UUID transactionId, Instant transactionCreatedAt);
+
+    /**
+     * An account's entries created in {@code [from, to)}, newest first.
+     */
+    List<LedgerEntry> findByAccountId(UUID accountId, Instant from, Instant to);
+
+    /**
+     * Stream an account's entries created in {@code [from, to)}, oldest first, to the consumer
+     * without materializing them. Must run inside a transaction so the database cursor is used.
+     */
+    void streamByAccountId(UUID accountId, Instant from, Instant to, Consumer<LedgerEntry> consumer);
 }
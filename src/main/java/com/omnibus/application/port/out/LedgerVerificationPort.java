@@ -0,0 +1,75 @@
+package com.Omnibus.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Outbound port for the streaming ledger invariant verifier.
+ * <p>
+ * Work is split into {@code shards} shards by a hash of the account id (balance checks) and of the
+ * transaction id (debit = credit checks). State saved per shard lets the next run resume where the
+ * previous one stopped. Every method must run inside the verifier's transaction, so the ledger
+ * stream, the tail and the account totals come from one snapshot.
+ */
+public interface LedgerVerificationPort {
+
+    Optional<ShardCheckpoint> loadCheckpoint(int shards, int shard);
+
+    /**
+     * Verified running balance of every account in the shard, as of the shard's checkpoint.
+     */
+    void loadBalances(int shards, int shard, BiConsumer<UUID, BigDecimal> consumer);
+
+    /**
+     * Transactions of the shard whose entries did not net to zero by the checkpoint.
+     */
+    void loadOpenTransactions(int shards, int shard, Consumer<OpenTransaction> consumer);
+
+    /**
+     * Stream the ledger entries created in {@code (after, upTo]} that belong to the shard by account
+     * or by transaction, in {@code created_at} order, through a server-side cursor.
+     *
+     * @param after null to start from the first entry
+     */
+    void streamEntries(int shards, int shard, Instant after, Instant upTo, Consumer<Entry> consumer);
+
+    /**
+     * Net signed amount per shard account of entries created after {@code after}.
+     */
+    void streamTail(int shards, int shard, Instant after, BiConsumer<UUID, BigDecimal> consumer);
+
+    /**
+     * Total balance (main balance plus buckets) of every account in the shard.
+     */
+    void streamAccountTotals(int shards, int shard, BiConsumer<UUID, BigDecimal> consumer);
+
+    /**
+     * Advance the shard's checkpoint, upsert the changed running balances and replace its open
+     * transactions.
+     */
+    void saveState(int shards, int shard, ShardCheckpoint checkpoint,
+                   Collection<AccountBalance> changedBalances, Collection<OpenTransaction> openTransactions);
+
+    record ShardCheckpoint(Instant verifiedUpTo, long entriesVerified, long violations) {
+    }
+
+    record AccountBalance(UUID accountId, BigDecimal balance) {
+    }
+
+    record OpenTransaction(UUID transactionId, BigDecimal net, Instant firstSeen) {
+    }
+
+    /**
+     * @param amount          signed: positive for a credit, negative for a debit
+     * @param accountInShard  the entry counts toward the shard's balance checks
+     * @param transactionInShard the entry counts toward the shard's debit = credit checks
+     */
+    record Entry(UUID transactionId, UUID accountId, BigDecimal amount, BigDecimal balanceAfter,
+                 Instant createdAt, boolean accountInShard, boolean transactionInShard) {
+    }
+}
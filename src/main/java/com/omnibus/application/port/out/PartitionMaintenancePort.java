@@ -0,0 +1,60 @@
+package com.Omnibus.application.port.out;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbound port for the monthly partitions of the append-only tables (Flyway V10).
+ */
+public interface PartitionMaintenancePort {
+
+    /**
+     * Create the partition of {@code table} holding {@code month} (UTC). Rows of that month that
+     * landed in the table's default partition are moved into it.
+     *
+     * @return false if the partition already exists
+     */
+    boolean createMonthlyPartition(PartitionedTable table, YearMonth month);
+
+    /**
+     * Monthly partitions currently attached to {@code table}, oldest first. The default
+     * partition is not included.
+     */
+    List<MonthlyPartition> listMonthlyPartitions(PartitionedTable table);
+
+    /**
+     * Month of the oldest row in {@code table}'s default partition, which is normally empty.
+     */
+    Optional<YearMonth> oldestDefaultMonth(PartitionedTable table);
+
+    /**
+     * Detach a partition from its parent. The rows stay in a standalone table of the same name,
+     * invisible to queries on the parent, until it is archived or dropped.
+     */
+    void detachPartition(PartitionedTable table, MonthlyPartition partition);
+
+    /**
+     * Drop a partition together with its rows and indexes.
+     */
+    void dropPartition(PartitionedTable table, MonthlyPartition partition);
+
+    enum PartitionedTable {
+        TRANSACTIONS("transactions"),
+        LEDGER_ENTRIES("ledger_entries"),
+        AUDIT_LOGS("audit_logs");
+
+        private final String tableName;
+
+        PartitionedTable(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public String tableName() {
+            return tableName;
+        }
+    }
+
+    record MonthlyPartition(String name, YearMonth month) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.Omnibus.application.port.out;
+
+/**
+ * Outbound port for savepoints on the current transaction's connection, so one unit of work
+ * inside a shared transaction can be undone without aborting the rest.
+ */
+public interface SavepointPort {
+
+    /**
+     * Set a savepoint in the current transaction.
+     *
+     * @return its name, for {@link #rollbackTo} or {@link #release}
+     */
+    String set();
+
+    /**
+     * Undo everything written since the savepoint; the transaction stays usable.
+     */
+    void rollbackTo(String savepoint);
+
+    /**
+     * Keep everything written since the savepoint and forget it.
+     */
+    void release(String savepoint);
+}
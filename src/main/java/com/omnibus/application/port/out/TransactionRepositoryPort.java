@@ -1,7 +1,9 @@
 package com.Omnibus.application.port.out;
 
+import com.Omnibus.domain.model.LedgerEntry;
 import com.Omnibus.domain.model.Transaction;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,13 +15,30 @@ public interface TransactionRepositoryPort {
 
     Transaction save(Transaction transaction);
 
+    /**
+     * Insert a transaction row together with its ledger entries as a single statement — one database
+     * round trip per transfer. Rows are written immediately rather than at flush time.
+     */
+    void saveWithEntries(Transaction transaction, List<LedgerEntry> entries);
+
+    /**
+     * Multi-transfer form of {@link #saveWithEntries}: every transaction row and every ledger row
+     * in a single statement.
+     */
+    void saveAllWithEntries(List<Transaction> transactions, List<LedgerEntry> entries);
+
     Optional<Transaction> findById(UUID id);
 
-    Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
+    /**
+     * Find the transaction written under {@code idempotencyKey} no earlier than {@code createdAfter}.
+     * Keys are only unique within the idempotency TTL; pass the start of that window.
+     */
+    Optional<Transaction> findByIdempotencyKey(String idempotencyKey, Instant createdAfter);
 
     /**
-     * Find all transactions where the given account is either source or target.
-     * Results are ordered by creation date descending.
+     * Find up to {@code limit} transactions where the given account is either source or target,
+     * ordered by (createdAt, id) descending and starting strictly after the given keyset position.
+     * Pass null for both {@code beforeCreatedAt} and {@code beforeId} to start from the newest.
      */
-    List<Transaction> findByAccountId(UUID accountId);
+    List<Transaction> findPageByAccountId(UUID accountId, Instant beforeCreatedAt, UUID beforeId, int limit);
 }
@@ -0,0 +1,43 @@
+package com.Omnibus.application.port.out;
+
+import com.Omnibus.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outbound port for the server-side transfer engine: one database call locks both
+ * accounts, validates, updates balances and writes the transaction and ledger rows.
+ */
+public interface TransferProcedurePort {
+
+    /**
+     * Execute the transfer described by {@code transaction} on behalf of {@code actorId}.
+     * Business rejections are reported in {@link Outcome#status()}; nothing is persisted for them
+     * once the surrounding transaction rolls back.
+     */
+    Outcome execute(Transaction transaction, UUID actorId);
+
+    enum Status {
+        COMPLETED,
+        ACCOUNT_NOT_FOUND,
+        NOT_OWNER,
+        SOURCE_NOT_ACTIVE,
+        TARGET_NOT_ACTIVE,
+        CURRENCY_MISMATCH,
+        INSUFFICIENT_FUNDS
+    }
+
+    /**
+     * Balances are set for {@code COMPLETED}; for {@code INSUFFICIENT_FUNDS} only
+     * {@code sourceBalanceBefore} is set.
+     */
+    record Outcome(Status status,
+                   BigDecimal sourceBalanceBefore,
+                   BigDecimal sourceBalanceAfter,
+                   BigDecimal targetBalanceBefore,
+                   BigDecimal targetBalanceAfter,
+                   Instant completedAt) {
+    }
+}
@@ -2,18 +2,32 @@ package com.Omnibus.application.service;
 
 import com.Omnibus.application.dto.AccountDTO;
 import com.Omnibus.application.dto.AccountLookupResponse;
+import com.Omnibus.application.dto.BalanceAsOfResponse;
 import com.Omnibus.application.dto.TransactionDTO;
+import com.Omnibus.application.dto.TransactionPage;
 import com.Omnibus.application.port.in.GetAccountUseCase;
+import com.Omnibus.application.port.out.AccountLookupPort;
 import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.port.out.ArchivePort;
+import com.Omnibus.application.port.out.BalanceCheckpointPort;
+import com.Omnibus.application.port.out.BalanceCheckpointPort.BalanceAsOf;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
 import com.Omnibus.application.port.out.TransactionRepositoryPort;
-import com.Omnibus.application.port.out.UserRepositoryPort;
 import com.Omnibus.domain.exception.AccountOwnershipException;
 import com.Omnibus.domain.exception.DomainException;
 import com.Omnibus.domain.model.Account;
-import com.Omnibus.domain.model.User;
+import com.Omnibus.domain.model.EntryType;
+import com.Omnibus.domain.model.Transaction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,16 +35,26 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class AccountApplicationService implements GetAccountUseCase {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MIN_SEARCH_PREFIX = 2;
+    private static final int MAX_SEARCH_RESULTS = 20;
+
     private final AccountRepositoryPort accountRepository;
     private final TransactionRepositoryPort transactionRepository;
-    private final UserRepositoryPort userRepository;
+    private final AccountLookupPort accountLookup;
+    private final BalanceCheckpointPort balanceCheckpoints;
+    private final ArchivePort archive;
 
     public AccountApplicationService(AccountRepositoryPort accountRepository,
             TransactionRepositoryPort transactionRepository,
-            UserRepositoryPort userRepository) {
+            AccountLookupPort accountLookup,
+            BalanceCheckpointPort balanceCheckpoints,
+            ArchivePort archive) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
-        this.userRepository = userRepository;
+        this.accountLookup = accountLookup;
+        this.balanceCheckpoints = balanceCheckpoints;
+        this.archive = archive;
     }
 
     @Override
@@ -54,7 +78,11 @@ public class AccountApplicationService implements GetAccountUseCase {
     }
 
     @Override
-    public List<TransactionDTO> getTransactionsByAccountId(UUID accountId, UUID userId) {
+    public TransactionPage getTransactionsByAccountId(UUID accountId, UUID userId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
         // Verify account exists and user owns it
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new DomainException("Account not found: " + accountId));
@@ -63,7 +91,23 @@ public class AccountApplicationService implements GetAccountUseCase {
             throw new AccountOwnershipException(accountId, userId);
         }
 
-        return transactionRepository.findByAccountId(accountId).stream()
+        CursorPosition position = (cursor == null || cursor.isBlank()) ? null : decodeCursor(cursor);
+
+        // Fetch one extra row to learn whether another page exists
+        List<Transaction> rows = transactionRepository.findPageByAccountId(accountId,
+                position == null ? null : position.createdAt(),
+                position == null ? null : position.id(),
+                limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<Transaction> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        List<TransactionDTO> items = page.stream()
                 .map(txn -> new TransactionDTO(
                         txn.getId(),
                         txn.getType().name(),
@@ -76,24 +120,72 @@ public class AccountApplicationService implements GetAccountUseCase {
                         txn.getCreatedAt(),
                         txn.getCompletedAt()))
                 .toList();
+        return new TransactionPage(items, nextCursor);
+    }
+
+    @Override
+    public BalanceAsOfResponse getBalanceAsOf(UUID accountId, UUID userId, Instant asOf) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new DomainException("Account not found: " + accountId));
+
+        if (!account.getUserId().equals(userId)) {
+            throw new AccountOwnershipException(accountId, userId);
+        }
+        if (account.getCreatedAt() != null && asOf.isBefore(account.getCreatedAt())) {
+            throw new IllegalArgumentException("'asOf' is before the account was opened");
+        }
+
+        Instant archivedBefore = archive.archivedBefore(PartitionedTable.LEDGER_ENTRIES)
+                .map(month -> month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant())
+                .orElse(null);
+        BalanceAsOf balance = balanceCheckpoints.balanceAsOf(accountId, asOf, archivedBefore);
+        if (archivedBefore != null && asOf.isBefore(archivedBefore)) {
+            balance = unwindArchived(accountId, asOf, archivedBefore, balance.balance());
+        }
+        return new BalanceAsOfResponse(
+                accountId,
+                asOf,
+                balance.balance(),
+                account.getBalance().getCurrency(),
+                balance.checkpointAsOf(),
+                balance.replayedEntries());
+    }
+
+    /**
+     * Walk back from the balance at the archive horizon over the archived entries after
+     * {@code asOf}. Checkpoints that old are not used: their ledger tail is no longer in the
+     * database to replay.
+     */
+    private BalanceAsOf unwindArchived(UUID accountId, Instant asOf, Instant archivedBefore, BigDecimal atHorizon) {
+        BigDecimal[] balance = { atHorizon };
+        long[] entries = { 0 };
+        // Archive ranges are [from, to); entries at exactly asOf are part of its balance
+        Instant after = asOf.truncatedTo(ChronoUnit.MICROS).plus(1, ChronoUnit.MICROS);
+        archive.streamLedgerEntries(accountId, after, archivedBefore, entry -> {
+            BigDecimal amount = entry.getAmount().getAmount();
+            balance[0] = entry.getEntryType() == EntryType.CREDIT
+                    ? balance[0].subtract(amount)
+                    : balance[0].add(amount);
+            entries[0]++;
+        });
+        return new BalanceAsOf(balance[0], null, entries[0]);
     }
 
     @Override
     public AccountLookupResponse lookupByUsername(String username) {
-        User user = userRepository.findByUsername(username)
+        return accountLookup.findByUsername(username)
                 .orElseThrow(() -> new DomainException("User not found: " + username));
+    }
 
-        List<Account> accounts = accountRepository.findByUserId(user.getId());
-        if (accounts.isEmpty()) {
-            throw new DomainException("No accounts found for user: " + username);
+    @Override
+    public List<AccountLookupResponse> searchByUsernamePrefix(String prefix, int limit) {
+        if (prefix == null || prefix.length() < MIN_SEARCH_PREFIX) {
+            throw new IllegalArgumentException("prefix must be at least " + MIN_SEARCH_PREFIX + " characters");
         }
-
-        // Return the first (primary) account
-        Account primary = accounts.get(0);
-        return new AccountLookupResponse(
-                primary.getId(),
-                user.getUsername(),
-                primary.getAccountNumber());
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        return accountLookup.findByUsernamePrefix(prefix, limit);
     }
 
     private AccountDTO toDTO(Account account) {
@@ -101,9 +193,30 @@ public class AccountApplicationService implements GetAccountUseCase {
                 account.getId(),
                 account.getUserId(),
                 account.getAccountNumber(),
-                account.getBalance().getAmount(),
+                account.getTotalBalance().getAmount(),
                 account.getBalance().getCurrency(),
                 account.getStatus().name(),
                 account.getCreatedAt());
     }
+
+    private static String encodeCursor(Instant createdAt, UUID id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static CursorPosition decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new CursorPosition(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private record CursorPosition(Instant createdAt, UUID id) {
+    }
 }
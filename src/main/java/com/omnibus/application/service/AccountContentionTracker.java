@@ -0,0 +1,111 @@
+package com.Omnibus.application.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-account conflict statistics for the optimistic transfer engine.
+ * <p>
+ * Each account keeps attempt and conflict counts over a fixed window. Once at least
+ * {@code minSamples} attempts have been seen and the conflict ratio reaches the threshold,
+ * the account is flagged pessimistic for a cool-down period, during which its transfers
+ * go straight to the row-locking engine.
+ */
+final class AccountContentionTracker {
+
+    private final double conflictRatio;
+    private final int minSamples;
+    private final long windowNanos;
+    private final long cooldownNanos;
+    private final int maxTrackedAccounts;
+    private final LongSupplier nanoClock;
+    private final Map<UUID, Window> windows = new ConcurrentHashMap<>();
+
+    AccountContentionTracker(double conflictRatio, int minSamples, long windowMs, long cooldownMs,
+                             int maxTrackedAccounts, LongSupplier nanoClock) {
+        this.conflictRatio = conflictRatio;
+        this.minSamples = minSamples;
+        this.windowNanos = windowMs * 1_000_000L;
+        this.cooldownNanos = cooldownMs * 1_000_000L;
+        this.maxTrackedAccounts = maxTrackedAccounts;
+        this.nanoClock = nanoClock;
+    }
+
+    boolean isPessimistic(UUID accountId) {
+        Window window = windows.get(accountId);
+        return window != null && window.isPessimistic(nanoClock.getAsLong());
+    }
+
+    /**
+     * Record one optimistic write attempt touching the account.
+     *
+     * @return true if this sample switched the account to pessimistic mode
+     */
+    boolean record(UUID accountId, boolean conflict) {
+        long now = nanoClock.getAsLong();
+        Window window = windows.computeIfAbsent(accountId, id -> new Window(now));
+        boolean tripped = window.record(now, conflict);
+        if (windows.size() > maxTrackedAccounts) {
+            evictIdle(now);
+        }
+        return tripped;
+    }
+
+    int pessimisticCount() {
+        long now = nanoClock.getAsLong();
+        int count = 0;
+        for (Window window : windows.values()) {
+            if (window.isPessimistic(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void evictIdle(long now) {
+        windows.values().removeIf(window -> window.isIdle(now));
+    }
+
+    private final class Window {
+
+        private long start;
+        private int attempts;
+        private int conflicts;
+        private boolean pessimistic;
+        private long pessimisticUntil;
+
+        Window(long now) {
+            this.start = now;
+        }
+
+        synchronized boolean record(long now, boolean conflict) {
+            if (now - start > windowNanos) {
+                start = now;
+                attempts = 0;
+                conflicts = 0;
+            }
+            attempts++;
+            if (conflict) {
+                conflicts++;
+            }
+            if (isPessimistic(now) || attempts < minSamples || conflicts < conflictRatio * attempts) {
+                return false;
+            }
+            pessimistic = true;
+            pessimisticUntil = now + cooldownNanos;
+            attempts = 0;
+            conflicts = 0;
+            return true;
+        }
+
+        synchronized boolean isPessimistic(long now) {
+            return pessimistic && pessimisticUntil - now > 0;
+        }
+
+        synchronized boolean isIdle(long now) {
+            return !isPessimistic(now) && now - start > windowNanos;
+        }
+    }
+}
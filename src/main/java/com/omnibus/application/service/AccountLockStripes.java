@@ -0,0 +1,74 @@
+package com.Omnibus.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.UUID;
+
+/**
+ * In-JVM striped account locks, taken before a transfer opens its database transaction.
+ * <p>
+ * Transfers contending for the same account queue here instead of each borrowing a pooled
+ * connection only to block on the row lock, so connection usage tracks actual database work.
+ * Row locks stay authoritative (other instances, batch transfers); stripes only pre-serialize
+ * work inside this JVM.
+ * <p>
+ * Stripes are fair (FIFO) and always acquired in ascending stripe order, so transfers cannot
+ * deadlock here; and because every stripe is held before any row lock is requested, no cycle
+ * can form with the database locks either.
+ */
+@Component
+public class AccountLockStripes {
+
+    private final boolean enabled;
+    private final ReentrantLock[] stripes;
+
+    public AccountLockStripes(@Value("${app.transfers.local-locks.enabled:true}") boolean enabled,
+                              @Value("${app.transfers.local-locks.stripes:1024}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Lock stripe count must be positive");
+        }
+        this.enabled = enabled;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+    }
+
+    /**
+     * Run {@code action} while holding the stripes of all given accounts.
+     */
+    public <T> T withLocks(Collection<UUID> accountIds, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        int[] order = accountIds.stream()
+                .mapToInt(this::stripeOf)
+                .sorted()
+                .distinct()
+                .toArray();
+        int held = 0;
+        try {
+            for (int stripe : order) {
+                stripes[stripe].lockInterruptibly();
+                held++;
+            }
+            return action.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an account lock", e);
+        } finally {
+            for (int i = held - 1; i >= 0; i--) {
+                stripes[order[i]].unlock();
+            }
+        }
+    }
+
+    int stripeOf(UUID accountId) {
+        int h = accountId.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), stripes.length);
+    }
+}
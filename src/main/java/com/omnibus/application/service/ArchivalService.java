@@ -0,0 +1,191 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.port.out.ArchivePort;
+import com.Omnibus.application.port.out.PartitionMaintenancePort;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.MonthlyPartition;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Moves months of ledger_entries and audit_logs past their retention to cold storage.
+ * <p>
+ * Months are exported oldest first, one archive file each (empty months included), so the
+ * archive always covers an unbroken run of months. A month's rows are deleted from the database
+ * one run after it was exported: readers pick the archive or the live table by the archive's
+ * first unarchived month, and a reader that chose the live table just before an export still
+ * finds its rows. Before a month is dropped its file is read back in full and must hold exactly
+ * as many rows as the database; otherwise the month and everything after it stay in place.
+ * <p>
+ * A run holds a cluster-wide lock, so instances never export or drop the same month at once.
+ */
+@Service
+public class ArchivalService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivalService.class);
+
+    private static final List<PartitionedTable> ARCHIVED_TABLES =
+            List.of(PartitionedTable.LEDGER_ENTRIES, PartitionedTable.AUDIT_LOGS);
+
+    private final ArchivePort archive;
+    private final PartitionMaintenancePort partitions;
+    private final TransactionTemplate transactionTemplate;
+    private final int ledgerRetentionMonths;
+    private final int auditRetentionMonths;
+    private final MeterRegistry meterRegistry;
+
+    public ArchivalService(ArchivePort archive,
+                           PartitionMaintenancePort partitions,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.archive.ledger-retention-months:24}") int ledgerRetentionMonths,
+                           @Value("${app.archive.audit-retention-months:12}") int auditRetentionMonths) {
+        if (ledgerRetentionMonths < 1 || auditRetentionMonths < 1) {
+            throw new IllegalArgumentException("app.archive retention months must be at least 1");
+        }
+        this.archive = archive;
+        this.partitions = partitions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.ledgerRetentionMonths = ledgerRetentionMonths;
+        this.auditRetentionMonths = auditRetentionMonths;
+    }
+
+    /**
+     * Delete the months exported by the previous run, then export every month now past its
+     * table's retention.
+     *
+     * @return the number of rows exported by this run
+     */
+    public long archiveExpired() {
+        return archiveExpired(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    long archiveExpired(YearMonth current) {
+        Optional<Long> exported = archive.runExclusively(() -> archiveUnlocked(current));
+        if (exported.isEmpty()) {
+            log.info("Archival is running on another instance; skipping this run");
+            return 0;
+        }
+        return exported.get();
+    }
+
+    private long archiveUnlocked(YearMonth current) {
+        long exported = 0;
+        for (PartitionedTable table : ARCHIVED_TABLES) {
+            deleteArchived(table);
+            int retention = table == PartitionedTable.AUDIT_LOGS ? auditRetentionMonths : ledgerRetentionMonths;
+            exported += exportExpired(table, current.minusMonths(retention));
+        }
+        return exported;
+    }
+
+    private void deleteArchived(PartitionedTable table) {
+        Optional<YearMonth> archivedBefore = archive.archivedBefore(table);
+        Optional<YearMonth> oldestLive = oldestLiveMonth(table);
+        if (archivedBefore.isEmpty() || oldestLive.isEmpty()) {
+            return;
+        }
+        Map<YearMonth, MonthlyPartition> attached = new HashMap<>();
+        for (MonthlyPartition partition : partitions.listMonthlyPartitions(table)) {
+            attached.put(partition.month(), partition);
+        }
+        for (YearMonth month = oldestLive.get(); month.isBefore(archivedBefore.get()); month = month.plusMonths(1)) {
+            if (!deleteVerified(table, month, attached.get(month))) {
+                meterRegistry.counter("omnibus.archive.verification.failures", "table", table.tableName()).increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drop one archived month after checking its file against the database. The count and the
+     * drop share a transaction; a month in the default partition is also checked against the
+     * number of rows its DELETE removed, and rolled back if they differ.
+     *
+     * @return false if the file is missing, damaged or does not match
+     */
+    private boolean deleteVerified(PartitionedTable table, YearMonth month, MonthlyPartition partition) {
+        OptionalLong archived;
+        try {
+            archived = archive.verifiedRowCount(table, month);
+        } catch (UncheckedIOException e) {
+            log.error("Keeping {} {} in the database: its archive file is damaged", table.tableName(), month, e);
+            return false;
+        }
+        if (archived.isEmpty()) {
+            log.error("Keeping {} {} in the database: it has no archive file", table.tableName(), month);
+            return false;
+        }
+        long expected = archived.getAsLong();
+        return transactionTemplate.execute(status -> {
+            long live = archive.countMonth(table, month);
+            if (live != expected) {
+                log.error("Keeping {} {} in the database: {} row(s) there, {} in the archive",
+                        table.tableName(), month, live, expected);
+                return false;
+            }
+            if (partition != null) {
+                partitions.dropPartition(table, partition);
+                log.info("Dropped archived partition {}", partition.name());
+                return true;
+            }
+            long deleted = archive.deleteMonth(table, month);
+            if (deleted != expected) {
+                status.setRollbackOnly();
+                log.error("Keeping {} {} in the database: deleting it removed {} row(s), {} archived",
+                        table.tableName(), month, deleted, expected);
+                return false;
+            }
+            if (deleted > 0) {
+                log.info("Deleted {} archived {} row(s) of {} outside monthly partitions",
+                        deleted, table.tableName(), month);
+            }
+            return true;
+        });
+    }
+
+    private long exportExpired(PartitionedTable table, YearMonth oldestKept) {
+        Optional<YearMonth> next = archive.archivedBefore(table).or(() -> oldestLiveMonth(table));
+        if (next.isEmpty()) {
+            return 0;
+        }
+        Counter rows = meterRegistry.counter("omnibus.archive.rows", "table", table.tableName());
+        long exported = 0;
+        for (YearMonth month = next.get(); month.isBefore(oldestKept); month = month.plusMonths(1)) {
+            YearMonth current = month;
+            long count = transactionTemplate.execute(status -> archive.exportMonth(table, current));
+            rows.increment(count);
+            exported += count;
+            log.info("Archived {} {} row(s) of {}", count, table.tableName(), month);
+        }
+        return exported;
+    }
+
+    private Optional<YearMonth> oldestLiveMonth(PartitionedTable table) {
+        Optional<YearMonth> oldestPartition = partitions.listMonthlyPartitions(table).stream()
+                .map(MonthlyPartition::month)
+                .findFirst();
+        Optional<YearMonth> oldestDefault = partitions.oldestDefaultMonth(table);
+        if (oldestPartition.isPresent() && oldestDefault.isPresent()) {
+            return Optional.of(oldestDefault.get().isBefore(oldestPartition.get())
+                    ? oldestDefault.get() : oldestPartition.get());
+        }
+        return oldestPartition.or(() -> oldestDefault);
+    }
+}
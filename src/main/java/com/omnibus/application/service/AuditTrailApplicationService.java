@@ -0,0 +1,79 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.AuditTrailEntry;
+import com.Omnibus.application.port.in.ExportAuditTrailUseCase;
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.port.out.ArchivePort;
+import com.Omnibus.application.port.out.AuditTrailPort;
+import com.Omnibus.application.port.out.AuditTrailPort.AuditRecord;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import com.Omnibus.domain.exception.AccountOwnershipException;
+import com.Omnibus.domain.exception.DomainException;
+import com.Omnibus.domain.model.Account;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams an account's audit trail: archived months from cold storage, then the rest from
+ * audit_logs. Runs in one read-only transaction so the database cursor stays open while the
+ * caller writes.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AuditTrailApplicationService implements ExportAuditTrailUseCase {
+
+    private static final String ACCOUNT_ENTITY = "ACCOUNT";
+
+    private final AccountRepositoryPort accountRepository;
+    private final AuditTrailPort auditTrail;
+    private final ArchivePort archive;
+
+    public AuditTrailApplicationService(AccountRepositoryPort accountRepository,
+                                        AuditTrailPort auditTrail,
+                                        ArchivePort archive) {
+        this.accountRepository = accountRepository;
+        this.auditTrail = auditTrail;
+        this.archive = archive;
+    }
+
+    @Override
+    public void exportAuditTrail(UUID accountId, UUID userId, Instant from, Instant to,
+                                 Consumer<AuditTrailEntry> sink) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new DomainException("Account not found: " + accountId));
+
+        if (!account.getUserId().equals(userId)) {
+            throw new AccountOwnershipException(accountId, userId);
+        }
+
+        Consumer<AuditRecord> entries = record -> sink.accept(new AuditTrailEntry(
+                record.id(),
+                record.action(),
+                record.actorId(),
+                record.balanceBefore(),
+                record.balanceAfter(),
+                record.createdAt()));
+
+        // Every archived record is older than every live one, so the archive goes first
+        Instant archivedBefore = archive.archivedBefore(PartitionedTable.AUDIT_LOGS)
+                .map(month -> month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant())
+                .orElse(Instant.MIN);
+        if (from.isBefore(archivedBefore)) {
+            archive.streamAuditRecords(ACCOUNT_ENTITY, accountId, from,
+                    to.isBefore(archivedBefore) ? to : archivedBefore, entries);
+        }
+        if (to.isAfter(archivedBefore)) {
+            auditTrail.streamByEntity(ACCOUNT_ENTITY, accountId,
+                    from.isAfter(archivedBefore) ? from : archivedBefore, to, entries);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.Omnibus.application.dto.LoginCommand;
 import com.Omnibus.application.dto.RegisterCommand;
 import com.Omnibus.application.dto.UserProfileResponse;
 import com.Omnibus.application.port.in.AuthUseCase;
+import com.Omnibus.application.port.out.AccountLookupPort;
 import com.Omnibus.application.port.out.AccountRepositoryPort;
 import com.Omnibus.application.port.out.PasswordEncoderPort;
 import com.Omnibus.application.port.out.TokenProviderPort;
@@ -29,15 +30,18 @@ public class AuthApplicationService implements AuthUseCase {
     private final AccountRepositoryPort accountRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final TokenProviderPort jwtTokenProvider;
+    private final AccountLookupPort accountLookup;
 
     public AuthApplicationService(UserRepositoryPort userRepository,
             AccountRepositoryPort accountRepository,
             PasswordEncoderPort passwordEncoder,
-            TokenProviderPort jwtTokenProvider) {
+            TokenProviderPort jwtTokenProvider,
+            AccountLookupPort accountLookup) {
         this.userRepository = userRepository;
         this.accountRepository = accountRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.accountLookup = accountLookup;
     }
 
     @Override
@@ -68,6 +72,8 @@ public class AuthApplicationService implements AuthUseCase {
                 Money.of("10000.0000", "USD"), // Starting balance for demo
                 AccountStatus.ACTIVE);
         accountRepository.save(account);
+        // The name may be cached as "not found" by the recipient lookup
+        accountLookup.invalidate(savedUser.getUsername());
 
         // Generate JWT
         String token = jwtTokenProvider.generateToken(savedUser.getId(), savedUser.getUsername());
@@ -109,7 +115,7 @@ public class AuthApplicationService implements AuthUseCase {
                         account.getId(),
                         account.getUserId(),
                         account.getAccountNumber(),
-                        account.getBalance().getAmount(),
+                        account.getTotalBalance().getAmount(),
                         account.getBalance().getCurrency(),
                         account.getStatus().name(),
                         account.getCreatedAt()))
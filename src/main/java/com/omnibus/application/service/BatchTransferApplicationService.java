@@ -0,0 +1,208 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.BatchTransferCommand;
+import com.Omnibus.application.dto.BatchTransferResult;
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.in.BatchTransferUseCase;
+import com.Omnibus.application.port.out.*;
+import com.Omnibus.domain.exception.*;
+import com.Omnibus.domain.model.*;
+import com.Omnibus.domain.service.TransferDomainService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Orchestrates the batch transfer use case:
+ * 1. Claim the batch idempotency key (a retry by the same user replays the stored result)
+ * 2. Lock every involved account once, in ascending UUID order, draining any sub-balance buckets
+ * 3. Execute each leg via the domain service against the locked accounts
+ * 4. Persist transactions + ledger entries in one statement, then each touched account once
+ * 5. Write one audit entry per touched account (net balance change)
+ * 6. Store the batch result under the idempotency key
+ * <p>
+ * In {@link BatchTransferCommand.Mode#ALL_OR_NOTHING} mode the first failing leg
+ * rolls back the whole batch. In {@link BatchTransferCommand.Mode#BEST_EFFORT} mode
+ * failing legs are reported in the result and the rest commit.
+ */
+@Service
+public class BatchTransferApplicationService implements BatchTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchTransferApplicationService.class);
+
+    private final TransferDomainService transferDomainService;
+    private final AccountRepositoryPort accountRepository;
+    private final TransactionRepositoryPort transactionRepository;
+    private final IdempotencyStorePort idempotencyStore;
+    private final AuditLogPort auditLog;
+    private final int maxLegs;
+
+    public BatchTransferApplicationService(TransferDomainService transferDomainService,
+                                           AccountRepositoryPort accountRepository,
+                                           TransactionRepositoryPort transactionRepository,
+                                           IdempotencyStorePort idempotencyStore,
+                                           AuditLogPort auditLog,
+                                           @Value("${app.transfers.batch.max-legs:1000}") int maxLegs) {
+        this.transferDomainService = transferDomainService;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.idempotencyStore = idempotencyStore;
+        this.auditLog = auditLog;
+        this.maxLegs = maxLegs;
+    }
+
+    @Override
+    @Transactional
+    public BatchTransferResult execute(BatchTransferCommand command) {
+        List<BatchTransferCommand.Leg> legs = command.legs();
+        if (legs == null || legs.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one leg");
+        }
+        if (legs.size() > maxLegs) {
+            throw new IllegalArgumentException("Batch must not exceed " + maxLegs + " legs");
+        }
+        log.info("Processing batch transfer: {} legs, mode={}", legs.size(), command.mode());
+
+        // ---- Step 1: Idempotency Check ----
+        if (command.idempotencyKey() != null
+                && !idempotencyStore.tryInsert(command.idempotencyKey(), command.actorId())) {
+            log.info("Duplicate batch idempotency key detected: {}", command.idempotencyKey());
+            return IdempotencyReplay.resolveBatch(idempotencyStore, command.idempotencyKey(), command.actorId());
+        }
+
+        // ---- Step 2: Lock every involved account once, in ascending UUID order ----
+        SortedSet<UUID> sortedIds = new TreeSet<>();
+        for (BatchTransferCommand.Leg leg : legs) {
+            sortedIds.add(leg.sourceAccountId());
+            sortedIds.add(leg.targetAccountId());
+        }
+        Map<UUID, Account> locked = new HashMap<>();
+        Set<UUID> consolidated = new HashSet<>();
+        for (Account account : accountRepository.findAllByIdForUpdate(new ArrayList<>(sortedIds))) {
+            // A hot account may hold part of its funds in buckets — fold them in under the row lock
+            if (account.getBucketBalance() != null) {
+                account.consolidate(Money.of(accountRepository.drainBalanceBuckets(account.getId()),
+                        account.getBalance().getCurrency()));
+                consolidated.add(account.getId());
+            }
+            locked.put(account.getId(), account);
+        }
+
+        // Capture before-state for audit (insertion-ordered so audit rows follow lock order)
+        Map<UUID, BigDecimal> balancesBefore = new LinkedHashMap<>();
+
+        // ---- Step 3: Execute each leg against the locked accounts ----
+        List<BatchTransferResult.LegResult> results = new ArrayList<>(legs.size());
+        List<Transaction> transactions = new ArrayList<>();
+        List<LedgerEntry> entries = new ArrayList<>();
+        int failed = 0;
+
+        for (int i = 0; i < legs.size(); i++) {
+            BatchTransferCommand.Leg leg = legs.get(i);
+            Transaction transaction = null;
+            try {
+                Account source = requireLocked(locked, leg.sourceAccountId());
+                Account target = requireLocked(locked, leg.targetAccountId());
+
+                // Authorization: verify the requesting user owns the source account
+                if (!source.getUserId().equals(command.actorId())) {
+                    throw new AccountOwnershipException(source.getId(), command.actorId());
+                }
+
+                // Reject currency mismatches up front so a failed leg never leaves a half-applied debit
+                Money amount = Money.of(leg.amount(), leg.currency());
+                if (!amount.getCurrency().equals(source.getBalance().getCurrency())
+                        || !amount.getCurrency().equals(target.getBalance().getCurrency())) {
+                    throw new IllegalArgumentException("Currency mismatch for leg " + i);
+                }
+
+                transaction = new Transaction(UUID.randomUUID(), TransactionType.TRANSFER,
+                        source.getId(), target.getId(), amount, leg.description());
+
+                balancesBefore.putIfAbsent(source.getId(), source.getBalance().getAmount());
+                balancesBefore.putIfAbsent(target.getId(), target.getBalance().getAmount());
+
+                TransferDomainService.TransferResult domainResult =
+                        transferDomainService.executeTransfer(source, target, amount, transaction);
+
+                transactions.add(transaction);
+                entries.add(domainResult.debitEntry());
+                entries.add(domainResult.creditEntry());
+                results.add(new BatchTransferResult.LegResult(i, TransactionStatus.COMPLETED.name(),
+                        new TransferResult(
+                                transaction.getId(),
+                                source.getId(),
+                                target.getId(),
+                                leg.amount(),
+                                leg.currency(),
+                                domainResult.sourceBalanceAfter().getAmount(),
+                                domainResult.targetBalanceAfter().getAmount(),
+                                transaction.getStatus().name(),
+                                transaction.getCompletedAt(),
+                                false),
+                        null));
+            } catch (DomainException | IllegalArgumentException e) {
+                if (transaction != null) {
+                    transaction.markFailed();
+                    auditLog.logTransactionEvent(transaction.getId(), command.actorId(), "TRANSFER_FAILED",
+                            null, "{\"error\": \"" + e.getMessage() + "\"}");
+                }
+                if (command.mode() == BatchTransferCommand.Mode.ALL_OR_NOTHING) {
+                    throw new BatchTransferAbortedException(i, e);
+                }
+                failed++;
+                results.add(new BatchTransferResult.LegResult(i, TransactionStatus.FAILED.name(),
+                        null, e.getMessage()));
+            }
+        }
+
+        // ---- Step 4: Persist everything (each touched account is written once) ----
+        if (!transactions.isEmpty()) {
+            transactionRepository.saveAllWithEntries(transactions, entries);
+        }
+        // Drained accounts are written even if no leg touched them, or their bucket funds would be lost
+        Set<UUID> written = new LinkedHashSet<>(balancesBefore.keySet());
+        written.addAll(consolidated);
+        accountRepository.updateBalances(written.stream().map(locked::get).toList());
+
+        // ---- Step 5: Audit log — one entry per touched account ----
+        for (Map.Entry<UUID, BigDecimal> before : balancesBefore.entrySet()) {
+            BigDecimal after = locked.get(before.getKey()).getBalance().getAmount();
+            if (after.compareTo(before.getValue()) == 0) {
+                continue;
+            }
+            auditLog.logAccountChange(
+                    before.getKey(), command.actorId(), "BATCH_TRANSFER",
+                    "{\"balance\": " + before.getValue() + "}",
+                    "{\"balance\": " + after + "}",
+                    before.getValue(),
+                    after
+            );
+        }
+
+        log.info("Batch transfer completed: {} succeeded, {} failed", transactions.size(), failed);
+
+        BatchTransferResult result = new BatchTransferResult(
+                command.mode().name(), transactions.size(), failed, results, false);
+
+        // ---- Step 6: Store the result so a retry with the same key is replayed ----
+        if (command.idempotencyKey() != null) {
+            idempotencyStore.updateBatchResponse(command.idempotencyKey(), command.actorId(), 200, result);
+        }
+
+        return result;
+    }
+
+    private Account requireLocked(Map<UUID, Account> locked, UUID accountId) {
+        Account account = locked.get(accountId);
+        if (account == null) {
+            throw new AccountNotFoundException(accountId);
+        }
+        return account;
+    }
+}
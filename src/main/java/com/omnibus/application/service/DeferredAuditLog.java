@@ -0,0 +1,45 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.port.out.AuditLogPort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Holds audit events back until the caller knows its transaction committed.
+ * <p>
+ * The real {@link AuditLogPort} records an event as soon as it is called, even if the
+ * transaction later rolls back. Engines that share one commit between several transfers log into
+ * this buffer instead and {@link #replayTo replay} it once the commit outcome is known, so a
+ * transfer that is re-run after a failed commit is not audited twice.
+ */
+final class DeferredAuditLog implements AuditLogPort {
+
+    private final List<Consumer<AuditLogPort>> events = new ArrayList<>();
+
+    @Override
+    public void logAccountChange(UUID accountId, UUID actorId, String action,
+                                 String beforeSnapshot, String afterSnapshot,
+                                 BigDecimal balanceBefore, BigDecimal balanceAfter) {
+        events.add(audit -> audit.logAccountChange(accountId, actorId, action,
+                beforeSnapshot, afterSnapshot, balanceBefore, balanceAfter));
+    }
+
+    @Override
+    public void logTransactionEvent(UUID transactionId, UUID actorId, String action,
+                                    String beforeSnapshot, String afterSnapshot) {
+        events.add(audit -> audit.logTransactionEvent(transactionId, actorId, action,
+                beforeSnapshot, afterSnapshot));
+    }
+
+    /**
+     * Send the held events to {@code audit} in call order and forget them.
+     */
+    void replayTo(AuditLogPort audit) {
+        events.forEach(event -> event.accept(audit));
+        events.clear();
+    }
+}
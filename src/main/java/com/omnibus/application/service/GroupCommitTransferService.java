@@ -0,0 +1,347 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.TransferCommand;
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.in.CreateTransferUseCase;
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.port.out.AuditLogPort;
+import com.Omnibus.application.port.out.SavepointPort;
+import com.Omnibus.domain.exception.TransferOutcomeUnknownException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit transfer engine ({@code app.transfers.engine=group-commit}).
+ * <p>
+ * Callers queue their transfer and wait. Committer threads collect transfers on disjoint accounts
+ * for up to {@code max-wait-micros}, or until {@code max-size} are gathered, and run the group in
+ * one database transaction, so the group shares a single commit (and WAL flush). Every transfer
+ * runs the row-locking {@link TransferApplicationService} logic under its own savepoint; a
+ * failing transfer rolls back only its savepoint. Responses are released after the shared commit.
+ * <p>
+ * The group takes the {@link AccountLockStripes} of every member, then locks all of its account
+ * rows up front in ascending id order, so concurrent groups and the other engines' transactions
+ * never deadlock with it. A transfer that shares an account with the group being built waits for
+ * the next group. Audit events are held back until the commit outcome is known.
+ * <p>
+ * If the group fails before COMMIT is sent, nothing was written and each successful member is
+ * re-run on its own by the row-locking engine. If COMMIT itself fails, the group may or may not
+ * have been applied: its members are not re-run but fail with
+ * {@link TransferOutcomeUnknownException}, and a client retry with the same idempotency key
+ * resolves them.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "app.transfers.engine", havingValue = "group-commit")
+public class GroupCommitTransferService implements CreateTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitTransferService.class);
+
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final TransferApplicationService pessimisticEngine;
+    private final AccountRepositoryPort accountRepository;
+    private final SavepointPort savepoints;
+    private final AuditLogPort auditLog;
+    private final AccountLockStripes lockStripes;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Pending> queue;
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final int committerCount;
+    private final long shutdownTimeoutMs;
+
+    private final DistributionSummary groupSize;
+    private final Counter savepointRollbacks;
+    private final Counter fallbacks;
+    private final Counter outcomeUnknown;
+
+    private final List<Thread> committers = new ArrayList<>();
+    private volatile boolean running;
+
+    public GroupCommitTransferService(TransferApplicationService pessimisticEngine,
+                                      AccountRepositoryPort accountRepository,
+                                      SavepointPort savepoints,
+                                      AuditLogPort auditLog,
+                                      AccountLockStripes lockStripes,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.transfers.group-commit.max-size:32}") int maxSize,
+                                      @Value("${app.transfers.group-commit.max-wait-micros:500}") long maxWaitMicros,
+                                      @Value("${app.transfers.group-commit.committers:4}") int committerCount,
+                                      @Value("${app.transfers.group-commit.queue-capacity:4096}") int queueCapacity,
+                                      @Value("${app.transfers.group-commit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        if (maxSize < 1 || committerCount < 1) {
+            throw new IllegalArgumentException("app.transfers.group-commit.max-size and committers must be at least 1");
+        }
+        this.pessimisticEngine = pessimisticEngine;
+        this.accountRepository = accountRepository;
+        this.savepoints = savepoints;
+        this.auditLog = auditLog;
+        this.lockStripes = lockStripes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxSize = maxSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.committerCount = committerCount;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        this.groupSize = DistributionSummary.builder("omnibus.transfers.group-commit.size")
+                .description("Transfers sharing one commit")
+                .register(meterRegistry);
+        Gauge.builder("omnibus.transfers.group-commit.queue.depth", queue, BlockingQueue::size)
+                .description("Transfers waiting to join a group")
+                .register(meterRegistry);
+        this.savepointRollbacks = meterRegistry.counter("omnibus.transfers.group-commit.savepoint.rollbacks");
+        this.fallbacks = meterRegistry.counter("omnibus.transfers.group-commit.fallbacks");
+        this.outcomeUnknown = meterRegistry.counter("omnibus.transfers.group-commit.outcome-unknown");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < committerCount; i++) {
+            committers.add(Thread.ofPlatform().name("transfer-group-commit-" + i).daemon(true).start(this::runCommitter));
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread committer : committers) {
+            committer.join(shutdownTimeoutMs);
+            if (committer.isAlive()) {
+                log.warn("Group committer {} did not drain within {} ms", committer.getName(), shutdownTimeoutMs);
+                committer.interrupt();
+            }
+        }
+    }
+
+    @Override
+    public TransferResult execute(TransferCommand command) {
+        if (!running) {
+            return pessimisticEngine.execute(command);
+        }
+        Pending pending = new Pending(command, pessimisticEngine.lockedAccountIds(command), new CompletableFuture<>());
+        try {
+            // A full queue blocks the caller (back-pressure)
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a transfer", e);
+        }
+
+        TransferResult result;
+        try {
+            result = pending.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        // Null means the shared commit failed — run the transfer on its own instead
+        return result != null ? result : pessimisticEngine.execute(command);
+    }
+
+    private void runCommitter() {
+        // Transfers that overlapped an earlier group; they lead the next one
+        Deque<Pending> carried = new ArrayDeque<>();
+        List<Pending> group = new ArrayList<>(maxSize);
+        while (running || !queue.isEmpty() || !carried.isEmpty()) {
+            try {
+                collect(group, carried);
+                if (!group.isEmpty()) {
+                    groupSize.record(group.size());
+                    commit(group);
+                    group.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // Anything left after an interrupted shutdown runs on its caller's thread
+        group.addAll(carried);
+        queue.drainTo(group);
+        group.forEach(pending -> pending.future.complete(null));
+    }
+
+    /**
+     * Fills {@code group} with transfers on pairwise-disjoint accounts: carried-over transfers
+     * first, then the queue until the group is full or its window closes.
+     */
+    private void collect(List<Pending> group, Deque<Pending> carried) throws InterruptedException {
+        Set<UUID> accounts = new HashSet<>();
+        Iterator<Pending> it = carried.iterator();
+        while (it.hasNext() && group.size() < maxSize) {
+            Pending pending = it.next();
+            if (admit(pending, group, accounts)) {
+                it.remove();
+            }
+        }
+
+        if (group.isEmpty()) {
+            Pending first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return;
+            }
+            admit(first, group, accounts);
+        }
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (group.size() < maxSize) {
+            long remaining = deadline - System.nanoTime();
+            Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                return;
+            }
+            if (!admit(next, group, accounts)) {
+                carried.add(next);
+            }
+        }
+    }
+
+    private static boolean admit(Pending pending, List<Pending> group, Set<UUID> accounts) {
+        UUID source = pending.command.sourceAccountId();
+        UUID target = pending.command.targetAccountId();
+        if (accounts.contains(source) || accounts.contains(target)) {
+            return false;
+        }
+        accounts.add(source);
+        accounts.add(target);
+        group.add(pending);
+        return true;
+    }
+
+    private void commit(List<Pending> group) {
+        Set<UUID> lockIds = new TreeSet<>();
+        group.forEach(pending -> lockIds.addAll(pending.lockedIds));
+        List<Outcome> outcomes = new ArrayList<>(group.size());
+        boolean[] commitSent = {false};
+        try {
+            // The stripes the row-locking engine takes, so local transfers on these accounts queue here
+            lockStripes.withLocks(lockIds, () -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    runGroup(group, lockIds, outcomes, status);
+                    commitSent[0] = true;
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            if (commitSent[0]) {
+                failUnknown(group, outcomes, e);
+            } else {
+                rerun(group, outcomes, e);
+            }
+            return;
+        }
+
+        // Committed: audit, then release every response
+        for (int i = 0; i < group.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            outcome.audit.replayTo(auditLog);
+            if (outcome.failure != null) {
+                group.get(i).future.completeExceptionally(outcome.failure);
+            } else {
+                group.get(i).future.complete(outcome.result);
+            }
+        }
+    }
+
+    /**
+     * The group rolled back before COMMIT: members that failed keep their failure, the rest are
+     * run again one by one on their callers' threads.
+     */
+    private void rerun(List<Pending> group, List<Outcome> outcomes, RuntimeException e) {
+        log.warn("Group of {} transfer(s) rolled back before commit — running them one by one: {}",
+                group.size(), e.getMessage());
+        for (int i = 0; i < group.size(); i++) {
+            Outcome outcome = i < outcomes.size() ? outcomes.get(i) : null;
+            if (outcome != null && outcome.failure != null) {
+                outcome.audit.replayTo(auditLog);
+                group.get(i).future.completeExceptionally(outcome.failure);
+            } else {
+                fallbacks.increment();
+                group.get(i).future.complete(null);
+            }
+        }
+    }
+
+    /**
+     * COMMIT failed and the group may or may not be in the database; re-running it could apply
+     * a transfer twice.
+     */
+    private void failUnknown(List<Pending> group, List<Outcome> outcomes, RuntimeException e) {
+        log.error("Commit of a group of {} transfer(s) failed with an unknown outcome", group.size(), e);
+        for (int i = 0; i < group.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            outcome.audit.replayTo(auditLog);
+            if (outcome.failure != null) {
+                group.get(i).future.completeExceptionally(outcome.failure);
+                continue;
+            }
+            outcomeUnknown.increment();
+            UUID transactionId = outcome.result.transactionId();
+            auditLog.logTransactionEvent(transactionId, group.get(i).command.actorId(), "TRANSFER_OUTCOME_UNKNOWN",
+                    null, "{\"error\": \"commit failed\"}");
+            group.get(i).future.completeExceptionally(new TransferOutcomeUnknownException(transactionId, e));
+        }
+    }
+
+    private void runGroup(List<Pending> group, Set<UUID> lockIds, List<Outcome> outcomes, TransactionStatus status) {
+        // One ascending lock pass for the whole group — the same order every other engine uses
+        accountRepository.findAllByIdForUpdate(new ArrayList<>(lockIds));
+
+        for (Pending pending : group) {
+            DeferredAuditLog audit = new DeferredAuditLog();
+            // Flush around each savepoint so no deferred JPA write lands inside another transfer's savepoint
+            status.flush();
+            String savepoint = savepoints.set();
+            try {
+                TransferResult result = pessimisticEngine.executeLocked(pending.command, audit);
+                status.flush();
+                savepoints.release(savepoint);
+                outcomes.add(new Outcome(result, null, audit));
+            } catch (RuntimeException e) {
+                savepoints.rollbackTo(savepoint);
+                savepointRollbacks.increment();
+                outcomes.add(new Outcome(null, e, audit));
+            }
+        }
+    }
+
+    private record Pending(TransferCommand command, List<UUID> lockedIds, CompletableFuture<TransferResult> future) {
+    }
+
+    private record Outcome(TransferResult result, RuntimeException failure, DeferredAuditLog audit) {
+    }
+}
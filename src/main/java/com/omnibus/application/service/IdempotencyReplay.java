@@ -0,0 +1,51 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.BatchTransferResult;
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.out.IdempotencyStorePort;
+import com.Omnibus.domain.exception.DomainException;
+import com.Omnibus.domain.exception.DuplicateIdempotencyKeyException;
+
+import java.util.UUID;
+
+/**
+ * Replay handling shared by the transfer engines once an idempotency key turns out to be taken.
+ * <p>
+ * Keys are chosen by clients, so a stored response is only replayed to the user who claimed the
+ * key; anyone else gets the same 409 as a duplicate in flight and never sees the stored body.
+ */
+final class IdempotencyReplay {
+
+    private IdempotencyReplay() {
+    }
+
+    static TransferResult resolve(IdempotencyStorePort idempotencyStore, String idempotencyKey, UUID actorId) {
+        var cached = idempotencyStore.findByKey(idempotencyKey);
+        if (cached.isPresent()
+                && (!cached.get().userId().equals(actorId) || cached.get().batchResponseBody() != null)) {
+            // Someone else's key, or one already spent on a batch
+            throw new DuplicateIdempotencyKeyException(idempotencyKey);
+        }
+        if (cached.isPresent() && cached.get().responseBody() != null) {
+            // Return the stored response, flagged as replayed
+            return cached.get().responseBody().asReplay();
+        }
+        // Key exists but response not yet cached — the first request might still be in-flight
+        // This happens due to the same-transaction semantics. Throw conflict.
+        throw new DomainException("Request with this idempotency key is currently being processed");
+    }
+
+    /**
+     * Batch counterpart of {@link #resolve}: replays the stored batch result to its owner. A key
+     * that is still in flight, belongs to someone else or was spent on a single transfer is a 409.
+     */
+    static BatchTransferResult resolveBatch(IdempotencyStorePort idempotencyStore, String idempotencyKey,
+                                            UUID actorId) {
+        var cached = idempotencyStore.findByKey(idempotencyKey);
+        if (cached.isPresent() && cached.get().userId().equals(actorId)
+                && cached.get().batchResponseBody() != null) {
+            return cached.get().batchResponseBody().asReplay();
+        }
+        throw new DuplicateIdempotencyKeyException(idempotencyKey);
+    }
+}
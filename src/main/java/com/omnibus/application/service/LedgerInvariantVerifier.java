@@ -0,0 +1,240 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.LedgerVerificationResult;
+import com.Omnibus.application.port.out.LedgerVerificationPort;
+import com.Omnibus.application.port.out.LedgerVerificationPort.AccountBalance;
+import com.Omnibus.application.port.out.LedgerVerificationPort.OpenTransaction;
+import com.Omnibus.application.port.out.LedgerVerificationPort.ShardCheckpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streaming reconciliation of the double-entry invariants:
+ * <ul>
+ *   <li>every transaction's debits equal its credits, and</li>
+ *   <li>every account's stored total balance equals its running balance recomputed from the ledger.</li>
+ * </ul>
+ * The ledger is split into {@code shards} shards by account and transaction hash; each shard runs
+ * in its own REPEATABLE READ transaction, so its ledger cursor, tail and account totals share one
+ * snapshot, and shards run in parallel. A run reads only entries created after the shard's
+ * checkpoint, up to {@code settle-seconds} before now (entries are timestamped before they commit).
+ * <p>
+ * Memory does not grow with the ledger: running balances and still-open transactions live in
+ * {@link UuidLongMap}s of ten-thousandths, and rows are pulled through a server-side cursor.
+ * Two instances verifying the same shard conflict on its checkpoint row; the later commit fails.
+ */
+@Service
+public class LedgerInvariantVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerInvariantVerifier.class);
+
+    private static final int SCALE = 4;
+    private static final long ABSENT = Long.MIN_VALUE;
+    private static final int MAX_REPORTED = 100;
+
+    private final LedgerVerificationPort ledgerVerification;
+    private final TransactionTemplate transactionTemplate;
+    private final int shards;
+    private final Duration settle;
+    private final ExecutorService executor;
+
+    private final Counter entriesVerified;
+    private final Counter transactionViolations;
+    private final Counter balanceViolations;
+    private final Timer shardDuration;
+
+    public LedgerInvariantVerifier(LedgerVerificationPort ledgerVerification,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.ledger.verifier.shards:4}") int shards,
+                                   @Value("${app.ledger.verifier.parallelism:2}") int parallelism,
+                                   @Value("${app.ledger.verifier.settle-seconds:60}") long settleSeconds) {
+        if (shards < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("app.ledger.verifier.shards and parallelism must be at least 1");
+        }
+        this.ledgerVerification = ledgerVerification;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.shards = shards;
+        this.settle = Duration.ofSeconds(settleSeconds);
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("ledger-verifier-", 0).daemon(true).factory());
+
+        this.entriesVerified = meterRegistry.counter("omnibus.ledger.verifier.entries");
+        this.transactionViolations = meterRegistry.counter("omnibus.ledger.verifier.violations", "type", "transaction");
+        this.balanceViolations = meterRegistry.counter("omnibus.ledger.verifier.violations", "type", "balance");
+        this.shardDuration = Timer.builder("omnibus.ledger.verifier.shard.duration")
+                .description("Time to verify one ledger shard")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verify every shard, {@code parallelism} at a time.
+     */
+    public List<LedgerVerificationResult> verifyAll() {
+        List<Future<LedgerVerificationResult>> futures = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            int current = shard;
+            futures.add(executor.submit(() -> verifyShard(current)));
+        }
+        List<LedgerVerificationResult> results = new ArrayList<>(shards);
+        for (Future<LedgerVerificationResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while verifying the ledger", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new CompletionException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    public LedgerVerificationResult verifyShard(int shard) {
+        return shardDuration.record(() -> transactionTemplate.execute(status -> runShard(shard)));
+    }
+
+    private LedgerVerificationResult runShard(int shard) {
+        Instant upTo = Instant.now().minus(settle).truncatedTo(ChronoUnit.MICROS);
+        Optional<ShardCheckpoint> checkpoint = ledgerVerification.loadCheckpoint(shards, shard);
+        Instant after = checkpoint.map(ShardCheckpoint::verifiedUpTo).orElse(null);
+        if (after != null && !upTo.isAfter(after)) {
+            return new LedgerVerificationResult(shard, after, 0, 0, 0, List.of(), List.of());
+        }
+
+        // value: running balance; tag: 1 if changed in this run
+        UuidLongMap balances = new UuidLongMap(1024);
+        ledgerVerification.loadBalances(shards, shard, (accountId, balance) ->
+                balances.put(accountId, units(balance), 0));
+        // value: net so far; tag: first seen (epoch micros)
+        UuidLongMap open = new UuidLongMap(64);
+        ledgerVerification.loadOpenTransactions(shards, shard, transaction ->
+                open.put(transaction.transactionId(), units(transaction.net()), micros(transaction.firstSeen())));
+
+        long[] entries = {0};
+        ledgerVerification.streamEntries(shards, shard, after, upTo, entry -> {
+            entries[0]++;
+            long amount = units(entry.amount());
+            if (entry.accountInShard()) {
+                long running = balances.get(entry.accountId(), ABSENT);
+                // An account's first entry carries its opening balance in balance_after
+                long next = running == ABSENT ? units(entry.balanceAfter()) : Math.addExact(running, amount);
+                balances.put(entry.accountId(), next, 1);
+            }
+            if (entry.transactionInShard()) {
+                long net = open.get(entry.transactionId(), ABSENT);
+                if (net == ABSENT) {
+                    open.put(entry.transactionId(), amount, micros(entry.createdAt()));
+                } else if (net + amount == 0) {
+                    open.remove(entry.transactionId());
+                } else {
+                    open.put(entry.transactionId(), net + amount, open.tag(entry.transactionId(), 0));
+                }
+            }
+        });
+
+        // A transaction still open well before the cut-off will not receive more entries
+        long graceLimit = micros(upTo.minus(settle));
+        List<UUID> unbalanced = new ArrayList<>();
+        List<OpenTransaction> stillOpen = new ArrayList<>();
+        long[] transactionCount = {0};
+        open.forEach((transactionId, net, firstSeen) -> {
+            if (firstSeen < graceLimit) {
+                transactionCount[0]++;
+                log.error("Ledger invariant violated: transaction {} debits and credits differ by {}",
+                        transactionId, decimal(net));
+                if (unbalanced.size() < MAX_REPORTED) {
+                    unbalanced.add(transactionId);
+                }
+            } else {
+                stillOpen.add(new OpenTransaction(transactionId, decimal(net),
+                        Instant.EPOCH.plus(firstSeen, ChronoUnit.MICROS)));
+            }
+        });
+
+        // Stored totals include entries after the cut-off; add them to the verified balance
+        UuidLongMap tail = new UuidLongMap(64);
+        ledgerVerification.streamTail(shards, shard, upTo, (accountId, delta) -> tail.put(accountId, units(delta), 0));
+        List<UUID> mismatched = new ArrayList<>();
+        long[] balanceCount = {0};
+        ledgerVerification.streamAccountTotals(shards, shard, (accountId, total) -> {
+            long verified = balances.get(accountId, ABSENT);
+            if (verified == ABSENT) {
+                return;
+            }
+            long expected = Math.addExact(verified, tail.get(accountId, 0));
+            if (expected != units(total)) {
+                balanceCount[0]++;
+                log.error("Ledger invariant violated: account {} stores {} but its ledger sums to {}",
+                        accountId, total, decimal(expected));
+                if (mismatched.size() < MAX_REPORTED) {
+                    mismatched.add(accountId);
+                }
+            }
+        });
+
+        List<AccountBalance> changed = new ArrayList<>();
+        balances.forEach((accountId, balance, dirty) -> {
+            if (dirty != 0) {
+                changed.add(new AccountBalance(accountId, decimal(balance)));
+            }
+        });
+        long violations = transactionCount[0] + balanceCount[0];
+        ledgerVerification.saveState(shards, shard, new ShardCheckpoint(upTo,
+                        checkpoint.map(ShardCheckpoint::entriesVerified).orElse(0L) + entries[0],
+                        checkpoint.map(ShardCheckpoint::violations).orElse(0L) + violations),
+                changed, stillOpen);
+
+        entriesVerified.increment(entries[0]);
+        transactionViolations.increment(transactionCount[0]);
+        balanceViolations.increment(balanceCount[0]);
+        log.debug("Verified ledger shard {}/{} up to {}: {} entries, {} violation(s)",
+                shard, shards, upTo, entries[0], violations);
+        return new LedgerVerificationResult(shard, upTo, entries[0], transactionCount[0], balanceCount[0],
+                unbalanced, mismatched);
+    }
+
+    private static long units(BigDecimal amount) {
+        return amount.setScale(SCALE).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal decimal(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    private static long micros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+}
@@ -0,0 +1,263 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.TransferCommand;
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.in.CreateTransferUseCase;
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.port.out.AuditLogPort;
+import com.Omnibus.application.port.out.IdempotencyStorePort;
+import com.Omnibus.application.port.out.TransactionRepositoryPort;
+import com.Omnibus.domain.exception.AccountOwnershipException;
+import com.Omnibus.domain.exception.DomainException;
+import com.Omnibus.domain.model.Account;
+import com.Omnibus.domain.model.Money;
+import com.Omnibus.domain.model.Transaction;
+import com.Omnibus.domain.model.TransactionType;
+import com.Omnibus.domain.service.TransferDomainService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Optimistic-concurrency transfer engine for low-contention accounts
+ * ({@code app.transfers.engine=optimistic}).
+ * <p>
+ * Each attempt reads both accounts without {@code FOR UPDATE}, applies the domain transfer and
+ * writes the balances back with a version-checked {@code UPDATE}. If either row changed in the
+ * meantime the attempt's transaction is rolled back and retried after a jittered backoff, up to
+ * {@code max-attempts}. Transfers that exhaust their retries, touch a sharded (hot) account, or
+ * touch an account whose recent conflict ratio crossed the fallback threshold are handed to the
+ * row-locking {@link TransferApplicationService}.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "app.transfers.engine", havingValue = "optimistic")
+public class OptimisticTransferService implements CreateTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticTransferService.class);
+
+    private final TransferDomainService transferDomainService;
+    private final AccountRepositoryPort accountRepository;
+    private final TransactionRepositoryPort transactionRepository;
+    private final IdempotencyStorePort idempotencyStore;
+    private final AuditLogPort auditLog;
+    private final ShardedBalancePolicy shardedBalancePolicy;
+    private final TransferApplicationService pessimisticEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountContentionTracker contention;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+
+    private final Counter commits;
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter contendedFallbacks;
+    private final Counter exhaustedFallbacks;
+
+    public OptimisticTransferService(TransferDomainService transferDomainService,
+                                     AccountRepositoryPort accountRepository,
+                                     TransactionRepositoryPort transactionRepository,
+                                     IdempotencyStorePort idempotencyStore,
+                                     AuditLogPort auditLog,
+                                     ShardedBalancePolicy shardedBalancePolicy,
+                                     TransferApplicationService pessimisticEngine,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.transfers.optimistic.max-attempts:4}") int maxAttempts,
+                                     @Value("${app.transfers.optimistic.backoff-base-ms:2}") long backoffBaseMs,
+                                     @Value("${app.transfers.optimistic.backoff-max-ms:50}") long backoffMaxMs,
+                                     @Value("${app.transfers.optimistic.fallback.conflict-ratio:0.3}") double conflictRatio,
+                                     @Value("${app.transfers.optimistic.fallback.min-samples:20}") int minSamples,
+                                     @Value("${app.transfers.optimistic.fallback.window-ms:10000}") long windowMs,
+                                     @Value("${app.transfers.optimistic.fallback.cooldown-ms:60000}") long cooldownMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("app.transfers.optimistic.max-attempts must be at least 1");
+        }
+        this.transferDomainService = transferDomainService;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.idempotencyStore = idempotencyStore;
+        this.auditLog = auditLog;
+        this.shardedBalancePolicy = shardedBalancePolicy;
+        this.pessimisticEngine = pessimisticEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.contention = new AccountContentionTracker(conflictRatio, minSamples, windowMs, cooldownMs,
+                100_000, System::nanoTime);
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+
+        this.commits = meterRegistry.counter("omnibus.transfers.optimistic.commits");
+        this.conflicts = meterRegistry.counter("omnibus.transfers.optimistic.conflicts");
+        this.retries = meterRegistry.counter("omnibus.transfers.optimistic.retries");
+        this.contendedFallbacks = meterRegistry.counter("omnibus.transfers.optimistic.fallbacks", "reason", "contended");
+        this.exhaustedFallbacks = meterRegistry.counter("omnibus.transfers.optimistic.fallbacks", "reason", "retries-exhausted");
+        Gauge.builder("omnibus.transfers.optimistic.pessimistic.accounts", contention,
+                        AccountContentionTracker::pessimisticCount)
+                .description("Accounts currently routed to the row-locking engine after repeated conflicts")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TransferResult execute(TransferCommand command) {
+        UUID sourceId = command.sourceAccountId();
+        UUID targetId = command.targetAccountId();
+
+        if (shardedBalancePolicy.isSharded(sourceId) || shardedBalancePolicy.isSharded(targetId)
+                || contention.isPessimistic(sourceId) || contention.isPessimistic(targetId)) {
+            contendedFallbacks.increment();
+            return pessimisticEngine.execute(command);
+        }
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            // A null result means the version check failed and the attempt was rolled back
+            TransferResult result = transactionTemplate.execute(status -> attempt(command, status));
+            boolean conflict = result == null;
+            if (contention.record(sourceId, conflict) | contention.record(targetId, conflict)) {
+                log.warn("Optimistic conflict ratio exceeded for {} / {} — switching to row locks", sourceId, targetId);
+            }
+            if (!conflict) {
+                commits.increment();
+                return result;
+            }
+            conflicts.increment();
+            if (attempt < maxAttempts) {
+                retries.increment();
+                if (!backoff(attempt)) {
+                    break;
+                }
+            }
+        }
+
+        log.info("Optimistic transfer {} -> {} exhausted its retries — using row locks", sourceId, targetId);
+        exhaustedFallbacks.increment();
+        return pessimisticEngine.execute(command);
+    }
+
+    /**
+     * One optimistic attempt inside its own transaction.
+     *
+     * @return the result, or null if an account changed since it was read (transaction marked rollback-only)
+     */
+    private TransferResult attempt(TransferCommand command, TransactionStatus status) {
+        // ---- Step 1: Idempotency Check (rolled back with a conflicting attempt) ----
+        if (command.idempotencyKey() != null
+                && !idempotencyStore.tryInsert(command.idempotencyKey(), command.actorId())) {
+            log.info("Duplicate idempotency key detected: {}", command.idempotencyKey());
+            return IdempotencyReplay.resolve(idempotencyStore, command.idempotencyKey(), command.actorId());
+        }
+
+        // ---- Step 2: Unlocked read ----
+        List<Account> accounts = accountRepository.findAllById(
+                List.of(command.sourceAccountId(), command.targetAccountId()));
+        Account source = accounts.stream()
+                .filter(a -> a.getId().equals(command.sourceAccountId()))
+                .findFirst()
+                .orElseThrow(() -> new DomainException("One or both accounts not found"));
+        Account target = accounts.stream()
+                .filter(a -> a.getId().equals(command.targetAccountId()))
+                .findFirst()
+                .orElseThrow(() -> new DomainException("One or both accounts not found"));
+
+        if (!source.getUserId().equals(command.actorId())) {
+            throw new AccountOwnershipException(source.getId(), command.actorId());
+        }
+
+        // ---- Step 3: Domain logic (double-entry) ----
+        Money transferAmount = Money.of(command.amount(), command.currency());
+        var sourceBalanceBefore = source.getBalance().getAmount();
+        var targetBalanceBefore = target.getBalance().getAmount();
+        Transaction transaction = new Transaction(
+                UUID.randomUUID(),
+                TransactionType.TRANSFER,
+                command.sourceAccountId(),
+                command.targetAccountId(),
+                transferAmount,
+                command.description()
+        );
+        transaction.setIdempotencyKey(command.idempotencyKey());
+
+        TransferDomainService.TransferResult domainResult;
+        try {
+            domainResult = transferDomainService.executeTransfer(source, target, transferAmount, transaction);
+        } catch (RuntimeException e) {
+            transaction.markFailed();
+            auditLog.logTransactionEvent(transaction.getId(), command.actorId(), "TRANSFER_FAILED",
+                    null, "{\"error\": \"" + e.getMessage() + "\"}");
+            throw e;
+        }
+
+        // ---- Step 4: Version-checked write ----
+        if (!accountRepository.updateBalancesIfUnchanged(List.of(source, target))) {
+            status.setRollbackOnly();
+            return null;
+        }
+        transactionRepository.saveWithEntries(transaction, List.of(domainResult.debitEntry(), domainResult.creditEntry()));
+
+        // ---- Step 5: Audit log ----
+        auditLog.logAccountChange(
+                source.getId(), command.actorId(), "DEBIT",
+                "{\"balance\": " + sourceBalanceBefore + "}",
+                "{\"balance\": " + domainResult.sourceBalanceAfter().getAmount() + "}",
+                sourceBalanceBefore,
+                domainResult.sourceBalanceAfter().getAmount()
+        );
+
+        auditLog.logAccountChange(
+                target.getId(), command.actorId(), "CREDIT",
+                "{\"balance\": " + targetBalanceBefore + "}",
+                "{\"balance\": " + domainResult.targetBalanceAfter().getAmount() + "}",
+                targetBalanceBefore,
+                domainResult.targetBalanceAfter().getAmount()
+        );
+
+        // ---- Step 6: Build result ----
+        TransferResult result = new TransferResult(
+                transaction.getId(),
+                command.sourceAccountId(),
+                command.targetAccountId(),
+                command.amount(),
+                command.currency(),
+                domainResult.sourceBalanceAfter().getAmount(),
+                domainResult.targetBalanceAfter().getAmount(),
+                transaction.getStatus().name(),
+                transaction.getCompletedAt(),
+                false
+        );
+
+        if (command.idempotencyKey() != null) {
+            idempotencyStore.updateResponse(command.idempotencyKey(), command.actorId(), 200, result);
+        }
+        return result;
+    }
+
+    /**
+     * Full-jitter exponential backoff: sleep a random time in [0, min(max, base * 2^(attempt-1))].
+     *
+     * @return false if interrupted
+     */
+    private boolean backoff(int attempt) {
+        long cap = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,599 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.TransferCommand;
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.in.CreateTransferUseCase;
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.port.out.AuditLogPort;
+import com.Omnibus.application.port.out.IdempotencyStorePort;
+import com.Omnibus.application.port.out.TransactionRepositoryPort;
+import com.Omnibus.domain.exception.AccountOwnershipException;
+import com.Omnibus.domain.exception.DomainException;
+import com.Omnibus.domain.exception.InsufficientFundsException;
+import com.Omnibus.domain.exception.TransferOutcomeUnknownException;
+import com.Omnibus.domain.model.Account;
+import com.Omnibus.domain.model.EntryType;
+import com.Omnibus.domain.model.LedgerEntry;
+import com.Omnibus.domain.model.Money;
+import com.Omnibus.domain.model.Transaction;
+import com.Omnibus.domain.model.TransactionType;
+import com.Omnibus.domain.service.TransferDomainService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-writer transfer engine ({@code app.transfers.engine=partitioned}).
+ * <p>
+ * Transfers are routed by a hash of their source account to one of {@code partitions} worker
+ * threads, each fed by a bounded queue. A partition is the only writer that debits the accounts
+ * routed to it, so it keeps their balances in a partition-confined cache and validates funds
+ * without a row lock or version check. Each worker drains up to {@code max-batch} transfers and
+ * commits them together: the transaction and ledger rows in one statement, and the net balance
+ * change of every touched account in one guarded {@code UPDATE}.
+ * <p>
+ * A transfer whose target lives on another partition is reserved by its source partition only:
+ * the debit is validated against the owned balance, and the credit is written as a delta, which
+ * needs no knowledge of the target's balance. The ledger's {@code balance_after} values are
+ * derived from the balances the {@code UPDATE} returns, so concurrent credits from other
+ * partitions stay correct.
+ * <p>
+ * The cache can be stale when another engine path (fallback, batch transfers) moves an owned
+ * account. An insufficient cached balance is re-read once; an overstated one trips the
+ * {@code balance >= 0} guard, which rolls back the whole batch and hands its transfers to the
+ * row-locking {@link TransferApplicationService}. Transfers touching sharded accounts go there
+ * directly.
+ * <p>
+ * No caller is answered and no audit event is written until the batch's commit outcome is known.
+ * A batch that fails before COMMIT is sent is re-run transfer by transfer under row locks. If
+ * COMMIT itself fails, the batch may or may not have been applied: its accepted transfers are not
+ * re-run but fail with {@link TransferOutcomeUnknownException}, and a client retry with the same
+ * idempotency key resolves them.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "app.transfers.engine", havingValue = "partitioned")
+public class PartitionedTransferEngine implements CreateTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionedTransferEngine.class);
+
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final TransferDomainService transferDomainService;
+    private final AccountRepositoryPort accountRepository;
+    private final TransactionRepositoryPort transactionRepository;
+    private final IdempotencyStorePort idempotencyStore;
+    private final AuditLogPort auditLog;
+    private final ShardedBalancePolicy shardedBalancePolicy;
+    private final TransferApplicationService pessimisticEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final Partition[] partitions;
+    private final int maxBatch;
+    private final long shutdownTimeoutMs;
+
+    private final DistributionSummary batchSize;
+    private final Counter shardedFallbacks;
+    private final Counter guardFallbacks;
+    private final Counter errorFallbacks;
+    private final Counter stoppedFallbacks;
+    private final Counter outcomeUnknown;
+
+    private volatile boolean running;
+
+    public PartitionedTransferEngine(TransferDomainService transferDomainService,
+                                     AccountRepositoryPort accountRepository,
+                                     TransactionRepositoryPort transactionRepository,
+                                     IdempotencyStorePort idempotencyStore,
+                                     AuditLogPort auditLog,
+                                     ShardedBalancePolicy shardedBalancePolicy,
+                                     TransferApplicationService pessimisticEngine,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.transfers.partitioned.partitions:8}") int partitionCount,
+                                     @Value("${app.transfers.partitioned.queue-capacity:4096}") int queueCapacity,
+                                     @Value("${app.transfers.partitioned.max-batch:256}") int maxBatch,
+                                     @Value("${app.transfers.partitioned.cache-size:100000}") int cacheSize,
+                                     @Value("${app.transfers.partitioned.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        if (partitionCount < 1 || maxBatch < 1) {
+            throw new IllegalArgumentException("app.transfers.partitioned.partitions and max-batch must be at least 1");
+        }
+        this.transferDomainService = transferDomainService;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.idempotencyStore = idempotencyStore;
+        this.auditLog = auditLog;
+        this.shardedBalancePolicy = shardedBalancePolicy;
+        this.pessimisticEngine = pessimisticEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatch = maxBatch;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(i, queueCapacity, cacheSize);
+        }
+
+        this.batchSize = DistributionSummary.builder("omnibus.transfers.partitioned.batch.size")
+                .description("Transfers committed together by one partition")
+                .register(meterRegistry);
+        Gauge.builder("omnibus.transfers.partitioned.queue.depth", this,
+                        engine -> Arrays.stream(engine.partitions).mapToInt(p -> p.queue.size()).sum())
+                .description("Transfers waiting for their partition")
+                .register(meterRegistry);
+        this.shardedFallbacks = meterRegistry.counter("omnibus.transfers.partitioned.fallbacks", "reason", "sharded");
+        this.guardFallbacks = meterRegistry.counter("omnibus.transfers.partitioned.fallbacks", "reason", "balance-guard");
+        this.errorFallbacks = meterRegistry.counter("omnibus.transfers.partitioned.fallbacks", "reason", "batch-error");
+        this.stoppedFallbacks = meterRegistry.counter("omnibus.transfers.partitioned.fallbacks", "reason", "stopped");
+        this.outcomeUnknown = meterRegistry.counter("omnibus.transfers.partitioned.outcome-unknown");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (Partition partition : partitions) {
+            partition.thread = Thread.ofPlatform()
+                    .name("transfer-partition-" + partition.index)
+                    .daemon(true)
+                    .start(partition::run);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Partition partition : partitions) {
+            partition.thread.join(shutdownTimeoutMs);
+            if (partition.thread.isAlive()) {
+                log.warn("Transfer partition {} did not drain within {} ms", partition.index, shutdownTimeoutMs);
+                partition.thread.interrupt();
+            }
+        }
+    }
+
+    @Override
+    public TransferResult execute(TransferCommand command) {
+        if (shardedBalancePolicy.isSharded(command.sourceAccountId())
+                || shardedBalancePolicy.isSharded(command.targetAccountId())) {
+            shardedFallbacks.increment();
+            return pessimisticEngine.execute(command);
+        }
+        if (!running) {
+            stoppedFallbacks.increment();
+            return pessimisticEngine.execute(command);
+        }
+
+        Pending pending = new Pending(command, new CompletableFuture<>());
+        try {
+            // A full queue blocks the caller (back-pressure)
+            partitionOf(command.sourceAccountId()).queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a transfer", e);
+        }
+
+        TransferResult result;
+        try {
+            result = pending.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        // Null means the partition could not commit this transfer — run it under row locks instead
+        return result != null ? result : pessimisticEngine.execute(command);
+    }
+
+    private Partition partitionOf(UUID accountId) {
+        return partitions[Math.floorMod(accountId.hashCode(), partitions.length)];
+    }
+
+    /**
+     * One single-threaded writer: its queue, its owned-balance cache and its batch loop.
+     * Every field except {@link #queue} is touched only by {@link #thread}.
+     */
+    private final class Partition {
+
+        private final int index;
+        private final BlockingQueue<Pending> queue;
+        private final Map<UUID, Account> cache;
+        private Thread thread;
+
+        Partition(int index, int queueCapacity, int cacheSize) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Account> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+        }
+
+        void run() {
+            List<Pending> batch = new ArrayList<>(maxBatch);
+            while (running || !queue.isEmpty()) {
+                try {
+                    Pending first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatch - 1);
+                    batchSize.record(batch.size());
+                    process(batch);
+                    batch.clear();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            // Anything still queued after an interrupted shutdown runs on its caller's thread
+            queue.drainTo(batch);
+            batch.forEach(pending -> pending.future.complete(null));
+        }
+
+        private void process(List<Pending> batch) {
+            Batch work = new Batch();
+            Boolean committed;
+            try {
+                committed = transactionTemplate.execute(status -> stageAndWrite(batch, work, status));
+            } catch (RuntimeException e) {
+                if (work.commitSent) {
+                    failUnknown(work, e);
+                    return;
+                }
+                log.warn("Partition {} failed to commit a batch of {} — using row locks: {}",
+                        index, batch.size(), e.getMessage());
+                committed = null;
+            }
+
+            if (!Boolean.TRUE.equals(committed)) {
+                // Rolled back: rejections may rest on debits that never happened, so only replays stand
+                work.working.keySet().forEach(cache::remove);
+                int rerun = 0;
+                for (Answer answer : work.answered) {
+                    if (answer.replay) {
+                        answer.pending.future.complete(answer.result);
+                    } else {
+                        answer.pending.future.complete(null);
+                        rerun++;
+                    }
+                }
+                work.staged.forEach(staged -> staged.pending.future.complete(null));
+                (committed == null ? errorFallbacks : guardFallbacks).increment(rerun + work.staged.size());
+                return;
+            }
+
+            // Committed: the returned balances are now the owned accounts' true balances
+            work.balances.forEach((accountId, balance) -> {
+                Account account = work.working.get(accountId);
+                if (account != null && partitionOf(accountId) == this) {
+                    account.setBalance(Money.of(balance, account.getBalance().getCurrency()));
+                    cache.put(accountId, account);
+                }
+            });
+            work.rejectionAudit.replayTo(auditLog);
+            work.stagedAudit.replayTo(auditLog);
+            work.answered.forEach(Answer::release);
+            work.staged.forEach(staged -> staged.pending.future.complete(staged.result));
+        }
+
+        /**
+         * COMMIT failed and the batch may or may not be in the database; re-running it could
+         * apply a transfer twice.
+         */
+        private void failUnknown(Batch work, RuntimeException e) {
+            log.error("Partition {} commit of {} transfer(s) failed with an unknown outcome",
+                    index, work.staged.size(), e);
+            work.working.keySet().forEach(cache::remove);
+            work.rejectionAudit.replayTo(auditLog);
+            work.answered.forEach(Answer::release);
+            for (Staged staged : work.staged) {
+                outcomeUnknown.increment();
+                UUID transactionId = staged.transaction.getId();
+                auditLog.logTransactionEvent(transactionId, staged.pending.command.actorId(),
+                        "TRANSFER_OUTCOME_UNKNOWN", null, "{\"error\": \"commit failed\"}");
+                staged.pending.future.completeExceptionally(new TransferOutcomeUnknownException(transactionId, e));
+            }
+        }
+
+        /**
+         * Runs inside the batch transaction.
+         *
+         * @return true to commit, false if the balance guard failed (transaction marked rollback-only)
+         */
+        private Boolean stageAndWrite(List<Pending> batch, Batch work, TransactionStatus status) {
+            for (Pending pending : batch) {
+                stage(pending, work);
+            }
+            if (work.staged.isEmpty()) {
+                work.commitSent = true;
+                return true;
+            }
+
+            work.balances.putAll(accountRepository.applyBalanceDeltas(work.deltas));
+            if (work.balances.size() != work.deltas.size() || !assignBalancesAfter(work)) {
+                log.info("Partition {} batch hit the balance guard — using row locks for {} transfer(s)",
+                        index, work.staged.size());
+                status.setRollbackOnly();
+                return false;
+            }
+
+            List<Transaction> transactions = new ArrayList<>(work.staged.size());
+            List<LedgerEntry> entries = new ArrayList<>(work.staged.size() * 2);
+            for (Staged staged : work.staged) {
+                transactions.add(staged.transaction);
+                entries.add(staged.debit);
+                entries.add(staged.credit);
+            }
+            transactionRepository.saveAllWithEntries(transactions, entries);
+
+            for (Staged staged : work.staged) {
+                complete(staged, work);
+            }
+            work.commitSent = true;
+            return true;
+        }
+
+        /**
+         * Validates one transfer against the batch's working balances. Rejections and replays join
+         * {@link Batch#answered}; accepted transfers join {@link Batch#staged}.
+         */
+        private void stage(Pending pending, Batch work) {
+            TransferCommand command = pending.command;
+            try {
+                Account source = resolve(command.sourceAccountId(), work);
+                Account target = resolve(command.targetAccountId(), work);
+                if (source == null || target == null) {
+                    throw new DomainException("One or both accounts not found");
+                }
+                if (!source.getUserId().equals(command.actorId())) {
+                    throw new AccountOwnershipException(source.getId(), command.actorId());
+                }
+
+                Money transferAmount = Money.of(command.amount(), command.currency());
+                Transaction transaction = new Transaction(
+                        UUID.randomUUID(),
+                        TransactionType.TRANSFER,
+                        command.sourceAccountId(),
+                        command.targetAccountId(),
+                        transferAmount,
+                        command.description()
+                );
+                transaction.setIdempotencyKey(command.idempotencyKey());
+
+                Money sourceBefore = source.getBalance();
+                Money targetBefore = target.getBalance();
+                TransferDomainService.TransferResult domainResult =
+                        transfer(source, target, transferAmount, transaction, command.actorId(), work);
+
+                if (command.idempotencyKey() != null
+                        && !idempotencyStore.tryInsert(command.idempotencyKey(), command.actorId())) {
+                    // Undo the in-memory debit and credit before answering with the earlier result
+                    source.setBalance(sourceBefore);
+                    target.setBalance(targetBefore);
+                    log.info("Duplicate idempotency key detected: {}", command.idempotencyKey());
+                    work.answered.add(new Answer(pending, true, IdempotencyReplay.resolve(
+                            idempotencyStore, command.idempotencyKey(), command.actorId()), null));
+                    return;
+                }
+
+                work.deltas.merge(source.getId(), transferAmount.getAmount().negate(), BigDecimal::add);
+                work.deltas.merge(target.getId(), transferAmount.getAmount(), BigDecimal::add);
+                work.staged.add(new Staged(pending, transaction,
+                        domainResult.debitEntry(), domainResult.creditEntry()));
+            } catch (RuntimeException e) {
+                work.answered.add(new Answer(pending, false, null, e));
+            }
+        }
+
+        private TransferDomainService.TransferResult transfer(Account source, Account target, Money amount,
+                                                              Transaction transaction, UUID actorId, Batch work) {
+            try {
+                return transferDomainService.executeTransfer(source, target, amount, transaction);
+            } catch (InsufficientFundsException e) {
+                if (!work.verified.add(source.getId())) {
+                    return failed(transaction, actorId, e, work);
+                }
+                // The cached balance may predate credits from other engines — re-read it once
+                Account fresh = accountRepository.findById(source.getId()).orElse(null);
+                if (fresh == null) {
+                    return failed(transaction, actorId, e, work);
+                }
+                BigDecimal pending = work.deltas.getOrDefault(source.getId(), BigDecimal.ZERO);
+                source.setBalance(Money.of(fresh.getBalance().getAmount().add(pending),
+                        fresh.getBalance().getCurrency()));
+                source.setStatus(fresh.getStatus());
+                try {
+                    return transferDomainService.executeTransfer(source, target, amount, transaction);
+                } catch (RuntimeException retry) {
+                    return failed(transaction, actorId, retry, work);
+                }
+            } catch (RuntimeException e) {
+                return failed(transaction, actorId, e, work);
+            }
+        }
+
+        private TransferDomainService.TransferResult failed(Transaction transaction, UUID actorId,
+                                                            RuntimeException e, Batch work) {
+            transaction.markFailed();
+            work.rejectionAudit.logTransactionEvent(transaction.getId(), actorId, "TRANSFER_FAILED",
+                    null, "{\"error\": \"" + e.getMessage() + "\"}");
+            throw e;
+        }
+
+        /**
+         * The batch's working copy of an account: owned accounts come from the cache when present,
+         * everything else is read once per batch.
+         */
+        private Account resolve(UUID accountId, Batch work) {
+            Account account = work.working.get(accountId);
+            if (account != null) {
+                return account;
+            }
+            Account cached = partitionOf(accountId) == this ? cache.get(accountId) : null;
+            if (cached != null) {
+                account = copy(cached);
+            } else {
+                account = accountRepository.findById(accountId).orElse(null);
+                if (account == null) {
+                    return null;
+                }
+                work.verified.add(accountId);
+            }
+            work.working.put(accountId, account);
+            return account;
+        }
+
+        /**
+         * Walks each account's ledger rows backwards from the balance the guarded UPDATE returned.
+         *
+         * @return false if any intermediate balance would have been negative
+         */
+        private boolean assignBalancesAfter(Batch work) {
+            Map<UUID, BigDecimal> running = new HashMap<>(work.balances);
+            for (int i = work.staged.size() - 1; i >= 0; i--) {
+                Staged staged = work.staged.get(i);
+                for (LedgerEntry entry : List.of(staged.credit, staged.debit)) {
+                    BigDecimal after = running.get(entry.getAccountId());
+                    if (after.signum() < 0) {
+                        return false;
+                    }
+                    entry.setBalanceAfter(Money.of(after, entry.getAmount().getCurrency()));
+                    BigDecimal amount = entry.getAmount().getAmount();
+                    running.put(entry.getAccountId(),
+                            entry.getEntryType() == EntryType.DEBIT ? after.add(amount) : after.subtract(amount));
+                }
+            }
+            return running.values().stream().allMatch(balance -> balance.signum() >= 0);
+        }
+
+        private void complete(Staged staged, Batch work) {
+            TransferCommand command = staged.pending.command;
+            BigDecimal amount = staged.debit.getAmount().getAmount();
+            BigDecimal sourceAfter = staged.debit.getBalanceAfter().getAmount();
+            BigDecimal targetAfter = staged.credit.getBalanceAfter().getAmount();
+
+            work.stagedAudit.logAccountChange(
+                    command.sourceAccountId(), command.actorId(), "DEBIT",
+                    "{\"balance\": " + sourceAfter.add(amount) + "}",
+                    "{\"balance\": " + sourceAfter + "}",
+                    sourceAfter.add(amount),
+                    sourceAfter
+            );
+
+            work.stagedAudit.logAccountChange(
+                    command.targetAccountId(), command.actorId(), "CREDIT",
+                    "{\"balance\": " + targetAfter.subtract(amount) + "}",
+                    "{\"balance\": " + targetAfter + "}",
+                    targetAfter.subtract(amount),
+                    targetAfter
+            );
+
+            staged.result = new TransferResult(
+                    staged.transaction.getId(),
+                    command.sourceAccountId(),
+                    command.targetAccountId(),
+                    command.amount(),
+                    command.currency(),
+                    sourceAfter,
+                    targetAfter,
+                    staged.transaction.getStatus().name(),
+                    staged.transaction.getCompletedAt(),
+                    false
+            );
+
+            if (command.idempotencyKey() != null) {
+                idempotencyStore.updateResponse(command.idempotencyKey(), command.actorId(), 200, staged.result);
+            }
+        }
+    }
+
+    private static Account copy(Account account) {
+        Account copy = new Account(account.getId(), account.getUserId(), account.getAccountNumber(),
+                account.getBalance(), account.getStatus());
+        copy.setBucketBalance(account.getBucketBalance());
+        copy.setCreatedAt(account.getCreatedAt());
+        copy.setUpdatedAt(account.getUpdatedAt());
+        copy.setVersion(account.getVersion());
+        return copy;
+    }
+
+    private record Pending(TransferCommand command, CompletableFuture<TransferResult> future) {
+    }
+
+    /**
+     * A transfer settled without writing anything: an idempotency replay or a rejection.
+     */
+    private record Answer(Pending pending, boolean replay, TransferResult result, RuntimeException failure) {
+
+        void release() {
+            if (failure != null) {
+                pending.future.completeExceptionally(failure);
+            } else {
+                pending.future.complete(result);
+            }
+        }
+    }
+
+    /**
+     * An accepted transfer waiting for the batch to commit.
+     */
+    private static final class Staged {
+        private final Pending pending;
+        private final Transaction transaction;
+        private final LedgerEntry debit;
+        private final LedgerEntry credit;
+        private TransferResult result;
+
+        Staged(Pending pending, Transaction transaction, LedgerEntry debit, LedgerEntry credit) {
+            this.pending = pending;
+            this.transaction = transaction;
+            this.debit = debit;
+            this.credit = credit;
+        }
+    }
+
+    /**
+     * State of one batch; discarded after it commits or rolls back.
+     */
+    private static final class Batch {
+        private final Map<UUID, Account> working = new HashMap<>();
+        private final Set<UUID> verified = new HashSet<>();
+        private final Map<UUID, BigDecimal> deltas = new LinkedHashMap<>();
+        private final Map<UUID, BigDecimal> balances = new HashMap<>();
+        private final List<Staged> staged = new ArrayList<>();
+        private final List<Answer> answered = new ArrayList<>();
+        private final DeferredAuditLog rejectionAudit = new DeferredAuditLog();
+        private final DeferredAuditLog stagedAudit = new DeferredAuditLog();
+        private boolean commitSent;
+    }
+}
@@ -0,0 +1,45 @@
+package com.Omnibus.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decides which accounts keep their credits in sharded sub-balance buckets.
+ * <p>
+ * Hot accounts (e.g. a merchant receiving most of the traffic) are listed in
+ * {@code app.accounts.sharded-balance.account-ids}. Credits to them land in one of
+ * {@code buckets} rows chosen by transaction id, so concurrent inbound transfers
+ * no longer queue on the single account row lock.
+ */
+@Component
+public class ShardedBalancePolicy {
+
+    private final Set<UUID> accountIds;
+    private final int buckets;
+
+    public ShardedBalancePolicy(
+            @Value("${app.accounts.sharded-balance.account-ids:}") List<UUID> accountIds,
+            @Value("${app.accounts.sharded-balance.buckets:8}") int buckets) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("Sharded balance bucket count must be positive");
+        }
+        this.accountIds = Set.copyOf(accountIds);
+        this.buckets = buckets;
+    }
+
+    public boolean isSharded(UUID accountId) {
+        return accountIds.contains(accountId);
+    }
+
+    public int bucketFor(UUID transactionId) {
+        return Math.floorMod(transactionId.hashCode(), buckets);
+    }
+
+    public Set<UUID> getAccountIds() {
+        return accountIds;
+    }
+}
@@ -0,0 +1,116 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.StatementLine;
+import com.Omnibus.application.port.in.ExportStatementUseCase;
+import com.Omnibus.application.port.in.GetAccountUseCase;
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.port.out.ArchivePort;
+import com.Omnibus.application.port.out.LedgerRepositoryPort;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import com.Omnibus.domain.exception.AccountOwnershipException;
+import com.Omnibus.domain.exception.DomainException;
+import com.Omnibus.domain.model.Account;
+import com.Omnibus.domain.model.EntryType;
+import com.Omnibus.domain.model.LedgerEntry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams account statements straight from the ledger: archived months from cold storage,
+ * then the rest from the database.
+ * Runs in one read-only transaction so the database cursor stays open while the caller writes.
+ * <p>
+ * Credits to a sharded (hot) account record the total one statement saw, which concurrent
+ * bucket credits can leave out of order. Ledger rows are never rewritten, so statements of those
+ * accounts derive the running balance instead: the balance as of {@code from}, plus each line's
+ * amount in the order the lines are streamed.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StatementApplicationService implements ExportStatementUseCase {
+
+    private final AccountRepositoryPort accountRepository;
+    private final LedgerRepositoryPort ledgerRepository;
+    private final ArchivePort archive;
+    private final GetAccountUseCase accounts;
+    private final ShardedBalancePolicy shardedBalancePolicy;
+
+    public StatementApplicationService(AccountRepositoryPort accountRepository,
+                                       LedgerRepositoryPort ledgerRepository,
+                                       ArchivePort archive,
+                                       GetAccountUseCase accounts,
+                                       ShardedBalancePolicy shardedBalancePolicy) {
+        this.accountRepository = accountRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.archive = archive;
+        this.accounts = accounts;
+        this.shardedBalancePolicy = shardedBalancePolicy;
+    }
+
+    @Override
+    public void exportStatement(UUID accountId, UUID userId, Instant from, Instant to,
+                                Consumer<StatementLine> sink) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new DomainException("Account not found: " + accountId));
+
+        if (!account.getUserId().equals(userId)) {
+            throw new AccountOwnershipException(accountId, userId);
+        }
+
+        String currency = account.getBalance().getCurrency();
+        BigDecimal[] running = shardedBalancePolicy.isSharded(accountId)
+                ? new BigDecimal[]{openingBalance(account, userId, from)}
+                : null;
+        Consumer<LedgerEntry> lines = entry -> {
+            BigDecimal balanceAfter = entry.getBalanceAfter().getAmount();
+            if (running != null) {
+                BigDecimal amount = entry.getAmount().getAmount();
+                running[0] = entry.getEntryType() == EntryType.CREDIT
+                        ? running[0].add(amount)
+                        : running[0].subtract(amount);
+                balanceAfter = running[0];
+            }
+            sink.accept(new StatementLine(
+                    entry.getId(),
+                    entry.getTransactionId(),
+                    entry.getEntryType().name(),
+                    entry.getAmount().getAmount(),
+                    currency,
+                    balanceAfter,
+                    entry.getCreatedAt()));
+        };
+
+        // Every archived entry is older than every live one, so the archive goes first
+        Instant archivedBefore = archive.archivedBefore(PartitionedTable.LEDGER_ENTRIES)
+                .map(month -> month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant())
+                .orElse(Instant.MIN);
+        if (from.isBefore(archivedBefore)) {
+            archive.streamLedgerEntries(accountId, from, to.isBefore(archivedBefore) ? to : archivedBefore, lines);
+        }
+        if (to.isAfter(archivedBefore)) {
+            ledgerRepository.streamByAccountId(accountId, from.isAfter(archivedBefore) ? from : archivedBefore, to, lines);
+        }
+    }
+
+    /**
+     * Balance just before {@code from}, or at opening if the account is younger.
+     */
+    private BigDecimal openingBalance(Account account, UUID userId, Instant from) {
+        Instant asOf = from.truncatedTo(ChronoUnit.MICROS).minus(1, ChronoUnit.MICROS);
+        if (account.getCreatedAt() != null && asOf.isBefore(account.getCreatedAt())) {
+            asOf = account.getCreatedAt();
+        }
+        return accounts.getBalanceAsOf(account.getId(), userId, asOf).balance();
+    }
+}
@@ -0,0 +1,158 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.application.dto.TransferCommand;
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.in.CreateTransferUseCase;
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.port.out.AuditLogPort;
+import com.Omnibus.application.port.out.IdempotencyStorePort;
+import com.Omnibus.application.port.out.TransferProcedurePort;
+import com.Omnibus.application.port.out.TransferProcedurePort.Outcome;
+import com.Omnibus.domain.exception.AccountNotActiveException;
+import com.Omnibus.domain.exception.AccountOwnershipException;
+import com.Omnibus.domain.exception.DomainException;
+import com.Omnibus.domain.exception.InsufficientFundsException;
+import com.Omnibus.domain.model.Money;
+import com.Omnibus.domain.model.Transaction;
+import com.Omnibus.domain.model.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Transfer engine that hands locking, validation and persistence to the
+ * {@code execute_transfer} database function, so a transfer costs one round trip
+ * instead of one per lock, update and insert. Idempotency, audit and the response
+ * are handled exactly as in {@link TransferApplicationService}.
+ * <p>
+ * Enabled with {@code app.transfers.engine=stored-function}. On this path hot accounts
+ * configured for sharded balances are locked and credited directly; their buckets are
+ * still drained when a debit needs the funds.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "app.transfers.engine", havingValue = "stored-function")
+public class StoredFunctionTransferService implements CreateTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(StoredFunctionTransferService.class);
+
+    private final TransferProcedurePort transferProcedure;
+    private final IdempotencyStorePort idempotencyStore;
+    private final AuditLogPort auditLog;
+    private final AccountRepositoryPort accountRepository;
+
+    public StoredFunctionTransferService(TransferProcedurePort transferProcedure,
+                                         IdempotencyStorePort idempotencyStore,
+                                         AuditLogPort auditLog,
+                                         AccountRepositoryPort accountRepository) {
+        this.transferProcedure = transferProcedure;
+        this.idempotencyStore = idempotencyStore;
+        this.auditLog = auditLog;
+        this.accountRepository = accountRepository;
+    }
+
+    @Override
+    @Transactional
+    public TransferResult execute(TransferCommand command) {
+        log.info("Processing transfer (stored function): {} -> {}, amount={} {}",
+                command.sourceAccountId(), command.targetAccountId(),
+                command.amount(), command.currency());
+
+        // ---- Step 1: Idempotency Check ----
+        if (command.idempotencyKey() != null) {
+            boolean isNew = idempotencyStore.tryInsert(command.idempotencyKey(), command.actorId());
+            if (!isNew) {
+                log.info("Duplicate idempotency key detected: {}", command.idempotencyKey());
+                return IdempotencyReplay.resolve(idempotencyStore, command.idempotencyKey(), command.actorId());
+            }
+        }
+
+        // ---- Step 2: Build the transaction (validates amount and accounts) ----
+        Money transferAmount = Money.of(command.amount(), command.currency());
+        Transaction transaction = new Transaction(
+                UUID.randomUUID(),
+                TransactionType.TRANSFER,
+                command.sourceAccountId(),
+                command.targetAccountId(),
+                transferAmount,
+                command.description()
+        );
+        transaction.setIdempotencyKey(command.idempotencyKey());
+
+        // ---- Step 3: Lock, validate and persist in one database call ----
+        Outcome outcome = transferProcedure.execute(transaction, command.actorId());
+        switch (outcome.status()) {
+            case COMPLETED -> { }
+            case ACCOUNT_NOT_FOUND -> throw new DomainException("One or both accounts not found");
+            case NOT_OWNER -> throw new AccountOwnershipException(command.sourceAccountId(), command.actorId());
+            case SOURCE_NOT_ACTIVE -> throw rejected(transaction, command, new AccountNotActiveException(
+                    "Source account " + command.sourceAccountId() + " is not active"));
+            case TARGET_NOT_ACTIVE -> throw rejected(transaction, command, new AccountNotActiveException(
+                    "Target account " + command.targetAccountId() + " is not active"));
+            case CURRENCY_MISMATCH -> throw rejected(transaction, command, new IllegalArgumentException(
+                    "Currency mismatch: " + transferAmount.getCurrency() + " does not match the account currency"));
+            case INSUFFICIENT_FUNDS -> throw rejected(transaction, command, new InsufficientFundsException(
+                    command.sourceAccountId(),
+                    Money.of(outcome.sourceBalanceBefore(), transferAmount.getCurrency()),
+                    transferAmount));
+        }
+        // The function wrote the balances itself, bypassing the account port
+        accountRepository.invalidate(List.of(command.sourceAccountId(), command.targetAccountId()));
+
+        // ---- Step 4: Audit log ----
+        auditLog.logAccountChange(
+                command.sourceAccountId(), command.actorId(), "DEBIT",
+                "{\"balance\": " + outcome.sourceBalanceBefore() + "}",
+                "{\"balance\": " + outcome.sourceBalanceAfter() + "}",
+                outcome.sourceBalanceBefore(),
+                outcome.sourceBalanceAfter()
+        );
+
+        auditLog.logAccountChange(
+                command.targetAccountId(), command.actorId(), "CREDIT",
+                "{\"balance\": " + outcome.targetBalanceBefore() + "}",
+                "{\"balance\": " + outcome.targetBalanceAfter() + "}",
+                outcome.targetBalanceBefore(),
+                outcome.targetBalanceAfter()
+        );
+
+        // ---- Step 5: Build result ----
+        TransferResult result = new TransferResult(
+                transaction.getId(),
+                command.sourceAccountId(),
+                command.targetAccountId(),
+                command.amount(),
+                command.currency(),
+                outcome.sourceBalanceAfter(),
+                outcome.targetBalanceAfter(),
+                "COMPLETED",
+                outcome.completedAt(),
+                false
+        );
+
+        if (command.idempotencyKey() != null) {
+            idempotencyStore.updateResponse(command.idempotencyKey(), command.actorId(), 200, result);
+        }
+
+        log.info("Transfer completed: txnId={}, sourceBalance={}, targetBalance={}",
+                transaction.getId(), outcome.sourceBalanceAfter(), outcome.targetBalanceAfter());
+
+        return result;
+    }
+
+    /**
+     * Audit a transfer the database function rejected (REQUIRES_NEW — survives the rollback).
+     */
+    private RuntimeException rejected(Transaction transaction, TransferCommand command, RuntimeException e) {
+        transaction.markFailed();
+        auditLog.logTransactionEvent(transaction.getId(), command.actorId(), "TRANSFER_FAILED",
+                null, "{\"error\": \"" + e.getMessage() + "\"}");
+        return e;
+    }
+}
@@ -11,7 +11,8 @@ import com.Omnibus.domain.service.TransferDomainService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 
@@ -23,6 +24,18 @@ import java.util.*;
  * 4. Persist ledger entries + update account balances
  * 5. Write audit log (REQUIRES_NEW — survives rollback)
  * 6. Cache response in idempotency store
+ * <p>
+ * Accounts listed by {@link ShardedBalancePolicy} receive credits into a sub-balance
+ * bucket instead of their locked row; debits from them first drain the buckets
+ * when the main balance alone cannot cover the amount.
+ * <p>
+ * Before its transaction starts, a transfer takes the in-JVM {@link AccountLockStripes} of the
+ * accounts it will row-lock, so local contenders wait without holding a pooled connection.
+ * <p>
+ * This is the default engine ({@code app.transfers.engine=jpa}). Alternative engines
+ * ({@link StoredFunctionTransferService}, {@link OptimisticTransferService},
+ * {@link PartitionedTransferEngine}, {@link GroupCommitTransferService}) register as
+ * {@code @Primary}; this row-locking engine stays available as their fallback.
  */
 @Service
 public class TransferApplicationService implements CreateTransferUseCase {
@@ -32,27 +45,63 @@ public class TransferApplicationService implements CreateTransferUseCase {
     private final TransferDomainService transferDomainService;
     private final AccountRepositoryPort accountRepository;
     private final TransactionRepositoryPort transactionRepository;
-    private final LedgerRepositoryPort ledgerRepository;
     private final IdempotencyStorePort idempotencyStore;
     private final AuditLogPort auditLog;
+    private final ShardedBalancePolicy shardedBalancePolicy;
+    private final AccountLockStripes lockStripes;
+    private final TransactionTemplate transactionTemplate;
 
     public TransferApplicationService(TransferDomainService transferDomainService,
                                       AccountRepositoryPort accountRepository,
                                       TransactionRepositoryPort transactionRepository,
-                                      LedgerRepositoryPort ledgerRepository,
                                       IdempotencyStorePort idempotencyStore,
-                                      AuditLogPort auditLog) {
+                                      AuditLogPort auditLog,
+                                      ShardedBalancePolicy shardedBalancePolicy,
+                                      AccountLockStripes lockStripes,
+                                      PlatformTransactionManager transactionManager) {
         this.transferDomainService = transferDomainService;
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
-        this.ledgerRepository = ledgerRepository;
         this.idempotencyStore = idempotencyStore;
         this.auditLog = auditLog;
+        this.shardedBalancePolicy = shardedBalancePolicy;
+        this.lockStripes = lockStripes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    @Transactional
     public TransferResult execute(TransferCommand command) {
+        return lockStripes.withLocks(lockedAccountIds(command),
+                () -> transactionTemplate.execute(status -> executeLocked(command)));
+    }
+
+    /**
+     * The accounts whose rows a transfer locks: a sharded target is never locked, so it takes no stripe.
+     */
+    List<UUID> lockedAccountIds(TransferCommand command) {
+        return isShardedTarget(command)
+                ? List.of(command.sourceAccountId())
+                : List.of(command.sourceAccountId(), command.targetAccountId());
+    }
+
+    private boolean isShardedTarget(TransferCommand command) {
+        return shardedBalancePolicy.isSharded(command.targetAccountId())
+                && !command.targetAccountId().equals(command.sourceAccountId());
+    }
+
+    /**
+     * Runs one transfer inside the caller's transaction. Anything it writes before throwing is
+     * undone by the caller's rollback (whole transaction or savepoint).
+     */
+    TransferResult executeLocked(TransferCommand command) {
+        return executeLocked(command, auditLog);
+    }
+
+    /**
+     * As {@link #executeLocked(TransferCommand)}, with audit events sent to {@code audit}; a
+     * caller sharing one commit between transfers buffers them until that commit is done.
+     */
+    TransferResult executeLocked(TransferCommand command, AuditLogPort audit) {
         log.info("Processing transfer: {} -> {}, amount={} {}",
                 command.sourceAccountId(), command.targetAccountId(),
                 command.amount(), command.currency());
@@ -63,16 +112,23 @@ public class TransferApplicationService implements CreateTransferUseCase {
             if (!isNew) {
                 // Duplicate request — attempt to return cached response
                 log.info("Duplicate idempotency key detected: {}", command.idempotencyKey());
-                return handleIdempotencyReplay(command.idempotencyKey());
+                return IdempotencyReplay.resolve(idempotencyStore, command.idempotencyKey(), command.actorId());
             }
         }
 
         // ---- Step 2: Lock accounts in deterministic order (ascending UUID) ----
-        List<UUID> sortedIds = new ArrayList<>(List.of(
-                command.sourceAccountId(), command.targetAccountId()));
+        // A sharded target is credited through a bucket, so its row is read but not locked.
+        boolean shardedTarget = isShardedTarget(command);
+        List<UUID> sortedIds = new ArrayList<>(List.of(command.sourceAccountId()));
+        if (!shardedTarget) {
+            sortedIds.add(command.targetAccountId());
+        }
         sortedIds.sort(UUID::compareTo);
 
-        List<Account> lockedAccounts = accountRepository.findAllByIdForUpdate(sortedIds);
+        List<Account> lockedAccounts = new ArrayList<>(accountRepository.findAllByIdForUpdate(sortedIds));
+        if (shardedTarget) {
+            accountRepository.findById(command.targetAccountId()).ifPresent(lockedAccounts::add);
+        }
         if (lockedAccounts.size() != 2) {
             throw new DomainException("One or both accounts not found");
         }
@@ -93,12 +149,20 @@ public class TransferApplicationService implements CreateTransferUseCase {
             throw new AccountOwnershipException(source.getId(), command.actorId());
         }
 
-        // Capture before-state for audit
-        var sourceBalanceBefore = source.getBalance().getAmount();
-        var targetBalanceBefore = target.getBalance().getAmount();
-
         // ---- Step 3: Create transaction record ----
         Money transferAmount = Money.of(command.amount(), command.currency());
+
+        // A hot source may hold part of its funds in buckets — fold them in (under the row lock) if needed
+        if (source.getBucketBalance() != null
+                && transferAmount.getCurrency().equals(source.getBalance().getCurrency())
+                && source.getBalance().isLessThan(transferAmount)) {
+            source.consolidate(Money.of(accountRepository.drainBalanceBuckets(source.getId()),
+                    source.getBalance().getCurrency()));
+        }
+
+        // Capture before-state for audit
+        var sourceBalanceBefore = source.getBalance().getAmount();
+        var targetBalanceBefore = target.getTotalBalance().getAmount();
         Transaction transaction = new Transaction(
                 UUID.randomUUID(),
                 TransactionType.TRANSFER,
@@ -115,24 +179,32 @@ public class TransferApplicationService implements CreateTransferUseCase {
             domainResult = transferDomainService.executeTransfer(source, target, transferAmount, transaction);
         } catch (Exception e) {
             transaction.markFailed();
-            transactionRepository.save(transaction);
 
             // Audit the failure (REQUIRES_NEW — survives this rollback)
-            auditLog.logTransactionEvent(transaction.getId(), command.actorId(), "TRANSFER_FAILED",
+            audit.logTransactionEvent(transaction.getId(), command.actorId(), "TRANSFER_FAILED",
                     null, "{\"error\": \"" + e.getMessage() + "\"}");
 
             throw e;
         }
 
         // ---- Step 5: Persist everything ----
-        transactionRepository.save(transaction);
-        ledgerRepository.save(domainResult.debitEntry());
-        ledgerRepository.save(domainResult.creditEntry());
-        accountRepository.save(source);
-        accountRepository.save(target);
+        var targetBalanceAfter = domainResult.targetBalanceAfter().getAmount();
+        if (shardedTarget) {
+            // Credit lands in a bucket; the target row itself is never written on this path.
+            // balance_after is the total seen by this statement — concurrent bucket credits may interleave,
+            // so statements of sharded accounts derive their running balance from amounts instead.
+            targetBalanceAfter = accountRepository.creditBalanceBucket(target.getId(),
+                    shardedBalancePolicy.bucketFor(transaction.getId()), transferAmount.getAmount());
+            targetBalanceBefore = targetBalanceAfter.subtract(transferAmount.getAmount());
+            domainResult.creditEntry().setBalanceAfter(Money.of(targetBalanceAfter, target.getBalance().getCurrency()));
+        }
+        // Transaction row and both ledger rows in one statement
+        transactionRepository.saveWithEntries(transaction, List.of(domainResult.debitEntry(), domainResult.creditEntry()));
+        // Both legs in one batched UPDATE — keeps the window between lock and commit short
+        accountRepository.updateBalances(shardedTarget ? List.of(source) : List.of(source, target));
 
         // ---- Step 6: Audit log (REQUIRES_NEW) ----
-        auditLog.logAccountChange(
+        audit.logAccountChange(
                 source.getId(), command.actorId(), "DEBIT",
                 "{\"balance\": " + sourceBalanceBefore + "}",
                 "{\"balance\": " + domainResult.sourceBalanceAfter().getAmount() + "}",
@@ -140,12 +212,12 @@ public class TransferApplicationService implements CreateTransferUseCase {
                 domainResult.sourceBalanceAfter().getAmount()
         );
 
-        auditLog.logAccountChange(
+        audit.logAccountChange(
                 target.getId(), command.actorId(), "CREDIT",
                 "{\"balance\": " + targetBalanceBefore + "}",
-                "{\"balance\": " + domainResult.targetBalanceAfter().getAmount() + "}",
+                "{\"balance\": " + targetBalanceAfter + "}",
                 targetBalanceBefore,
-                domainResult.targetBalanceAfter().getAmount()
+                targetBalanceAfter
         );
 
         // ---- Step 7: Build result ----
@@ -156,7 +228,7 @@ public class TransferApplicationService implements CreateTransferUseCase {
                 command.amount(),
                 command.currency(),
                 domainResult.sourceBalanceAfter().getAmount(),
-                domainResult.targetBalanceAfter().getAmount(),
+                targetBalanceAfter,
                 transaction.getStatus().name(),
                 transaction.getCompletedAt(),
                 false
@@ -164,45 +236,14 @@ public class TransferApplicationService implements CreateTransferUseCase {
 
         // Update idempotency cache
         if (command.idempotencyKey() != null) {
-            idempotencyStore.updateResponse(command.idempotencyKey(), 200,
-                    serializeResult(result));
+            idempotencyStore.updateResponse(command.idempotencyKey(), command.actorId(), 200, result);
         }
 
         log.info("Transfer completed: txnId={}, sourceBalance={}, targetBalance={}",
                 transaction.getId(),
                 domainResult.sourceBalanceAfter(),
-                domainResult.targetBalanceAfter());
+                targetBalanceAfter);
 
         return result;
     }
-
-    private TransferResult handleIdempotencyReplay(String idempotencyKey) {
-        var cached = idempotencyStore.findByKey(idempotencyKey);
-        if (cached.isPresent()) {
-            // Return cached result as replayed
-            var txn = transactionRepository.findByIdempotencyKey(idempotencyKey)
-                    .orElseThrow(() -> new DomainException("Idempotency key found but transaction missing"));
-            return new TransferResult(
-                    txn.getId(),
-                    txn.getSourceAccountId(),
-                    txn.getTargetAccountId(),
-                    txn.getAmount().getAmount(),
-                    txn.getAmount().getCurrency(),
-                    null, null,
-                    txn.getStatus().name(),
-                    txn.getCompletedAt(),
-                    true  // replayed
-            );
-        }
-        // Key exists but response not yet cached — the first request might still be in-flight
-        // This happens due to the same-transaction semantics. Throw conflict.
-        throw new DomainException("Request with this idempotency key is currently being processed");
-    }
-
-    private String serializeResult(TransferResult result) {
-        return String.format(
-                "{\"transactionId\":\"%s\",\"amount\":%s,\"status\":\"%s\"}",
-                result.transactionId(), result.amount(), result.status()
-        );
-    }
 }
@@ -0,0 +1,149 @@
+package com.Omnibus.application.service;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing hash map from {@link UUID} to a {@code long} value plus a {@code long} tag,
+ * stored in parallel primitive arrays: no entry objects and no boxing, so the ledger verifier's
+ * per-account and per-transaction state costs 33 bytes per slot.
+ * <p>
+ * Linear probing with backward-shift deletion (no tombstones). Not thread-safe.
+ */
+final class UuidLongMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] msb;
+    private long[] lsb;
+    private long[] values;
+    private long[] tags;
+    private boolean[] used;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    UuidLongMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(UUID key) {
+        return indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits()) >= 0;
+    }
+
+    /**
+     * @return the value for {@code key}, or {@code absent} if there is none
+     */
+    long get(UUID key, long absent) {
+        int index = indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        return index >= 0 ? values[index] : absent;
+    }
+
+    long tag(UUID key, long absent) {
+        int index = indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        return index >= 0 ? tags[index] : absent;
+    }
+
+    void put(UUID key, long value, long tag) {
+        long hi = key.getMostSignificantBits();
+        long lo = key.getLeastSignificantBits();
+        int index = slot(hi, lo);
+        while (used[index]) {
+            if (msb[index] == hi && lsb[index] == lo) {
+                values[index] = value;
+                tags[index] = tag;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        used[index] = true;
+        msb[index] = hi;
+        lsb[index] = lo;
+        values[index] = value;
+        tags[index] = tag;
+        if (++size > resizeAt) {
+            rehash(used.length << 1);
+        }
+    }
+
+    void remove(UUID key) {
+        int index = indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (index < 0) {
+            return;
+        }
+        // Backward-shift: pull later members of the probe run into the gap
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = slot(msb[next], lsb[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                msb[gap] = msb[next];
+                lsb[gap] = lsb[next];
+                values[gap] = values[next];
+                tags[gap] = tags[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+        size--;
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) {
+                visitor.visit(new UUID(msb[i], lsb[i]), values[i], tags[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(UUID key, long value, long tag);
+    }
+
+    private int indexOf(long hi, long lo) {
+        int index = slot(hi, lo);
+        while (used[index]) {
+            if (msb[index] == hi && lsb[index] == lo) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long hi, long lo) {
+        long h = (hi ^ lo) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        msb = new long[capacity];
+        lsb = new long[capacity];
+        values = new long[capacity];
+        tags = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldMsb = msb;
+        long[] oldLsb = lsb;
+        long[] oldValues = values;
+        long[] oldTags = tags;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                put(new UUID(oldMsb[i], oldLsb[i]), oldValues[i], oldTags[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.Omnibus.domain.exception;
+
+/**
+ * Thrown when a leg of an all-or-nothing batch transfer fails and the whole batch is rolled back.
+ */
+public class BatchTransferAbortedException extends DomainException {
+
+    private final int legIndex;
+
+    public BatchTransferAbortedException(int legIndex, RuntimeException cause) {
+        super("Batch aborted at leg " + legIndex + ": " + cause.getMessage(), cause);
+        this.legIndex = legIndex;
+    }
+
+    public int getLegIndex() {
+        return legIndex;
+    }
+}
@@ -0,0 +1,22 @@
+package com.Omnibus.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when the commit of a transfer failed without saying whether it was applied (e.g. the
+ * connection dropped during COMMIT). The transfer is not retried; a client retry with the same
+ * idempotency key is answered with the original result if it was applied.
+ */
+public class TransferOutcomeUnknownException extends DomainException {
+
+    private final UUID transactionId;
+
+    public TransferOutcomeUnknownException(UUID transactionId, Throwable cause) {
+        super("Outcome of transaction " + transactionId + " is unknown: " + cause.getMessage(), cause);
+        this.transactionId = transactionId;
+    }
+
+    public UUID getTransactionId() {
+        return transactionId;
+    }
+}
@@ -7,6 +7,10 @@ import java.util.UUID;
 /**
  * Domain entity representing a financial account.
  * Balance is stored as Money (BigDecimal + currency).
+ * <p>
+ * Hot accounts may run in sharded-balance mode: incoming credits land in sub-balance
+ * buckets outside the account row and are later folded back in via {@link #consolidate(Money)}.
+ * {@code balance} is the consolidated part only; {@link #getTotalBalance()} includes the buckets.
  */
 public class Account {
 
@@ -14,9 +18,12 @@ public class Account {
     private UUID userId;
     private String accountNumber;
     private Money balance;
+    private Money bucketBalance;
     private AccountStatus status;
     private Instant createdAt;
     private Instant updatedAt;
+    /** Row version, bumped by the database on every update; used for optimistic writes. */
+    private long version;
 
     /** JPA / mapper use only. */
     public Account() {
@@ -66,6 +73,30 @@ public class Account {
         return this.balance;
     }
 
+    /**
+     * Fold credits drained from the sub-balance buckets into the consolidated balance.
+     * Not a ledger movement — the credits were already recorded when they landed in the buckets.
+     * @return the consolidated balance after folding in the drained amount
+     */
+    public Money consolidate(Money drained) {
+        if (drained.isNegative()) {
+            throw new IllegalArgumentException("Consolidated amount must not be negative");
+        }
+        if (!drained.isZero()) {
+            this.balance = this.balance.add(drained);
+            this.updatedAt = Instant.now();
+        }
+        this.bucketBalance = null;
+        return this.balance;
+    }
+
+    /**
+     * Consolidated balance plus any credits still parked in sub-balance buckets.
+     */
+    public Money getTotalBalance() {
+        return bucketBalance == null ? balance : balance.add(bucketBalance);
+    }
+
     public boolean isActive() {
         return this.status == AccountStatus.ACTIVE;
     }
@@ -104,6 +135,14 @@ public class Account {
         this.balance = balance;
     }
 
+    public Money getBucketBalance() {
+        return bucketBalance;
+    }
+
+    public void setBucketBalance(Money bucketBalance) {
+        this.bucketBalance = bucketBalance;
+    }
+
     public AccountStatus getStatus() {
         return status;
     }
@@ -127,4 +166,12 @@ public class Account {
     public void setUpdatedAt(Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
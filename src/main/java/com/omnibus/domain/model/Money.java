@@ -3,32 +3,46 @@ package com.Omnibus.domain.model;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Value object representing a monetary amount with a currency.
  * Immutable. All arithmetic returns new instances.
  * Uses BigDecimal with HALF_EVEN rounding (banker's rounding) and scale of 4.
+ * <p>
+ * Internally the amount is held as a scaled {@code long} (1/10000 units), which covers every
+ * NUMERIC(19,4) balance below ~922 trillion, so arithmetic and comparisons do not allocate
+ * BigDecimals. Values outside that range, or results that would overflow, fall back to an
+ * exact BigDecimal. Exactly one representation is used for any given value, so equality and
+ * hashing do not depend on how a value was produced.
  */
 public final class Money {
 
     public static final int SCALE = 4;
     public static final RoundingMode ROUNDING = RoundingMode.HALF_EVEN;
 
-    private final BigDecimal amount;
+    private static final long UNITS_PER_WHOLE = 10_000L;
+    private static final int MAX_INTERNED_CURRENCIES = 1024;
+    private static final ConcurrentHashMap<String, String> CURRENCIES = new ConcurrentHashMap<>();
+
+    /** Amount in 1/10000 units; meaningful only when {@link #decimal} is null. */
+    private final long units;
+    /** Exact scale-4 amount when it does not fit in {@link #units}; otherwise null. */
+    private final BigDecimal decimal;
     private final String currency;
 
-    private Money(BigDecimal amount, String currency) {
-        this.amount = amount.setScale(SCALE, ROUNDING);
-        this.currency = currency.toUpperCase();
+    /** Lazily materialized {@link #getAmount()} value (benign race — BigDecimal is immutable). */
+    private BigDecimal amount;
+
+    private Money(long units, BigDecimal decimal, String currency) {
+        this.units = units;
+        this.decimal = decimal;
+        this.currency = currency;
     }
 
     public static Money of(BigDecimal amount, String currency) {
         Objects.requireNonNull(amount, "amount must not be null");
-        Objects.requireNonNull(currency, "currency must not be null");
-        if (currency.length() != 3) {
-            throw new IllegalArgumentException("Currency must be a 3-letter ISO 4217 code");
-        }
-        return new Money(amount, currency);
+        return ofScaled(amount.setScale(SCALE, ROUNDING), canonicalCurrency(currency));
     }
 
     public static Money of(String amount, String currency) {
@@ -36,51 +50,79 @@ public final class Money {
     }
 
     public static Money of(long amount, String currency) {
-        return of(BigDecimal.valueOf(amount), currency);
+        String code = canonicalCurrency(currency);
+        long hi = Math.multiplyHigh(amount, UNITS_PER_WHOLE);
+        long lo = amount * UNITS_PER_WHOLE;
+        if ((hi == 0 && lo >= 0) || (hi == -1 && lo < 0)) {
+            return new Money(lo, null, code);
+        }
+        return ofScaled(BigDecimal.valueOf(amount).setScale(SCALE, ROUNDING), code);
     }
 
     public static Money zero(String currency) {
-        return of(BigDecimal.ZERO, currency);
+        return new Money(0, null, canonicalCurrency(currency));
     }
 
     public Money add(Money other) {
         assertSameCurrency(other);
-        return new Money(this.amount.add(other.amount), this.currency);
+        if (decimal == null && other.decimal == null) {
+            long result = units + other.units;
+            // Overflow iff both operands have the same sign and the result's sign differs
+            if (((units ^ result) & (other.units ^ result)) >= 0) {
+                return new Money(result, null, currency);
+            }
+        }
+        return ofScaled(exact().add(other.exact()), currency);
     }
 
     public Money subtract(Money other) {
         assertSameCurrency(other);
-        return new Money(this.amount.subtract(other.amount), this.currency);
+        if (decimal == null && other.decimal == null) {
+            long result = units - other.units;
+            // Overflow iff the operands have different signs and the result's sign differs from ours
+            if (((units ^ other.units) & (units ^ result)) >= 0) {
+                return new Money(result, null, currency);
+            }
+        }
+        return ofScaled(exact().subtract(other.exact()), currency);
     }
 
     public Money negate() {
-        return new Money(this.amount.negate(), this.currency);
+        if (decimal == null && units != Long.MIN_VALUE) {
+            return new Money(-units, null, currency);
+        }
+        return ofScaled(exact().negate(), currency);
     }
 
     public boolean isPositive() {
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return signum() > 0;
     }
 
     public boolean isNegative() {
-        return amount.compareTo(BigDecimal.ZERO) < 0;
+        return signum() < 0;
     }
 
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return signum() == 0;
     }
 
     public boolean isGreaterThanOrEqual(Money other) {
         assertSameCurrency(other);
-        return this.amount.compareTo(other.amount) >= 0;
+        return compareAmount(other) >= 0;
     }
 
     public boolean isLessThan(Money other) {
         assertSameCurrency(other);
-        return this.amount.compareTo(other.amount) < 0;
+        return compareAmount(other) < 0;
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        BigDecimal value = amount;
+        if (value == null) {
+            value = exact();
+            amount = value;
+        }
+        return value;
     }
 
     public String getCurrency() {
@@ -88,26 +130,73 @@ public final class Money {
     }
 
     private void assertSameCurrency(Money other) {
-        if (!this.currency.equals(other.currency)) {
+        // Canonical codes are interned, so the identity check almost always settles it
+        if (this.currency != other.currency && !this.currency.equals(other.currency)) {
             throw new IllegalArgumentException(
                     "Currency mismatch: " + this.currency + " vs " + other.currency);
         }
     }
 
+    private int signum() {
+        return decimal == null ? Long.signum(units) : decimal.signum();
+    }
+
+    private int compareAmount(Money other) {
+        if (decimal == null && other.decimal == null) {
+            return Long.compare(units, other.units);
+        }
+        return exact().compareTo(other.exact());
+    }
+
+    private BigDecimal exact() {
+        return decimal != null ? decimal : BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * Builds a Money from a scale-4 BigDecimal, using the long form whenever the value fits.
+     */
+    private static Money ofScaled(BigDecimal scaled, String currency) {
+        if (scaled.unscaledValue().bitLength() < Long.SIZE) {
+            return new Money(scaled.unscaledValue().longValue(), null, currency);
+        }
+        return new Money(0, scaled, currency);
+    }
+
+    private static String canonicalCurrency(String currency) {
+        Objects.requireNonNull(currency, "currency must not be null");
+        String code = CURRENCIES.get(currency);
+        if (code != null) {
+            return code;
+        }
+        if (currency.length() != 3) {
+            throw new IllegalArgumentException("Currency must be a 3-letter ISO 4217 code");
+        }
+        code = currency.toUpperCase();
+        if (CURRENCIES.size() < MAX_INTERNED_CURRENCIES) {
+            String upper = CURRENCIES.computeIfAbsent(code, c -> c);
+            CURRENCIES.putIfAbsent(currency, upper);
+            return upper;
+        }
+        return code;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Money money)) return false;
-        return amount.compareTo(money.amount) == 0 && currency.equals(money.currency);
+        if (decimal == null && money.decimal == null) {
+            return units == money.units && currency.equals(money.currency);
+        }
+        return exact().compareTo(money.exact()) == 0 && currency.equals(money.currency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount.stripTrailingZeros(), currency);
+        return 31 * (decimal == null ? Long.hashCode(units) : decimal.hashCode()) + currency.hashCode();
     }
 
     @Override
     public String toString() {
-        return amount.toPlainString() + " " + currency;
+        return getAmount().toPlainString() + " " + currency;
     }
 }
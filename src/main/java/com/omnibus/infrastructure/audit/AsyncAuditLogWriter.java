@@ -0,0 +1,287 @@
+package com.Omnibus.infrastructure.audit;
+
+import com.Omnibus.application.port.out.AuditLogPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous audit log writer (default, {@code app.audit.mode=async}).
+ * <p>
+ * Callers append the event to a local {@link AuditWriteAheadLog} and hand it to a bounded queue;
+ * they never touch the connection pool. A single writer thread drains the queue and inserts up to
+ * {@code batch-size} rows per multi-row INSERT. Events are still recorded when the calling
+ * transaction rolls back (failed transfers), and anything not yet written when the process dies
+ * is replayed from the spill file on the next start; with {@code spill-force} on that also holds
+ * across a power loss. A full queue blocks the caller (back-pressure).
+ * <p>
+ * A failing batch is retried {@code max-flush-attempts} times, then written row by row so one
+ * bad row cannot hold up the rest. A row the database rejects goes to the spill directory's
+ * dead-letter file; rows that fail because the database is unreachable stay in the spill file
+ * for the next start. Either way the writer moves on and the queue keeps draining.
+ */
+@Service
+@ConditionalOnProperty(name = "app.audit.mode", havingValue = "async", matchIfMissing = true)
+public class AsyncAuditLogWriter implements AuditLogPort {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncAuditLogWriter.class);
+
+    private static final String INSERT_PREFIX = "INSERT INTO audit_logs (entity_type, entity_id, action, actor_id, "
+            + "before_snapshot, after_snapshot, balance_before, balance_after, created_at) VALUES ";
+    private static final String ROW_VALUES = "(?, ?, ?, ?, ?::jsonb, ?::jsonb, ?, ?, ?)";
+    private static final long INITIAL_BACKOFF_MS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditWriteAheadLog writeAheadLog;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxFlushAttempts;
+    private final long shutdownTimeoutMs;
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AsyncAuditLogWriter(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                               @Value("${app.audit.batch-size:500}") int batchSize,
+                               @Value("${app.audit.flush-interval-ms:50}") long flushIntervalMs,
+                               @Value("${app.audit.max-flush-attempts:5}") int maxFlushAttempts,
+                               @Value("${app.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+                               @Value("${app.audit.spill-directory:audit-spill}") String spillDirectory,
+                               @Value("${app.audit.spill-segment-bytes:16777216}") long spillSegmentBytes,
+                               @Value("${app.audit.spill-force:true}") boolean spillForce) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeAheadLog = new AuditWriteAheadLog(Path.of(spillDirectory), spillSegmentBytes, objectMapper,
+                spillForce);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxFlushAttempts = Math.max(1, maxFlushAttempts);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder("omnibus.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("omnibus.audit.spill.pending", writeAheadLog, AuditWriteAheadLog::pendingCount)
+                .description("Audit events held in the spill file and not yet acknowledged")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("omnibus.audit.flush")
+                .description("Latency of one multi-row audit insert")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("omnibus.audit.events.written").register(meterRegistry);
+        this.failureCounter = Counter.builder("omnibus.audit.flush.failures").register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("omnibus.audit.events.dead-lettered")
+                .description("Audit events the database rejected, kept in the dead-letter file")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        List<AuditEvent> recovered = writeAheadLog.recover();
+
+        running = true;
+        writerThread = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::runWriter);
+
+        if (!recovered.isEmpty()) {
+            log.warn("Replaying {} audit event(s) left in the spill file by a previous run", recovered.size());
+            recovered.forEach(this::enqueue);
+        }
+        writeAheadLog.discardRecovered();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(shutdownTimeoutMs);
+        if (writerThread.isAlive()) {
+            log.warn("Audit writer did not drain within {} ms; {} event(s) stay in the spill file",
+                    shutdownTimeoutMs, writeAheadLog.pendingCount());
+            writerThread.interrupt();
+        }
+        writeAheadLog.close();
+    }
+
+    @Override
+    public void logAccountChange(UUID accountId, UUID actorId, String action,
+                                 String beforeSnapshot, String afterSnapshot,
+                                 BigDecimal balanceBefore, BigDecimal balanceAfter) {
+        enqueue(new AuditEvent("ACCOUNT", accountId, action, actorId,
+                beforeSnapshot, afterSnapshot, balanceBefore, balanceAfter, Instant.now()));
+    }
+
+    @Override
+    public void logTransactionEvent(UUID transactionId, UUID actorId, String action,
+                                    String beforeSnapshot, String afterSnapshot) {
+        enqueue(new AuditEvent("TRANSACTION", transactionId, action, actorId,
+                beforeSnapshot, afterSnapshot, null, null, Instant.now()));
+    }
+
+    private void enqueue(AuditEvent event) {
+        long segment = writeAheadLog.append(event);
+        try {
+            queue.put(new Pending(segment, event));
+        } catch (InterruptedException e) {
+            // Already in the spill file — it is replayed on the next start
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // A dead writer would leave every caller blocked on a full queue
+                log.error("Audit writer failed; {} event(s) stay in the spill file", batch.size(), e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) throws InterruptedException {
+        long backoffMs = INITIAL_BACKOFF_MS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                writtenCounter.increment(batch.size());
+                acknowledge(batch);
+                return;
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                // No backoff while shutting down: the drain has a deadline
+                if (!running || attempt >= maxFlushAttempts) {
+                    log.warn("Audit flush of {} event(s) failed {} time(s), writing them one by one: {}",
+                            batch.size(), attempt, e.getMessage());
+                    break;
+                }
+                log.warn("Audit flush of {} event(s) failed, retrying in {} ms: {}",
+                        batch.size(), backoffMs, e.getMessage());
+                Thread.sleep(backoffMs);
+                backoffMs *= 2;
+            }
+        }
+        flushOneByOne(batch);
+    }
+
+    /**
+     * Last resort for a batch that kept failing. Rejected rows are dead-lettered; once the
+     * database looks unreachable the rest of the batch is left in the spill file untried.
+     */
+    private void flushOneByOne(List<Pending> batch) {
+        List<Pending> done = new ArrayList<>(batch.size());
+        int written = 0;
+        int unavailable = 0;
+        for (Pending pending : batch) {
+            if (unavailable > 0) {
+                unavailable++;
+                continue;
+            }
+            try {
+                insert(List.of(pending));
+                done.add(pending);
+                written++;
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException e) {
+                log.error("Audit database unavailable: {}", e.getMessage());
+                unavailable++;
+            } catch (RuntimeException e) {
+                AuditEvent event = pending.event();
+                log.error("Audit event {} {} {} at {} rejected by the database",
+                        event.entityType(), event.entityId(), event.action(), event.createdAt(), e);
+                try {
+                    writeAheadLog.deadLetter(event);
+                    deadLetterCounter.increment();
+                    done.add(pending);
+                } catch (UncheckedIOException io) {
+                    log.error("Could not dead-letter it; it stays in the spill file", io);
+                }
+            }
+        }
+        writtenCounter.increment(written);
+        acknowledge(done);
+        if (unavailable > 0) {
+            log.error("{} audit event(s) stay in the spill file and are replayed on the next start", unavailable);
+        }
+    }
+
+    private void insert(List<Pending> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW_VALUES.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 9];
+        int i = 0;
+        for (Pending pending : batch) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_VALUES);
+            AuditEvent event = pending.event();
+            args[i++] = event.entityType();
+            args[i++] = event.entityId();
+            args[i++] = event.action();
+            args[i++] = event.actorId();
+            args[i++] = event.beforeSnapshot();
+            args[i++] = event.afterSnapshot();
+            args[i++] = event.balanceBefore();
+            args[i++] = event.balanceAfter();
+            args[i++] = Timestamp.from(event.createdAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private void acknowledge(List<Pending> batch) {
+        Map<Long, Integer> perSegment = new HashMap<>();
+        for (Pending pending : batch) {
+            perSegment.merge(pending.segment(), 1, Integer::sum);
+        }
+        perSegment.forEach(writeAheadLog::acknowledge);
+    }
+
+    private record Pending(long segment, AuditEvent event) {
+    }
+}
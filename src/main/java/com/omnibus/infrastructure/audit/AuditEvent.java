@@ -0,0 +1,21 @@
+package com.Omnibus.infrastructure.audit;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One audit_logs row captured at call time and written later by {@link AsyncAuditLogWriter}.
+ */
+public record AuditEvent(
+        String entityType,
+        UUID entityId,
+        String action,
+        UUID actorId,
+        String beforeSnapshot,
+        String afterSnapshot,
+        BigDecimal balanceBefore,
+        BigDecimal balanceAfter,
+        Instant createdAt
+) {
+}
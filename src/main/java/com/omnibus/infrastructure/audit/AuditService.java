@@ -3,6 +3,7 @@ package com.Omnibus.infrastructure.audit;
 import com.Omnibus.adapter.out.persistence.AuditLogJpaEntity;
 import com.Omnibus.adapter.out.persistence.AuditLogJpaRepository;
 import com.Omnibus.application.port.out.AuditLogPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +14,12 @@ import java.util.UUID;
 /**
  * Audit log writer with REQUIRES_NEW propagation.
  * Audit entries survive parent transaction rollbacks — failed transfers are still logged.
+ * <p>
+ * Enabled with {@code app.audit.mode=sync}; each call takes a second pooled connection and
+ * commits on its own. The default is {@link AsyncAuditLogWriter}.
  */
 @Service
+@ConditionalOnProperty(name = "app.audit.mode", havingValue = "sync")
 public class AuditService implements AuditLogPort {
 
     private final AuditLogJpaRepository repository;
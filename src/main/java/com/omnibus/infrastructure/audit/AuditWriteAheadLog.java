@@ -0,0 +1,255 @@
+package com.Omnibus.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local append-only spill file for audit events that are queued but not yet in the database.
+ * <p>
+ * Every event is appended (one JSON line) before it is queued, and leftover segments are read
+ * back by {@link #recover()} on the next start. With {@code force} on (the default),
+ * {@link #append} returns only once the line is forced to disk, so neither a process crash nor a
+ * power loss or OS crash loses an acknowledged append. Appenders that arrive while a force is in
+ * progress share the next one, so concurrent callers pay for one fsync between them. With
+ * {@code force} off the line is only in the OS page cache when append returns, and the guarantee
+ * narrows to a process crash.
+ * <p>
+ * The log is split into segments; a segment is deleted once every event in it has been
+ * acknowledged as written. Delivery is therefore at-least-once — a crash between the database
+ * commit and the acknowledgement replays that batch.
+ * <p>
+ * Events the database rejects are moved to {@code dead-letter.jsonl} in the same directory,
+ * which is never replayed; it is kept for an operator to inspect and re-insert.
+ */
+public class AuditWriteAheadLog implements AutoCloseable {
+
+    private static final String SUFFIX = ".wal";
+    private static final String DEAD_LETTER_FILE = "dead-letter.jsonl";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final ObjectMapper objectMapper;
+    private final boolean force;
+
+    /** Serializes forces; never taken while holding the monitor of {@code this}. */
+    private final Object forceLock = new Object();
+    /** Events appended so far (guarded by {@code this}). */
+    private long appended;
+    /** Events known to be on disk (guarded by {@link #forceLock}). */
+    private long forced;
+
+    /** Pending (unacknowledged) event count per segment id, in creation order. */
+    private final Map<Long, Integer> pending = new LinkedHashMap<>();
+    private long activeSegment;
+    private FileChannel activeChannel;
+    private List<Path> recovered = List.of();
+
+    public AuditWriteAheadLog(Path directory, long segmentBytes, ObjectMapper objectMapper) {
+        this(directory, segmentBytes, objectMapper, true);
+    }
+
+    public AuditWriteAheadLog(Path directory, long segmentBytes, ObjectMapper objectMapper, boolean force) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.objectMapper = objectMapper;
+        this.force = force;
+    }
+
+    /**
+     * Reads every segment left behind by a previous run and removes them.
+     * Callers must {@link #append} the returned events again before writing them.
+     */
+    public synchronized List<AuditEvent> recover() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+                stream.forEach(segments::add);
+            }
+            segments.sort(null);
+
+            List<AuditEvent> events = new ArrayList<>();
+            for (Path segment : segments) {
+                for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                    if (!line.isBlank()) {
+                        events.add(objectMapper.readValue(line, AuditEvent.class));
+                    }
+                }
+                activeSegment = Math.max(activeSegment, segmentId(segment));
+            }
+            openNextSegment();
+            recovered = segments;
+            return events;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover audit spill file in " + directory, e);
+        }
+    }
+
+    /**
+     * Deletes the segments read by {@link #recover()}; call after their events were re-appended.
+     */
+    public synchronized void discardRecovered() {
+        for (Path segment : recovered) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        recovered = List.of();
+    }
+
+    /**
+     * Appends one event and returns the id of the segment holding it, to be passed to {@link #acknowledge}.
+     * With {@code force} on, the event is on disk when this returns.
+     */
+    public long append(AuditEvent event) {
+        long segment;
+        long sequence;
+        synchronized (this) {
+            try {
+                if (activeChannel == null) {
+                    Files.createDirectories(directory);
+                    openNextSegment();
+                } else if (activeChannel.size() >= segmentBytes) {
+                    // Events in the closed segment must not depend on a later force of the new one
+                    activeChannel.force(false);
+                    activeChannel.close();
+                    openNextSegment();
+                }
+                byte[] line = (objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8);
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    activeChannel.write(buffer);
+                }
+                pending.merge(activeSegment, 1, Integer::sum);
+                segment = activeSegment;
+                sequence = ++appended;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append audit event to spill file", e);
+            }
+        }
+        if (force) {
+            forceUpTo(sequence);
+        }
+        return segment;
+    }
+
+    /**
+     * Forces the active segment unless a force that started after {@code sequence} was appended
+     * already covered it. Events appended while a force is running are covered by the next one.
+     */
+    private void forceUpTo(long sequence) {
+        synchronized (forceLock) {
+            if (forced >= sequence) {
+                return;
+            }
+            long upTo;
+            FileChannel channel;
+            synchronized (this) {
+                upTo = appended;
+                channel = activeChannel;
+            }
+            try {
+                if (channel != null) {
+                    channel.force(false);
+                }
+            } catch (ClosedChannelException e) {
+                // Rotated or closed in the meantime, and forced before it was closed
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to force audit spill file to disk", e);
+            }
+            forced = upTo;
+        }
+    }
+
+    /**
+     * Appends one event to the dead-letter file and forces it to disk, so the event can then be
+     * acknowledged.
+     */
+    public synchronized void deadLetter(AuditEvent event) {
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(
+                        (objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write audit event to the dead-letter file", e);
+        }
+    }
+
+    /**
+     * Marks {@code count} events of a segment as durably written to the database.
+     * Fully acknowledged segments are deleted; the active one is truncated instead.
+     */
+    public synchronized void acknowledge(long segment, int count) {
+        Integer remaining = pending.computeIfPresent(segment, (id, n) -> n - count);
+        if (remaining == null || remaining > 0) {
+            return;
+        }
+        try {
+            if (segment == activeSegment) {
+                activeChannel.truncate(0);
+                pending.remove(segment);
+                return;
+            }
+            pending.remove(segment);
+            Files.deleteIfExists(segmentPath(segment));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to release audit spill segment " + segment, e);
+        }
+    }
+
+    /** Number of events appended but not yet acknowledged. */
+    public synchronized int pendingCount() {
+        return pending.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (activeChannel != null) {
+            try {
+                activeChannel.force(true);
+                activeChannel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            activeChannel = null;
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        activeSegment++;
+        activeChannel = FileChannel.open(segmentPath(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("audit-%019d%s", segment, SUFFIX));
+    }
+
+    private static long segmentId(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring("audit-".length(), name.length() - SUFFIX.length()));
+    }
+}
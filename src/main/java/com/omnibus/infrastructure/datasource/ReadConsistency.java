@@ -0,0 +1,30 @@
+package com.Omnibus.infrastructure.datasource;
+
+/**
+ * Per-thread replica requirement for the current request, set by {@link ReadYourWritesFilter}.
+ * <p>
+ * Holds the lowest WAL position a replica must have replayed before it may serve the request's
+ * reads. Threads without a requirement (writes, async dispatch, background jobs) read from the primary.
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Long> REQUIRED_LSN = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    static void require(long lsn) {
+        REQUIRED_LSN.set(lsn);
+    }
+
+    static void clear() {
+        REQUIRED_LSN.remove();
+    }
+
+    /**
+     * @return the required replay position, or null if this thread must read from the primary
+     */
+    static Long requiredLsn() {
+        return REQUIRED_LSN.get();
+    }
+}
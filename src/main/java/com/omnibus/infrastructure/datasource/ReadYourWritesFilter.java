@@ -0,0 +1,79 @@
+package com.Omnibus.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Applies read-your-writes to replica routing. Runs after Spring Security, so the user is known.
+ * <p>
+ * GET and HEAD requests may read from the replica once it has replayed the user's last write,
+ * or the position a client passes in {@code X-Min-LSN}. Every other request reads and writes on
+ * the primary; when it succeeds, the primary's WAL position is recorded for the user and returned
+ * in {@code X-Commit-LSN} before the response body is released.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String MIN_LSN_HEADER = "X-Min-LSN";
+    static final String COMMIT_LSN_HEADER = "X-Commit-LSN";
+
+    private final ReplicaLsnTracker tracker;
+
+    public ReadYourWritesFilter(ReplicaLsnTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        UUID userId = currentUser();
+        if ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())) {
+            ReadConsistency.require(Math.max(tracker.requiredLsn(userId), clientLsn(request)));
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ReadConsistency.clear();
+            }
+            return;
+        }
+
+        // Hold the body until the write's position is recorded, so the client cannot read before it
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < 400) {
+                long lsn = tracker.recordWrite(userId);
+                wrapper.setHeader(COMMIT_LSN_HEADER, ReplicaLsnTracker.format(lsn));
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static UUID currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UUID userId ? userId : null;
+    }
+
+    private static long clientLsn(HttpServletRequest request) {
+        String header = request.getHeader(MIN_LSN_HEADER);
+        if (header == null || header.isBlank()) {
+            return 0;
+        }
+        try {
+            return ReplicaLsnTracker.parse(header.trim());
+        } catch (RuntimeException e) {
+            // Unparseable token — be safe and read from the primary
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.Omnibus.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks WAL positions for read-your-writes routing.
+ * <p>
+ * Each user's last write is remembered as the primary's {@code pg_current_wal_lsn()} right after
+ * it committed; the replica's {@code pg_last_wal_replay_lsn()} is polled on a fixed delay. A read
+ * may go to the replica when the replica has replayed past the reader's last write and is no more
+ * than {@code max-lag-bytes} behind the primary. A replica that is not in recovery (a test setup
+ * pointing at a plain server) reports its own current position.
+ */
+public class ReplicaLsnTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLsnTracker.class);
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLICA_LSN_SQL = """
+            SELECT CASE WHEN pg_is_in_recovery() THEN pg_last_wal_replay_lsn() ELSE pg_current_wal_lsn() END::text
+            """;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagBytes;
+    private final int maxTrackedUsers;
+
+    private final Map<UUID, Long> lastWrite = new ConcurrentHashMap<>();
+    /** Writes forgotten to bound {@link #lastWrite}; every reader must wait for them. */
+    private volatile long evictedFloor;
+    private volatile long primaryLsn;
+    /** Replica replay position, or -1 while it is unknown or the replica is unreachable. */
+    private volatile long replicaLsn = -1;
+
+    public ReplicaLsnTracker(DataSource primary, DataSource replica, long maxLagBytes, int maxTrackedUsers,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagBytes = maxLagBytes;
+        this.maxTrackedUsers = maxTrackedUsers;
+
+        Gauge.builder("omnibus.datasource.replica.lag.bytes", this,
+                        tracker -> tracker.replicaLsn < 0 ? Double.NaN : tracker.primaryLsn - tracker.replicaLsn)
+                .description("WAL bytes the read replica is behind the primary")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record that {@code userId} (null for anonymous requests) has just committed a write.
+     *
+     * @return the primary's WAL position covering that write
+     */
+    public long recordWrite(UUID userId) {
+        long lsn = parse(primary.queryForObject(PRIMARY_LSN_SQL, String.class));
+        primaryLsn = Math.max(primaryLsn, lsn);
+        if (userId != null) {
+            if (lastWrite.size() >= maxTrackedUsers && !lastWrite.containsKey(userId)) {
+                // Forget everyone, but make every reader wait for the newest forgotten write
+                evictedFloor = Math.max(evictedFloor, primaryLsn);
+                lastWrite.clear();
+            }
+            lastWrite.merge(userId, lsn, Math::max);
+        }
+        return lsn;
+    }
+
+    /**
+     * The position a replica must have replayed before serving {@code userId}'s reads.
+     */
+    public long requiredLsn(UUID userId) {
+        long floor = evictedFloor;
+        Long lsn = userId != null ? lastWrite.get(userId) : null;
+        return lsn != null ? Math.max(lsn, floor) : floor;
+    }
+
+    boolean replicaCovers(long requiredLsn) {
+        long replayed = replicaLsn;
+        return replayed >= 0 && replayed >= requiredLsn && primaryLsn - replayed <= maxLagBytes;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.poll-interval-ms:100}")
+    void refresh() {
+        try {
+            primaryLsn = Math.max(primaryLsn, parse(primary.queryForObject(PRIMARY_LSN_SQL, String.class)));
+            long replayed = parse(replica.queryForObject(REPLICA_LSN_SQL, String.class));
+            replicaLsn = replayed;
+            // Writes the replica has replayed no longer constrain routing
+            lastWrite.values().removeIf(lsn -> lsn <= replayed);
+        } catch (RuntimeException e) {
+            if (replicaLsn >= 0) {
+                log.warn("Read replica position unavailable — reading from the primary: {}", e.getMessage());
+            }
+            replicaLsn = -1;
+        }
+    }
+
+    /**
+     * Parses a {@code pg_lsn} text value ({@code "16/B374D848"}) into a comparable long.
+     */
+    static long parse(String lsn) {
+        if (lsn == null) {
+            return -1;
+        }
+        int slash = lsn.indexOf('/');
+        return (Long.parseUnsignedLong(lsn.substring(0, slash), 16) << 32)
+                | Long.parseUnsignedLong(lsn.substring(slash + 1), 16);
+    }
+
+    static String format(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+}
@@ -0,0 +1,51 @@
+package com.Omnibus.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Target for read-only connections: the replica pool when it satisfies the current thread's
+ * {@link ReadConsistency} requirement, otherwise the primary pool.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLsnTracker tracker;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLsnTracker tracker,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.tracker = tracker;
+        this.replicaReads = meterRegistry.counter("omnibus.datasource.reads", "target", "replica");
+        this.primaryReads = meterRegistry.counter("omnibus.datasource.reads", "target", "primary");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    private DataSource route() {
+        Long required = ReadConsistency.requiredLsn();
+        if (required != null && tracker.replicaCovers(required)) {
+            replicaReads.increment();
+            return replica;
+        }
+        primaryReads.increment();
+        return primary;
+    }
+}
@@ -0,0 +1,41 @@
+package com.Omnibus.infrastructure.scheduling;
+
+import com.Omnibus.application.service.ArchivalService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically moves ledger and audit months past their retention to cold storage.
+ * <p>
+ * Runs daily when {@code app.archive.enabled=true}; with several instances, the one holding
+ * the archival advisory lock does the work and the others skip the run. Archived rows are
+ * deleted from the database, so the archive directory must be kept and backed up like the
+ * database itself.
+ */
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+public class ArchivalScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivalScheduler.class);
+
+    private final ArchivalService archivalService;
+
+    public ArchivalScheduler(ArchivalService archivalService) {
+        this.archivalService = archivalService;
+    }
+
+    @Scheduled(initialDelayString = "${app.archive.initial-delay-ms:300000}",
+            fixedDelayString = "${app.archive.interval-ms:86400000}")
+    public void archive() {
+        log.info("Running cold-storage archival...");
+        long rows = archivalService.archiveExpired();
+        if (rows > 0) {
+            log.info("Archived {} row(s)", rows);
+        } else {
+            log.debug("No months past retention to archive");
+        }
+    }
+}
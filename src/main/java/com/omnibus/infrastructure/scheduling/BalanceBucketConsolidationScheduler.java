@@ -0,0 +1,41 @@
+package com.Omnibus.infrastructure.scheduling;
+
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import com.Omnibus.application.service.ShardedBalancePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Periodically folds the sub-balance buckets of sharded (hot) accounts back into
+ * their main balance, so the stored balance stays close to the true total and
+ * debits rarely need to drain buckets inline.
+ */
+@Component
+public class BalanceBucketConsolidationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceBucketConsolidationScheduler.class);
+
+    private final AccountRepositoryPort accountRepository;
+    private final ShardedBalancePolicy shardedBalancePolicy;
+
+    public BalanceBucketConsolidationScheduler(AccountRepositoryPort accountRepository,
+                                               ShardedBalancePolicy shardedBalancePolicy) {
+        this.accountRepository = accountRepository;
+        this.shardedBalancePolicy = shardedBalancePolicy;
+    }
+
+    @Scheduled(fixedDelayString = "${app.accounts.sharded-balance.consolidation-interval-ms:5000}")
+    public void consolidate() {
+        for (UUID accountId : shardedBalancePolicy.getAccountIds()) {
+            try {
+                accountRepository.consolidateBalanceBuckets(accountId);
+            } catch (RuntimeException e) {
+                log.warn("Balance bucket consolidation failed for account {}: {}", accountId, e.getMessage());
+            }
+        }
+    }
+}
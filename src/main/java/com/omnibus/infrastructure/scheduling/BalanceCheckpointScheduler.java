@@ -0,0 +1,55 @@
+package com.Omnibus.infrastructure.scheduling;
+
+import com.Omnibus.application.port.out.BalanceCheckpointPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Periodically checkpoints the balance of every account whose ledger moved since the last run,
+ * so point-in-time balance queries replay only the ledger tail after the nearest checkpoint.
+ * <p>
+ * Runs every hour. A ledger entry is timestamped before its transaction commits, and an entry
+ * older than the cut-off must already be visible when the checkpoint is taken: the next run
+ * builds on this checkpoint and never looks behind it. The cut-off therefore trails both the
+ * clock and the start of the oldest transaction still open by {@code settle-seconds}, which
+ * absorbs clock skew between the application and the database.
+ */
+@Component
+public class BalanceCheckpointScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCheckpointScheduler.class);
+
+    private final BalanceCheckpointPort balanceCheckpoints;
+    private final Duration settle;
+
+    public BalanceCheckpointScheduler(BalanceCheckpointPort balanceCheckpoints,
+                                      @Value("${app.ledger.checkpoints.settle-seconds:60}") long settleSeconds) {
+        this.balanceCheckpoints = balanceCheckpoints;
+        this.settle = Duration.ofSeconds(settleSeconds);
+    }
+
+    /**
+     * Write balance checkpoints every hour.
+     */
+    @Scheduled(fixedDelayString = "${app.ledger.checkpoints.interval-ms:3600000}")
+    public void writeCheckpoints() {
+        Instant now = Instant.now();
+        Instant oldestOpen = balanceCheckpoints.oldestOpenTransactionStart()
+                .filter(start -> start.isBefore(now))
+                .orElse(now);
+        Instant cutoff = oldestOpen.minus(settle);
+        log.info("Writing balance checkpoints as of {}...", cutoff);
+        int written = balanceCheckpoints.writeCheckpoints(cutoff);
+        if (written > 0) {
+            log.info("Wrote {} balance checkpoint(s)", written);
+        } else {
+            log.debug("No account balances moved since the last checkpoint");
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.Omnibus.infrastructure.scheduling;
 
 import com.Omnibus.application.port.out.IdempotencyStorePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +15,10 @@ import org.springframework.stereotype.Component;
  * <p>
  * Runs every hour. Keys older than the configured TTL (default 24h)
  * are cleaned up to prevent unbounded table growth.
+ * <p>
+ * Keys are deleted {@code batch-size} at a time, each batch in its own short transaction, with
+ * a {@code batch-pause-ms} pause between batches. A busy day's backlog never turns into one
+ * long-running DELETE that holds row locks and floods the WAL while transfers are running.
  */
 @Component
 public class IdempotencyKeyCleanupScheduler {
@@ -18,9 +26,29 @@ public class IdempotencyKeyCleanupScheduler {
     private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyCleanupScheduler.class);
 
     private final IdempotencyStorePort idempotencyStore;
+    private final int batchSize;
+    private final long batchPauseMs;
+
+    private final Counter purgedCounter;
+    private final Timer batchTimer;
 
-    public IdempotencyKeyCleanupScheduler(IdempotencyStorePort idempotencyStore) {
+    public IdempotencyKeyCleanupScheduler(IdempotencyStorePort idempotencyStore,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${app.idempotency.cleanup.batch-size:1000}") int batchSize,
+                                          @Value("${app.idempotency.cleanup.batch-pause-ms:50}") long batchPauseMs) {
+        if (batchSize < 1 || batchPauseMs < 0) {
+            throw new IllegalArgumentException(
+                    "app.idempotency.cleanup.batch-size must be at least 1 and batch-pause-ms not negative");
+        }
         this.idempotencyStore = idempotencyStore;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.purgedCounter = Counter.builder("omnibus.idempotency.purged")
+                .description("Expired idempotency keys deleted")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("omnibus.idempotency.purge.batch")
+                .description("Time one purge batch holds its row locks (its transaction)")
+                .register(meterRegistry);
     }
 
     /**
@@ -29,11 +57,37 @@ public class IdempotencyKeyCleanupScheduler {
     @Scheduled(fixedRateString = "${app.idempotency.cleanup-interval-ms:3600000}")
     public void purgeExpiredKeys() {
         log.info("Running idempotency key cleanup...");
-        int deleted = idempotencyStore.deleteExpired();
+        long deleted = 0;
+        int batches = 0;
+        while (true) {
+            int purged = batchTimer.record(() -> idempotencyStore.deleteExpired(batchSize));
+            purgedCounter.increment(purged);
+            deleted += purged;
+            batches++;
+            if (purged < batchSize || !pause()) {
+                break;
+            }
+        }
         if (deleted > 0) {
-            log.info("Purged {} expired idempotency key(s)", deleted);
+            log.info("Purged {} expired idempotency key(s) in {} batch(es)", deleted, batches);
         } else {
             log.debug("No expired idempotency keys to purge");
         }
     }
+
+    /**
+     * @return false if interrupted; the remaining keys wait for the next run
+     */
+    private boolean pause() {
+        if (batchPauseMs == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
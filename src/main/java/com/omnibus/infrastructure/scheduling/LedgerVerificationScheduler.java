@@ -0,0 +1,50 @@
+package com.Omnibus.infrastructure.scheduling;
+
+import com.Omnibus.application.dto.LedgerVerificationResult;
+import com.Omnibus.application.service.LedgerInvariantVerifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically runs the streaming ledger invariant verifier over every shard.
+ * <p>
+ * Runs every 15 minutes; each run only reads ledger entries created since the previous one.
+ */
+@Component
+@ConditionalOnProperty(name = "app.ledger.verifier.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerVerificationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerVerificationScheduler.class);
+
+    private final LedgerInvariantVerifier verifier;
+
+    public LedgerVerificationScheduler(LedgerInvariantVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    @Scheduled(initialDelayString = "${app.ledger.verifier.initial-delay-ms:60000}",
+            fixedDelayString = "${app.ledger.verifier.interval-ms:900000}")
+    public void verify() {
+        List<LedgerVerificationResult> results;
+        try {
+            results = verifier.verifyAll();
+        } catch (RuntimeException e) {
+            log.warn("Ledger verification run failed: {}", e.getMessage());
+            return;
+        }
+        long entries = results.stream().mapToLong(LedgerVerificationResult::entries).sum();
+        long violations = results.stream()
+                .mapToLong(result -> result.transactionViolations() + result.balanceViolations())
+                .sum();
+        if (violations > 0) {
+            log.error("Ledger verification found {} violation(s) in {} new entries", violations, entries);
+        } else {
+            log.info("Ledger verification passed: {} new entries", entries);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.Omnibus.infrastructure.scheduling;
+
+import com.Omnibus.application.port.out.PartitionMaintenancePort;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.MonthlyPartition;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps the monthly partitions of transactions, ledger_entries and audit_logs ahead of the clock
+ * and retires months past their retention.
+ * <p>
+ * Runs daily. Each run makes sure the current month and the next {@code premake-months} have a
+ * partition, so inserts never fall into the default partition. A month older than its table's
+ * retention is detached (kept as a standalone table for archiving) or dropped, depending on
+ * {@code expired-action}; a retention of 0 keeps every month. transactions and ledger_entries
+ * share one retention so a transfer and its entries leave together.
+ */
+@Component
+public class PartitionMaintenanceScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceScheduler.class);
+
+    private final PartitionMaintenancePort partitions;
+    private final int premakeMonths;
+    private final int ledgerRetentionMonths;
+    private final int auditRetentionMonths;
+    private final boolean dropExpired;
+
+    public PartitionMaintenanceScheduler(PartitionMaintenancePort partitions,
+                                         @Value("${app.partitions.premake-months:3}") int premakeMonths,
+                                         @Value("${app.partitions.ledger-retention-months:0}") int ledgerRetentionMonths,
+                                         @Value("${app.partitions.audit-retention-months:0}") int auditRetentionMonths,
+                                         @Value("${app.partitions.expired-action:detach}") String expiredAction) {
+        if (premakeMonths < 0 || ledgerRetentionMonths < 0 || auditRetentionMonths < 0) {
+            throw new IllegalArgumentException("app.partitions month counts must not be negative");
+        }
+        this.partitions = partitions;
+        this.premakeMonths = premakeMonths;
+        this.ledgerRetentionMonths = ledgerRetentionMonths;
+        this.auditRetentionMonths = auditRetentionMonths;
+        this.dropExpired = switch (expiredAction) {
+            case "detach" -> false;
+            case "drop" -> true;
+            default -> throw new IllegalArgumentException(
+                    "app.partitions.expired-action must be detach or drop: " + expiredAction);
+        };
+    }
+
+    /**
+     * Create upcoming partitions and retire expired ones every day.
+     */
+    @Scheduled(fixedDelayString = "${app.partitions.interval-ms:86400000}")
+    public void maintainPartitions() {
+        maintain(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    void maintain(YearMonth current) {
+        for (PartitionedTable table : PartitionedTable.values()) {
+            try {
+                createUpcoming(table, current);
+                retireExpired(table, current);
+            } catch (RuntimeException e) {
+                // One table failing (e.g. a lock timeout) must not keep the others from being maintained
+                log.error("Partition maintenance of {} failed", table.tableName(), e);
+            }
+        }
+    }
+
+    private void createUpcoming(PartitionedTable table, YearMonth current) {
+        for (int ahead = 0; ahead <= premakeMonths; ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            if (partitions.createMonthlyPartition(table, month)) {
+                log.info("Created {} partition for {}", table.tableName(), month);
+            }
+        }
+    }
+
+    private void retireExpired(PartitionedTable table, YearMonth current) {
+        int retention = table == PartitionedTable.AUDIT_LOGS ? auditRetentionMonths : ledgerRetentionMonths;
+        if (retention == 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(retention);
+        for (MonthlyPartition partition : partitions.listMonthlyPartitions(table)) {
+            if (!partition.month().isBefore(oldestKept)) {
+                break;
+            }
+            if (dropExpired) {
+                partitions.dropPartition(table, partition);
+                log.info("Dropped expired partition {}", partition.name());
+            } else {
+                partitions.detachPartition(table, partition);
+                log.info("Detached expired partition {}", partition.name());
+            }
+        }
+    }
+}
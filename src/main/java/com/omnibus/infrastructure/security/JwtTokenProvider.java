@@ -1,32 +1,61 @@
 package com.Omnibus.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import com.Omnibus.application.port.out.TokenProviderPort;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Infrastructure adapter for JWT token operations.
  * Uses HMAC-SHA256 (HS256) with a configurable secret key.
  * Implements the application-layer {@link TokenProviderPort}.
+ * <p>
+ * The parser is built once and shared (it is immutable and thread-safe). {@link #verify} parses a
+ * token a single time and remembers the result in a small bounded cache, keyed by the token's
+ * SHA-256 hash (the raw token is never retained) until the token expires.
  */
 @Component
 public class JwtTokenProvider implements TokenProviderPort {
 
+    private static final long DEFAULT_CACHE_SIZE = 10_000;
+
     private final SecretKey key;
     private final long expirationMs;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verified;
+
+    public JwtTokenProvider(String secret, long expirationMs) {
+        this(secret, expirationMs, DEFAULT_CACHE_SIZE);
+    }
 
+    @Autowired
     public JwtTokenProvider(
             @Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.expiration-ms}") long expirationMs) {
+            @Value("${app.jwt.expiration-ms}") long expirationMs,
+            @Value("${app.jwt.cache.max-size:10000}") long cacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     public String generateToken(UUID userId, String username) {
@@ -53,11 +82,35 @@ public class JwtTokenProvider implements TokenProviderPort {
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or empty if it is missing, malformed,
+     * badly signed or expired. Repeated calls with the same token are served from the cache.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String hash = sha256(token);
+        VerifiedToken cached = verified.getIfPresent(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         try {
-            parseToken(token);
-            return true;
+            Claims claims = parseToken(token);
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            VerifiedToken result = new VerifiedToken(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("username", String.class),
+                    claims.getExpiration().toInstant());
+            verified.put(hash, result);
+            return Optional.of(result);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -66,10 +119,36 @@ public class JwtTokenProvider implements TokenProviderPort {
     }
 
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Keeps each cache entry exactly as long as the token itself is valid.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String hash, VerifiedToken token, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(hash, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String hash, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
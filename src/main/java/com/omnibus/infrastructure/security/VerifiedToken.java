@@ -0,0 +1,10 @@
+package com.Omnibus.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked.
+ */
+public record VerifiedToken(UUID userId, String username, Instant expiresAt) {
+}
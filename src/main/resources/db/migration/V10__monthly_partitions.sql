@@ -0,0 +1,178 @@
+-- ============================================================================
+-- V10: Monthly range partitioning of transactions, ledger_entries, audit_logs
+-- ============================================================================
+-- Each table becomes a parent partitioned by RANGE (created_at) with one
+-- partition per calendar month (UTC), named <table>_YYYY_MM, plus a DEFAULT
+-- partition that catches rows outside every month created so far.
+-- PartitionMaintenanceScheduler keeps app.partitions.premake-months ahead of
+-- the clock and detaches or drops months past their retention, so an old month
+-- leaves with its indexes instead of through DELETE, dead tuples and VACUUM.
+--
+-- Constraints that cannot survive partitioning:
+--   * A primary or unique key must include created_at, so ids are unique per
+--     (id, created_at). Ids are random UUIDs / a sequence, as before.
+--   * uq_transactions_idempotency is gone; idempotency_keys (primary key on
+--     key) remains the duplicate guard. A plain index keeps the lookup.
+--   * fk_ledger_transaction is gone: it would need transactions' created_at in
+--     every ledger row. Transfers write both in one statement or transaction.
+--   * PostgreSQL 16 has no identity columns on partitioned tables, so
+--     audit_logs.id is a sequence default; inserts still omit it.
+
+-- ---------------------------------------------------------------------------
+-- create_monthly_partition(parent, month): create <parent>_YYYY_MM for the
+-- month containing p_month. Rows of that month already in <parent>_default are
+-- moved into it before it is attached, so a late run still succeeds.
+-- Returns false if the partition already exists.
+-- ---------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION create_monthly_partition(p_parent TEXT, p_month DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_start     TIMESTAMPTZ := date_trunc('month', p_month::timestamp) AT TIME ZONE 'UTC';
+    v_end       TIMESTAMPTZ := (date_trunc('month', p_month::timestamp) + INTERVAL '1 month') AT TIME ZONE 'UTC';
+    v_name      TEXT := p_parent || '_' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name, p_parent);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE created_at >= %L AND created_at < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved',
+                   p_parent || '_default', v_start, v_end, v_name);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   p_parent, v_name, v_start, v_end);
+    RETURN TRUE;
+END;
+$$;
+
+-- ==================== TRANSACTIONS ====================
+ALTER TABLE ledger_entries DROP CONSTRAINT fk_ledger_transaction;
+ALTER TABLE transactions RENAME TO transactions_legacy;
+
+CREATE TABLE transactions (
+    id                  UUID            NOT NULL DEFAULT gen_random_uuid(),
+    idempotency_key     VARCHAR(255),
+    type                VARCHAR(30)     NOT NULL,
+    status              VARCHAR(20)     NOT NULL DEFAULT 'PENDING',
+    source_account_id   UUID,
+    target_account_id   UUID,
+    amount              NUMERIC(19,4)   NOT NULL,
+    description         TEXT,
+    created_at          TIMESTAMPTZ     NOT NULL DEFAULT now(),
+    completed_at        TIMESTAMPTZ,
+
+    CONSTRAINT fk_transactions_source FOREIGN KEY (source_account_id) REFERENCES accounts(id),
+    CONSTRAINT fk_transactions_target FOREIGN KEY (target_account_id) REFERENCES accounts(id),
+    CONSTRAINT chk_transaction_amount_positive CHECK (amount > 0),
+    CONSTRAINT chk_transaction_type CHECK (type IN ('TRANSFER', 'DEPOSIT', 'WITHDRAWAL', 'FEE')),
+    CONSTRAINT chk_transaction_status CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED'))
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- ==================== LEDGER ENTRIES ====================
+ALTER TABLE ledger_entries RENAME TO ledger_entries_legacy;
+
+CREATE TABLE ledger_entries (
+    id              UUID            NOT NULL DEFAULT gen_random_uuid(),
+    transaction_id  UUID            NOT NULL,
+    account_id      UUID            NOT NULL,
+    entry_type      VARCHAR(6)      NOT NULL,
+    amount          NUMERIC(19,4)   NOT NULL,
+    balance_after   NUMERIC(19,4)   NOT NULL,
+    created_at      TIMESTAMPTZ     NOT NULL DEFAULT now(),
+
+    CONSTRAINT fk_ledger_account     FOREIGN KEY (account_id) REFERENCES accounts(id),
+    CONSTRAINT chk_entry_type        CHECK (entry_type IN ('DEBIT', 'CREDIT')),
+    CONSTRAINT chk_ledger_amount     CHECK (amount > 0)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE ledger_entries_default PARTITION OF ledger_entries DEFAULT;
+
+-- ==================== AUDIT LOGS ====================
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER SEQUENCE audit_logs_id_seq RENAME TO audit_logs_legacy_id_seq;
+
+CREATE SEQUENCE audit_logs_id_seq;
+
+CREATE TABLE audit_logs (
+    id              BIGINT          NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    entity_type     VARCHAR(50)     NOT NULL,
+    entity_id       UUID            NOT NULL,
+    action          VARCHAR(20)     NOT NULL,
+    actor_id        UUID,
+    before_snapshot JSONB,
+    after_snapshot  JSONB,
+    balance_before  NUMERIC(19,4),
+    balance_after   NUMERIC(19,4),
+    ip_address      TEXT,
+    created_at      TIMESTAMPTZ     NOT NULL DEFAULT now()
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- ==================== MONTHLY PARTITIONS ====================
+-- From the oldest existing row (or this month) to three months ahead
+DO $$
+DECLARE
+    v_table     TEXT;
+    v_month     DATE;
+BEGIN
+    FOREACH v_table IN ARRAY ARRAY['transactions', 'ledger_entries', 'audit_logs'] LOOP
+        EXECUTE format('SELECT date_trunc(''month'', COALESCE(min(created_at), now()) AT TIME ZONE ''UTC'')::date FROM %I',
+                       v_table || '_legacy')
+            INTO v_month;
+        WHILE v_month <= (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date LOOP
+            PERFORM create_monthly_partition(v_table, v_month);
+            v_month := (v_month + INTERVAL '1 month')::date;
+        END LOOP;
+    END LOOP;
+END;
+$$;
+
+-- ==================== DATA ====================
+INSERT INTO transactions (id, idempotency_key, type, status, source_account_id, target_account_id,
+                          amount, description, created_at, completed_at)
+SELECT id, idempotency_key, type, status, source_account_id, target_account_id,
+       amount, description, created_at, completed_at
+FROM transactions_legacy;
+
+INSERT INTO ledger_entries (id, transaction_id, account_id, entry_type, amount, balance_after, created_at)
+SELECT id, transaction_id, account_id, entry_type, amount, balance_after, created_at
+FROM ledger_entries_legacy;
+
+INSERT INTO audit_logs (id, entity_type, entity_id, action, actor_id, before_snapshot, after_snapshot,
+                        balance_before, balance_after, ip_address, created_at)
+SELECT id, entity_type, entity_id, action, actor_id, before_snapshot, after_snapshot,
+       balance_before, balance_after, ip_address, created_at
+FROM audit_logs_legacy;
+
+SELECT setval('audit_logs_id_seq', COALESCE((SELECT max(id) FROM audit_logs), 0) + 1, false);
+
+DROP TABLE ledger_entries_legacy;
+DROP TABLE transactions_legacy;
+DROP TABLE audit_logs_legacy;
+
+-- ==================== KEYS AND INDEXES ====================
+-- Declared on the parents after the copy; each partition gets its own index
+ALTER TABLE transactions   ADD CONSTRAINT pk_transactions   PRIMARY KEY (id, created_at);
+ALTER TABLE ledger_entries ADD CONSTRAINT pk_ledger_entries PRIMARY KEY (id, created_at);
+ALTER TABLE audit_logs     ADD CONSTRAINT pk_audit_logs     PRIMARY KEY (id, created_at);
+
+CREATE INDEX idx_transactions_idempotency
+    ON transactions (idempotency_key) WHERE idempotency_key IS NOT NULL;
+CREATE INDEX idx_transactions_source_history
+    ON transactions (source_account_id, created_at DESC, id DESC);
+CREATE INDEX idx_transactions_target_history
+    ON transactions (target_account_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_ledger_entries_txn        ON ledger_entries (transaction_id);
+CREATE INDEX idx_ledger_entries_account    ON ledger_entries (account_id, created_at DESC);
+CREATE INDEX idx_ledger_entries_created_at ON ledger_entries (created_at);
+
+CREATE INDEX idx_audit_entity ON audit_logs (entity_type, entity_id, created_at DESC);
+CREATE INDEX idx_audit_actor  ON audit_logs (actor_id, created_at DESC);
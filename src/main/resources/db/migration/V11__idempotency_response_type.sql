@@ -0,0 +1,11 @@
+-- ============================================================================
+-- V11: Response type of a stored idempotent response
+-- ============================================================================
+-- Single transfers and batches share one key space. A completed batch stores
+-- its BatchTransferResult under the key so a retry can be replayed; the type
+-- tells the reader which shape response_body holds. Existing rows are single
+-- transfers.
+
+ALTER TABLE idempotency_keys
+    ADD COLUMN response_type VARCHAR(20) NOT NULL DEFAULT 'TRANSFER',
+    ADD CONSTRAINT chk_idempotency_response_type CHECK (response_type IN ('TRANSFER', 'BATCH'));
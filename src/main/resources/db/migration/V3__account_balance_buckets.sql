@@ -0,0 +1,19 @@
+-- ============================================================================
+-- Sharded balances for hot accounts.
+-- Credits to a designated hot account land on one of K sub-balance rows here
+-- instead of contending for the single accounts row lock. The account's
+-- balance is accounts.balance + SUM(account_balance_buckets.balance); a
+-- background consolidator (and any debit that needs the funds) folds the
+-- buckets back into accounts.balance.
+-- ============================================================================
+
+CREATE TABLE account_balance_buckets (
+    account_id      UUID            NOT NULL,
+    bucket_no       SMALLINT        NOT NULL,
+    balance         NUMERIC(19,4)   NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMPTZ     NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_account_balance_buckets PRIMARY KEY (account_id, bucket_no),
+    CONSTRAINT fk_buckets_account FOREIGN KEY (account_id) REFERENCES accounts(id),
+    CONSTRAINT chk_bucket_balance_non_negative CHECK (balance >= 0)
+);
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- V4: Keyset pagination indexes for account transaction history
+-- ============================================================================
+-- History pages are read newest-first per account on (created_at, id), once
+-- for the source side and once for the target side. Each index serves one side
+-- so a page is an index range scan that stops as soon as the page is full.
+
+CREATE INDEX idx_transactions_source_history
+    ON transactions (source_account_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_transactions_target_history
+    ON transactions (target_account_id, created_at DESC, id DESC);
@@ -0,0 +1,127 @@
+-- ============================================================================
+-- V5: Server-side transfer engine (app.transfers.engine=stored-function)
+-- ============================================================================
+-- One call performs the whole transfer: lock both account rows in ascending id
+-- order, validate ownership, status, currency and funds, then update balances
+-- and insert the transaction and both ledger entries.
+--
+-- Business rejections are returned in the outcome column, not raised, so the
+-- caller maps them to domain exceptions without parsing driver errors. Nothing
+-- is written before all checks pass, except a bucket drain on an insufficient
+-- source, which the caller's rollback undoes.
+
+CREATE OR REPLACE FUNCTION execute_transfer(
+    p_transaction_id    UUID,
+    p_idempotency_key   VARCHAR,
+    p_actor_id          UUID,
+    p_source_id         UUID,
+    p_target_id         UUID,
+    p_amount            NUMERIC,
+    p_currency          VARCHAR,
+    p_description       TEXT
+)
+RETURNS TABLE (
+    outcome                 VARCHAR,
+    source_balance_before   NUMERIC,
+    source_balance_after    NUMERIC,
+    target_balance_before   NUMERIC,
+    target_balance_after    NUMERIC,
+    completed_at            TIMESTAMPTZ
+)
+LANGUAGE plpgsql
+AS $$
+#variable_conflict use_column
+DECLARE
+    v_row       accounts%ROWTYPE;
+    v_source    accounts%ROWTYPE;
+    v_target    accounts%ROWTYPE;
+    v_drained   NUMERIC(19,4);
+    v_now       TIMESTAMPTZ;
+BEGIN
+    -- Same lock order as the JPA engine: ascending account id
+    FOR v_row IN
+        SELECT * FROM accounts WHERE id IN (p_source_id, p_target_id) ORDER BY id FOR UPDATE
+    LOOP
+        IF v_row.id = p_source_id THEN
+            v_source := v_row;
+        ELSE
+            v_target := v_row;
+        END IF;
+    END LOOP;
+    -- Taken after the locks so timestamps follow the order in which transfers on an account commit
+    v_now := clock_timestamp();
+
+    IF v_source.id IS NULL OR v_target.id IS NULL THEN
+        outcome := 'ACCOUNT_NOT_FOUND';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    IF v_source.user_id <> p_actor_id THEN
+        outcome := 'NOT_OWNER';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    IF v_source.status <> 'ACTIVE' THEN
+        outcome := 'SOURCE_NOT_ACTIVE';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    IF v_target.status <> 'ACTIVE' THEN
+        outcome := 'TARGET_NOT_ACTIVE';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    IF v_source.currency <> p_currency OR v_target.currency <> p_currency THEN
+        outcome := 'CURRENCY_MISMATCH';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    -- A hot source may hold part of its funds in buckets — fold them in under the row lock
+    IF v_source.balance < p_amount THEN
+        WITH drained AS (
+            UPDATE account_balance_buckets b
+            SET balance = 0, updated_at = now()
+            FROM (SELECT bucket_no, balance FROM account_balance_buckets
+                  WHERE account_id = p_source_id AND balance <> 0
+                  FOR UPDATE) old
+            WHERE b.account_id = p_source_id AND b.bucket_no = old.bucket_no
+            RETURNING old.balance
+        )
+        SELECT COALESCE(SUM(balance), 0) INTO v_drained FROM drained;
+        v_source.balance := v_source.balance + v_drained;
+    END IF;
+
+    IF v_source.balance < p_amount THEN
+        outcome := 'INSUFFICIENT_FUNDS';
+        source_balance_before := v_source.balance;
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    source_balance_before := v_source.balance;
+    source_balance_after := v_source.balance - p_amount;
+    target_balance_before := v_target.balance;
+    target_balance_after := v_target.balance + p_amount;
+    completed_at := v_now;
+
+    UPDATE accounts SET balance = source_balance_after, updated_at = v_now WHERE id = p_source_id;
+    UPDATE accounts SET balance = target_balance_after, updated_at = v_now WHERE id = p_target_id;
+
+    INSERT INTO transactions (id, idempotency_key, type, status, source_account_id, target_account_id,
+                              amount, description, created_at, completed_at)
+    VALUES (p_transaction_id, p_idempotency_key, 'TRANSFER', 'COMPLETED', p_source_id, p_target_id,
+            p_amount, p_description, v_now, v_now);
+
+    INSERT INTO ledger_entries (id, transaction_id, account_id, entry_type, amount, balance_after, created_at)
+    VALUES (gen_random_uuid(), p_transaction_id, p_source_id, 'DEBIT', p_amount, source_balance_after, v_now),
+           (gen_random_uuid(), p_transaction_id, p_target_id, 'CREDIT', p_amount, target_balance_after, v_now);
+
+    outcome := 'COMPLETED';
+    RETURN NEXT;
+END;
+$$;
@@ -0,0 +1,24 @@
+-- ============================================================================
+-- V6: Row version on accounts for the optimistic transfer engine
+-- ============================================================================
+-- app.transfers.engine=optimistic reads accounts without FOR UPDATE and writes
+-- them back with UPDATE ... WHERE id = ? AND version = ?. The version is bumped
+-- by a trigger rather than by each writer, so every path that changes an
+-- account (row-locked transfers, execute_transfer, bucket consolidation, JPA)
+-- invalidates concurrent optimistic readers without having to know about them.
+
+ALTER TABLE accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_account_version() RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.version := OLD.version + 1;
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER trg_accounts_version
+    BEFORE UPDATE ON accounts
+    FOR EACH ROW
+    EXECUTE FUNCTION bump_account_version();
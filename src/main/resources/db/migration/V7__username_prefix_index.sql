@@ -0,0 +1,9 @@
+-- ============================================================================
+-- V7: Username prefix search for the Send Money recipient autocomplete
+-- ============================================================================
+-- uq_users_username follows the database collation, which Postgres cannot use
+-- for LIKE 'abc%' outside the C locale. text_pattern_ops compares byte-wise,
+-- so a prefix match becomes an index range scan.
+
+CREATE INDEX idx_users_username_prefix
+    ON users (username text_pattern_ops);
@@ -0,0 +1,24 @@
+-- ============================================================================
+-- V8: Periodic balance checkpoints for point-in-time (as-of) balance queries
+-- ============================================================================
+-- BalanceCheckpointScheduler records, for every account whose ledger moved
+-- since the previous run, its total balance as of the run's cut-off. A balance
+-- at time T is then the latest checkpoint at or before T plus the ledger tail
+-- in (checkpoint, T] — an index range on idx_ledger_entries_account.
+--
+-- Each run sums only ledger entries created after the newest checkpoint, found
+-- through idx_ledger_entries_created_at.
+
+CREATE TABLE account_balance_checkpoints (
+    account_id      UUID            NOT NULL,
+    as_of           TIMESTAMPTZ     NOT NULL,
+    balance         NUMERIC(19,4)   NOT NULL,
+    created_at      TIMESTAMPTZ     NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_balance_checkpoints         PRIMARY KEY (account_id, as_of),
+    CONSTRAINT fk_balance_checkpoints_account FOREIGN KEY (account_id) REFERENCES accounts(id)
+);
+
+CREATE INDEX idx_balance_checkpoints_as_of ON account_balance_checkpoints (as_of);
+
+CREATE INDEX idx_ledger_entries_created_at ON ledger_entries (created_at);
@@ -0,0 +1,40 @@
+-- ============================================================================
+-- V9: State of the streaming ledger invariant verifier
+-- ============================================================================
+-- LedgerInvariantVerifier splits the ledger into shard_count shards by hash of
+-- account id (balance checks) and of transaction id (debit = credit checks).
+-- Each shard resumes from its checkpoint, carrying every account's verified
+-- running balance and the transactions whose entries have not netted to zero
+-- yet. Changing shard_count starts a fresh, full verification.
+
+CREATE TABLE ledger_verification_checkpoints (
+    shard_count         INTEGER         NOT NULL,
+    shard               INTEGER         NOT NULL,
+    verified_up_to      TIMESTAMPTZ     NOT NULL,
+    entries_verified    BIGINT          NOT NULL,
+    violations          BIGINT          NOT NULL,
+    updated_at          TIMESTAMPTZ     NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_ledger_verification_checkpoints PRIMARY KEY (shard_count, shard)
+);
+
+CREATE TABLE ledger_verification_balances (
+    shard_count         INTEGER         NOT NULL,
+    account_id          UUID            NOT NULL,
+    shard               INTEGER         NOT NULL,
+    balance             NUMERIC(19,4)   NOT NULL,
+
+    CONSTRAINT pk_ledger_verification_balances PRIMARY KEY (shard_count, account_id)
+);
+
+CREATE INDEX idx_ledger_verification_balances_shard ON ledger_verification_balances (shard_count, shard);
+
+CREATE TABLE ledger_verification_open_transactions (
+    shard_count         INTEGER         NOT NULL,
+    transaction_id      UUID            NOT NULL,
+    shard               INTEGER         NOT NULL,
+    net                 NUMERIC(19,4)   NOT NULL,
+    first_seen          TIMESTAMPTZ     NOT NULL,
+
+    CONSTRAINT pk_ledger_verification_open_transactions PRIMARY KEY (shard_count, transaction_id)
+);
@@ -4,6 +4,10 @@ import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
  * Singleton Testcontainers base class.
  * Starts ONE PostgreSQL 16 container per JVM — shared across all test classes.
@@ -22,7 +26,7 @@ public abstract class BaseIntegrationTest {
     }
 
     @DynamicPropertySource
-    static void configureProperties(DynamicPropertyRegistry registry) {
+    static void configureProperties(DynamicPropertyRegistry registry) throws IOException {
         registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
         registry.add("spring.datasource.username", POSTGRES::getUsername);
         registry.add("spring.datasource.password", POSTGRES::getPassword);
@@ -32,7 +36,12 @@ public abstract class BaseIntegrationTest {
         registry.add("app.jwt.secret",
                 () -> "TestSecretKeyThatIsAtLeast256BitsLongForHS256Algorithm!!");
         registry.add("app.jwt.expiration-ms", () -> "900000");
-        // Higher pool size for concurrency tests — main tx + REQUIRES_NEW audit tx
+        // Each context gets its own audit spill and archive directories so writers never share files
+        Path auditSpill = Files.createTempDirectory("omnibus-audit-spill");
+        registry.add("app.audit.spill-directory", auditSpill::toString);
+        Path archive = Files.createTempDirectory("omnibus-archive");
+        registry.add("app.archive.directory", archive::toString);
+        // Higher pool size for concurrency tests
         registry.add("spring.datasource.hikari.maximum-pool-size", () -> "40");
         registry.add("spring.datasource.hikari.connection-timeout", () -> "30000");
     }
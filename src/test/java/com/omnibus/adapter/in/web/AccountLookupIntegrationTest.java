@@ -0,0 +1,151 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end integration tests for the Send Money recipient lookup.
+ * <p>
+ * Covers: exact lookup, a cached "not found" cleared by registration, prefix search
+ * ordering and LIKE-wildcard escaping, and prefix / limit validation.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@DisplayName("Account Lookup — Integration")
+class AccountLookupIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("lookup returns the user's primary account")
+    void exactLookup() {
+        var alice = registerAndGetAuthContext("la_" + unique);
+        var bob = registerAndGetAuthContext("lb_" + unique);
+
+        ResponseEntity<Map> response = rest.exchange(ACCOUNTS_URL + "/lookup?username=lb_" + unique,
+                HttpMethod.GET, new HttpEntity<>(authHeaders(alice.token)), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().get("username")).isEqualTo("lb_" + unique);
+        assertThat(response.getBody().get("accountId").toString())
+                .isEqualTo(getFirstAccountId(bob.token).toString());
+    }
+
+    @Test
+    @DisplayName("a username looked up before it is registered is found afterwards")
+    void registrationClearsNotFound() {
+        var alice = registerAndGetAuthContext("ln_" + unique);
+        String url = ACCOUNTS_URL + "/lookup?username=lm_" + unique;
+
+        ResponseEntity<Map> before = rest.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(authHeaders(alice.token)), Map.class);
+        registerAndGetAuthContext("lm_" + unique);
+        ResponseEntity<Map> after = rest.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(authHeaders(alice.token)), Map.class);
+
+        assertThat(before.getStatusCode()).isNotEqualTo(HttpStatus.OK);
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("prefix search returns matching users ordered by username")
+    void prefixSearch() {
+        var alice = registerAndGetAuthContext("ps" + unique + "_b");
+        registerAndGetAuthContext("ps" + unique + "_a");
+        registerAndGetAuthContext("px" + unique + "_c");
+
+        ResponseEntity<List> response = search(alice.token, "ps" + unique, 10);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(item -> ((Map<?, ?>) item).get("username"))
+                .containsExactly("ps" + unique + "_a", "ps" + unique + "_b");
+    }
+
+    @Test
+    @DisplayName("LIKE wildcards in the prefix match literally")
+    void wildcardsEscaped() {
+        var alice = registerAndGetAuthContext("pw" + unique + "x");
+
+        ResponseEntity<List> underscore = search(alice.token, "pw" + unique + "_", 10);
+        ResponseEntity<List> percent = search(alice.token, "pw%", 10);
+
+        assertThat(underscore.getBody()).isEmpty();
+        assertThat(percent.getBody()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("one-character prefix or limit outside 1..20 returns 400")
+    void invalidSearchRejected() {
+        var alice = registerAndGetAuthContext("pv_" + unique);
+
+        assertThat(search(alice.token, "p", 10).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(search(alice.token, "pv", 0).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(search(alice.token, "pv", 21).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private ResponseEntity<List> search(String token, String prefix, int limit) {
+        return rest.exchange(ACCOUNTS_URL + "/lookup/search?prefix={prefix}&limit={limit}",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class, prefix, limit);
+    }
+
+    private HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
@@ -0,0 +1,212 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import com.Omnibus.application.service.ArchivalService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end integration tests for cold storage of ledger_entries and audit_logs.
+ * <p>
+ * Backdated rows are inserted three months in the past, where no monthly partition exists, so
+ * they land in the default partitions; a one-month retention makes them eligible for archiving.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@TestPropertySource(properties = {
+        "app.audit.mode=sync",
+        "app.archive.ledger-retention-months=1",
+        "app.archive.audit-retention-months=1"
+})
+@DisplayName("Cold Storage — Integration")
+class ArchiveIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ArchivalService archivalService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("archived months are deleted one run after export and still served ahead of live rows and in as-of balances")
+    void archivedRowsMergedIntoReads() {
+        var alice = registerAndGetAuthContext("aa_" + unique);
+        var bob = registerAndGetAuthContext("ab_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+        transfer(alice.token, aliceAccount, bobAccount, "10");
+
+        YearMonth old = YearMonth.now(ZoneOffset.UTC).minusMonths(3);
+        OffsetDateTime backdated = old.atDay(15).atTime(12, 0).atOffset(ZoneOffset.UTC);
+        UUID archivedEntryId = UUID.randomUUID();
+        jdbc.update("""
+                INSERT INTO ledger_entries (id, transaction_id, account_id, entry_type, amount, balance_after, created_at)
+                VALUES (?, ?, ?, 'CREDIT', 5, 10005, ?)
+                """, archivedEntryId, UUID.randomUUID(), aliceAccount, backdated);
+        jdbc.update("""
+                INSERT INTO audit_logs (entity_type, entity_id, action, balance_before, balance_after, created_at)
+                VALUES ('ACCOUNT', ?, 'BACKDATED', 10000, 10005, ?)
+                """, aliceAccount, backdated);
+        jdbc.update("UPDATE accounts SET created_at = ? WHERE id = ?",
+                OffsetDateTime.ofInstant(start(old), ZoneOffset.UTC), aliceAccount);
+        // Its ledger tail is archived away with the month, so as-of balances must not build on it
+        jdbc.update("INSERT INTO account_balance_checkpoints (account_id, as_of, balance) VALUES (?, ?, 12345)",
+                aliceAccount, backdated.plusDays(5));
+
+        archivalService.archiveExpired();
+        assertThat(countBefore("ledger_entries", "account_id", aliceAccount, old.plusMonths(1))).isEqualTo(1);
+        assertThat(countBefore("audit_logs", "entity_id", aliceAccount, old.plusMonths(1))).isEqualTo(1);
+
+        archivalService.archiveExpired();
+        assertThat(countBefore("ledger_entries", "account_id", aliceAccount, old.plusMonths(1))).isZero();
+        assertThat(countBefore("audit_logs", "entity_id", aliceAccount, old.plusMonths(1))).isZero();
+
+        String from = "?from=" + start(old);
+        List<String> statement = get(alice.token, aliceAccount, "/statement" + from);
+        assertThat(statement).hasSize(2);
+        assertThat(statement.get(0)).contains(archivedEntryId.toString()).contains("\"entryType\":\"CREDIT\"");
+        assertThat(statement.get(1)).contains("\"entryType\":\"DEBIT\"");
+
+        List<String> archivedOnly = get(alice.token, aliceAccount,
+                "/statement" + from + "&to=" + start(old.plusMonths(1)));
+        assertThat(archivedOnly).hasSize(1);
+
+        List<String> audit = get(alice.token, aliceAccount, "/audit" + from);
+        assertThat(audit).hasSizeGreaterThan(1);
+        assertThat(audit.get(0)).contains("\"action\":\"BACKDATED\"");
+        assertThat(audit.subList(1, audit.size())).noneMatch(line -> line.contains("BACKDATED"));
+
+        Map<?, ?> beforeArchived = getBalanceAsOf(alice.token, aliceAccount, backdated.minusDays(5).toInstant());
+        assertThat(new BigDecimal(beforeArchived.get("balance").toString())).isEqualByComparingTo("9995");
+        assertThat(((Number) beforeArchived.get("replayedEntries")).longValue()).isEqualTo(1);
+        assertThat(beforeArchived.get("checkpointAsOf")).isNull();
+
+        Map<?, ?> afterArchived = getBalanceAsOf(alice.token, aliceAccount, backdated.plusDays(10).toInstant());
+        assertThat(new BigDecimal(afterArchived.get("balance").toString())).isEqualByComparingTo("10000");
+
+        Map<?, ?> live = getBalanceAsOf(alice.token, aliceAccount, Instant.now());
+        assertThat(new BigDecimal(live.get("balance").toString())).isEqualByComparingTo("9990");
+    }
+
+    @Test
+    @DisplayName("audit trail for another user's account returns 403")
+    void foreignAuditTrailForbidden() {
+        var alice = registerAndGetAuthContext("ac_" + unique);
+        var bob = registerAndGetAuthContext("ad_" + unique);
+
+        UUID bobAccount = getFirstAccountId(bob.token);
+
+        ResponseEntity<String> response = rest.exchange(ACCOUNTS_URL + "/" + bobAccount + "/audit",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(alice.token)), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private int countBefore(String table, String column, UUID id, YearMonth month) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ? AND created_at < ?",
+                Integer.class, id, OffsetDateTime.ofInstant(start(month), ZoneOffset.UTC));
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private List<String> get(String token, UUID accountId, String path) {
+        ResponseEntity<String> response = rest.exchange(ACCOUNTS_URL + "/" + accountId + path,
+                HttpMethod.GET, new HttpEntity<>(authHeaders(token)), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody() == null ? List.of() : response.getBody().lines().toList();
+    }
+
+    private Map<?, ?> getBalanceAsOf(String token, UUID accountId, Instant asOf) {
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + accountId + "/balance?asOf={asOf}",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(token)), Map.class, asOf.toString());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private void transfer(String token, UUID source, UUID target, String amount) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", source.toString());
+        body.put("targetAccountId", target.toString());
+        body.put("amount", new BigDecimal(amount));
+        body.put("currency", "USD");
+
+        ResponseEntity<Map> response = rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
@@ -0,0 +1,156 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import com.Omnibus.application.port.out.BalanceCheckpointPort;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end integration tests for point-in-time balances.
+ * <p>
+ * Covers: balances before and after a checkpoint, replay of the ledger tail on top of the
+ * nearest checkpoint, and rejection of instants before the account was opened.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@DisplayName("Balance As Of — Integration")
+class BalanceAsOfIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private BalanceCheckpointPort balanceCheckpoints;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("as-of balances match the ledger before and after a checkpoint")
+    void balancesAcrossCheckpoint() {
+        var alice = registerAndGetAuthContext("ba_" + unique);
+        var bob = registerAndGetAuthContext("bb_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+
+        transfer(alice.token, aliceAccount, bobAccount, "100");
+        Instant afterFirst = Instant.now();
+        transfer(alice.token, aliceAccount, bobAccount, "50");
+
+        // Postgres keeps microseconds
+        Instant checkpoint = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        balanceCheckpoints.writeCheckpoints(checkpoint);
+
+        transfer(bob.token, bobAccount, aliceAccount, "25");
+
+        Map<?, ?> beforeCheckpoint = getBalanceAsOf(alice.token, aliceAccount, afterFirst);
+        assertThat(new BigDecimal(beforeCheckpoint.get("balance").toString())).isEqualByComparingTo("9900");
+
+        Map<?, ?> atCheckpoint = getBalanceAsOf(alice.token, aliceAccount, checkpoint);
+        assertThat(new BigDecimal(atCheckpoint.get("balance").toString())).isEqualByComparingTo("9850");
+        assertThat(((Number) atCheckpoint.get("replayedEntries")).longValue()).isZero();
+
+        Map<?, ?> now = getBalanceAsOf(alice.token, aliceAccount, Instant.now());
+        assertThat(new BigDecimal(now.get("balance").toString())).isEqualByComparingTo("9875");
+        assertThat(Instant.parse(now.get("checkpointAsOf").toString())).isEqualTo(checkpoint);
+        assertThat(((Number) now.get("replayedEntries")).longValue()).isEqualTo(1);
+
+        Map<?, ?> bobNow = getBalanceAsOf(bob.token, bobAccount, Instant.now());
+        assertThat(new BigDecimal(bobNow.get("balance").toString())).isEqualByComparingTo("10125");
+    }
+
+    @Test
+    @DisplayName("asOf before the account was opened returns 400")
+    void beforeOpeningRejected() {
+        var alice = registerAndGetAuthContext("bc_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + aliceAccount + "/balance?asOf=2000-01-01T00:00:00Z",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(alice.token)), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private Map<?, ?> getBalanceAsOf(String token, UUID accountId, Instant asOf) {
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + accountId + "/balance?asOf={asOf}",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(token)), Map.class, asOf.toString());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private void transfer(String token, UUID source, UUID target, String amount) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", source.toString());
+        body.put("targetAccountId", target.toString());
+        body.put("amount", new BigDecimal(amount));
+        body.put("currency", "USD");
+
+        ResponseEntity<Map> response = rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
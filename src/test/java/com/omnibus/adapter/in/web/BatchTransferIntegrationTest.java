@@ -0,0 +1,270 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end integration tests for the batch transfer endpoint.
+ * <p>
+ * Covers: all-or-nothing success and rollback, best-effort partial
+ * completion, per-leg results, and batch-level idempotency.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@DisplayName("Batch Transfers — Integration")
+class BatchTransferIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String BATCH_URL = "/api/v1/transfers/batch";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("all-or-nothing batch — 201, every leg completed, balances reflect all legs")
+    void allOrNothingSuccess() {
+        var payer = registerAndGetAuthContext("bp_" + unique);
+        var r1 = registerAndGetAuthContext("br1_" + unique);
+        var r2 = registerAndGetAuthContext("br2_" + unique);
+
+        UUID src = getFirstAccountId(payer.token);
+        UUID t1 = getFirstAccountId(r1.token);
+        UUID t2 = getFirstAccountId(r2.token);
+
+        ResponseEntity<Map> response = executeBatch(payer.token, "ALL_OR_NOTHING", null,
+                leg(src, t1, "1000"), leg(src, t2, "2000"), leg(src, t1, "500"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody().get("succeeded")).isEqualTo(3);
+        assertThat(response.getBody().get("failed")).isEqualTo(0);
+
+        List<?> legs = (List<?>) response.getBody().get("legs");
+        assertThat(legs).hasSize(3);
+        Map<?, ?> last = (Map<?, ?>) ((Map<?, ?>) legs.get(2)).get("transfer");
+        assertThat(new BigDecimal(last.get("sourceBalanceAfter").toString()))
+                .isEqualByComparingTo(new BigDecimal("6500"));
+
+        assertThat(getBalance(payer.token, src)).isEqualByComparingTo(new BigDecimal("6500"));
+        assertThat(getBalance(r1.token, t1)).isEqualByComparingTo(new BigDecimal("11500"));
+        assertThat(getBalance(r2.token, t2)).isEqualByComparingTo(new BigDecimal("12000"));
+    }
+
+    @Test
+    @DisplayName("all-or-nothing batch — failing leg returns 422 and rolls back every leg")
+    void allOrNothingRollback() {
+        var payer = registerAndGetAuthContext("ap_" + unique);
+        var r1 = registerAndGetAuthContext("ar1_" + unique);
+
+        UUID src = getFirstAccountId(payer.token);
+        UUID t1 = getFirstAccountId(r1.token);
+
+        ResponseEntity<Map> response = executeBatch(payer.token, "ALL_OR_NOTHING", null,
+                leg(src, t1, "4000"), leg(src, t1, "7000"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(response.getBody().get("title")).isEqualTo("Batch Aborted");
+        assertThat(response.getBody().get("legIndex")).isEqualTo(1);
+
+        assertThat(getBalance(payer.token, src)).isEqualByComparingTo(new BigDecimal("10000"));
+        assertThat(getBalance(r1.token, t1)).isEqualByComparingTo(new BigDecimal("10000"));
+    }
+
+    @Test
+    @DisplayName("best-effort batch — 207, failed leg reported, remaining legs committed")
+    void bestEffortPartial() {
+        var payer = registerAndGetAuthContext("ep_" + unique);
+        var r1 = registerAndGetAuthContext("er1_" + unique);
+
+        UUID src = getFirstAccountId(payer.token);
+        UUID t1 = getFirstAccountId(r1.token);
+
+        ResponseEntity<Map> response = executeBatch(payer.token, "BEST_EFFORT", null,
+                leg(src, t1, "4000"), leg(src, t1, "7000"), leg(src, UUID.randomUUID(), "10"),
+                leg(src, t1, "1000"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        assertThat(response.getBody().get("succeeded")).isEqualTo(2);
+        assertThat(response.getBody().get("failed")).isEqualTo(2);
+
+        List<?> legs = (List<?>) response.getBody().get("legs");
+        assertThat(((Map<?, ?>) legs.get(0)).get("status")).isEqualTo("COMPLETED");
+        assertThat(((Map<?, ?>) legs.get(1)).get("status")).isEqualTo("FAILED");
+        assertThat(((Map<?, ?>) legs.get(2)).get("status")).isEqualTo("FAILED");
+        assertThat(((Map<?, ?>) legs.get(3)).get("status")).isEqualTo("COMPLETED");
+
+        assertThat(getBalance(payer.token, src)).isEqualByComparingTo(new BigDecimal("5000"));
+        assertThat(getBalance(r1.token, t1)).isEqualByComparingTo(new BigDecimal("15000"));
+    }
+
+    @Test
+    @DisplayName("leg from an account the caller does not own fails the batch")
+    void foreignSourceAccountRejected() {
+        var payer = registerAndGetAuthContext("fp_" + unique);
+        var other = registerAndGetAuthContext("fo_" + unique);
+
+        UUID src = getFirstAccountId(payer.token);
+        UUID foreign = getFirstAccountId(other.token);
+
+        ResponseEntity<Map> response = executeBatch(payer.token, "ALL_OR_NOTHING", null,
+                leg(src, foreign, "100"), leg(foreign, src, "100"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(getBalance(other.token, foreign)).isEqualByComparingTo(new BigDecimal("10000"));
+    }
+
+    @Test
+    @DisplayName("repeated batch idempotency key replays the stored result and does not re-execute")
+    void duplicateBatchKeyReplayed() {
+        var payer = registerAndGetAuthContext("ip_" + unique);
+        var r1 = registerAndGetAuthContext("ir1_" + unique);
+
+        UUID src = getFirstAccountId(payer.token);
+        UUID t1 = getFirstAccountId(r1.token);
+        String key = "batch-" + unique;
+
+        ResponseEntity<Map> first = executeBatch(payer.token, "ALL_OR_NOTHING", key, leg(src, t1, "100"));
+        ResponseEntity<Map> second = executeBatch(payer.token, "ALL_OR_NOTHING", key, leg(src, t1, "100"));
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getHeaders().getFirst("Idempotency-Replayed")).isEqualTo("true");
+        assertThat(second.getBody().get("replayed")).isEqualTo(true);
+        assertThat(second.getBody().get("legs")).isEqualTo(first.getBody().get("legs"));
+        assertThat(getBalance(payer.token, src)).isEqualByComparingTo(new BigDecimal("9900"));
+    }
+
+    @Test
+    @DisplayName("batch key is not replayed to another user or to a single transfer")
+    void batchKeyRejectedElsewhere() {
+        var payer = registerAndGetAuthContext("ep_" + unique);
+        var r1 = registerAndGetAuthContext("er1_" + unique);
+
+        UUID src = getFirstAccountId(payer.token);
+        UUID t1 = getFirstAccountId(r1.token);
+        String key = "batch-elsewhere-" + unique;
+
+        ResponseEntity<Map> first = executeBatch(payer.token, "ALL_OR_NOTHING", key, leg(src, t1, "100"));
+        ResponseEntity<Map> otherUser = executeBatch(r1.token, "ALL_OR_NOTHING", key, leg(t1, src, "100"));
+        ResponseEntity<Map> single = executeTransfer(payer.token, key, leg(src, t1, "100"));
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(otherUser.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(otherUser.getBody()).doesNotContainKey("legs");
+        assertThat(single.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(getBalance(payer.token, src)).isEqualByComparingTo(new BigDecimal("9900"));
+    }
+
+    @Test
+    @DisplayName("empty batch returns 400")
+    void emptyBatchRejected() {
+        var payer = registerAndGetAuthContext("zp_" + unique);
+
+        ResponseEntity<Map> response = executeBatch(payer.token, "BEST_EFFORT", null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private Map<String, Object> leg(UUID source, UUID target, String amount) {
+        Map<String, Object> leg = new LinkedHashMap<>();
+        leg.put("sourceAccountId", source.toString());
+        leg.put("targetAccountId", target.toString());
+        leg.put("amount", new BigDecimal(amount));
+        leg.put("currency", "USD");
+        return leg;
+    }
+
+    @SafeVarargs
+    private ResponseEntity<Map> executeBatch(String token, String mode, String idempotencyKey,
+                                             Map<String, Object>... legs) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("mode", mode);
+        body.put("legs", List.of(legs));
+
+        return rest.postForEntity(BATCH_URL, new HttpEntity<>(body, headers), Map.class);
+    }
+
+    private ResponseEntity<Map> executeTransfer(String token, String idempotencyKey, Map<String, Object> leg) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        headers.set("Idempotency-Key", idempotencyKey);
+
+        return rest.postForEntity(TRANSFER_URL, new HttpEntity<>(leg, headers), Map.class);
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, request, List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private BigDecimal getBalance(String token, UUID accountId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + accountId, HttpMethod.GET, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return new BigDecimal(response.getBody().get("balance").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
@@ -1,6 +1,7 @@
 package com.Omnibus.adapter.in.web;
 
 import com.Omnibus.BaseIntegrationTest;
+import com.Omnibus.infrastructure.scheduling.IdempotencyKeyCleanupScheduler;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -39,6 +40,9 @@ class IdempotencyIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private JdbcTemplate jdbc;
 
+    @Autowired
+    private IdempotencyKeyCleanupScheduler cleanupScheduler;
+
     private String unique;
 
     @BeforeEach
@@ -104,6 +108,49 @@ class IdempotencyIntegrationTest extends BaseIntegrationTest {
             assertThat(getBalance(user2.token, tgt)).isEqualByComparingTo(tgtAfterFirst);
         }
 
+        @Test
+        @DisplayName("replayed response carries the original body, including balances")
+        void replayReturnsStoredBody() {
+            var user1 = registerAndGetAuthContext("rs1_" + unique);
+            var user2 = registerAndGetAuthContext("rs2_" + unique);
+
+            UUID src = getFirstAccountId(user1.token);
+            UUID tgt = getFirstAccountId(user2.token);
+            String key = "replay-body-" + unique;
+
+            ResponseEntity<Map> first = executeTransfer(
+                    user1.token, src, tgt, new BigDecimal("250"), key);
+            ResponseEntity<Map> second = executeTransfer(
+                    user1.token, src, tgt, new BigDecimal("250"), key);
+
+            Map<String, Object> expected = new HashMap<>(first.getBody());
+            expected.put("replayed", true);
+            assertThat(second.getBody()).isEqualTo(expected);
+            assertThat(second.getBody().get("sourceBalanceAfter")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("another user sending the same key gets 409 and never sees the stored body")
+        void replayRejectedForOtherUser() {
+            var user1 = registerAndGetAuthContext("xu1_" + unique);
+            var user2 = registerAndGetAuthContext("xu2_" + unique);
+
+            UUID src = getFirstAccountId(user1.token);
+            UUID tgt = getFirstAccountId(user2.token);
+            String key = "cross-user-" + unique;
+
+            ResponseEntity<Map> first = executeTransfer(
+                    user1.token, src, tgt, new BigDecimal("75"), key);
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+            ResponseEntity<Map> other = executeTransfer(
+                    user2.token, tgt, src, new BigDecimal("75"), key);
+            assertThat(other.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(other.getBody()).doesNotContainKeys("transactionId", "sourceBalanceAfter");
+
+            assertThat(getBalance(user2.token, tgt)).isEqualByComparingTo(new BigDecimal("10075"));
+        }
+
         @Test
         @DisplayName("different idempotency keys create independent transfers")
         void differentKeysIndependent() {
@@ -289,6 +336,35 @@ class IdempotencyIntegrationTest extends BaseIntegrationTest {
                     Integer.class, key);
             assertThat(count).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("scheduled purge deletes expired keys and keeps live ones")
+        void scheduledPurgeDeletesExpiredKeys() {
+            var user1 = registerAndGetAuthContext("sp1_" + unique);
+            var user2 = registerAndGetAuthContext("sp2_" + unique);
+
+            UUID src = getFirstAccountId(user1.token);
+            UUID tgt = getFirstAccountId(user2.token);
+            String liveKey = "purge-live-" + unique;
+            executeTransfer(user1.token, src, tgt, new BigDecimal("10"), liveKey);
+
+            for (int i = 0; i < 3; i++) {
+                jdbc.update("INSERT INTO idempotency_keys (key, user_id, expires_at) VALUES (?, ?, ?)",
+                        "purge-expired-" + i + "-" + unique, user1.userId,
+                        Timestamp.from(Instant.now().minusSeconds(60)));
+            }
+
+            cleanupScheduler.purgeExpiredKeys();
+
+            Integer expired = jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM idempotency_keys WHERE key LIKE ?",
+                    Integer.class, "purge-expired-%-" + unique);
+            Integer live = jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM idempotency_keys WHERE key = ?",
+                    Integer.class, liveKey);
+            assertThat(expired).isZero();
+            assertThat(live).isEqualTo(1);
+        }
     }
 
     // ======================================================================
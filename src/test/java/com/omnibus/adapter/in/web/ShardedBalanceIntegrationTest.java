@@ -0,0 +1,272 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import com.Omnibus.adapter.out.persistence.AccountJpaRepository;
+import com.Omnibus.application.port.out.AccountRepositoryPort;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end integration tests for sharded (hot account) balances.
+ * <p>
+ * {@link #HOT_ACCOUNT} is listed in {@code app.accounts.sharded-balance.account-ids}; it is
+ * inserted by the test with a zero balance and owned by a freshly registered user. The
+ * consolidation job is slowed down so every run in these tests is triggered explicitly.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@TestPropertySource(properties = {
+        "app.audit.mode=sync",
+        "app.accounts.sharded-balance.account-ids=5a7d0c1e-0000-4000-8000-00000000a001",
+        "app.accounts.sharded-balance.buckets=4",
+        "app.accounts.sharded-balance.consolidation-interval-ms=3600000"
+})
+@DisplayName("Sharded Balances — Integration")
+class ShardedBalanceIntegrationTest extends BaseIntegrationTest {
+
+    private static final UUID HOT_ACCOUNT = UUID.fromString("5a7d0c1e-0000-4000-8000-00000000a001");
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String BATCH_URL = "/api/v1/transfers/batch";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private AccountRepositoryPort accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("bucket credits add to the total; drain zeroes buckets; consolidation folds them into the balance")
+    void bucketQueries() {
+        var owner = registerAndGetAuthContext("bq_" + unique);
+        UUID account = getFirstAccountId(owner.token);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        BigDecimal afterFirst = tx.execute(status ->
+                accountJpaRepository.creditBalanceBucket(account, (short) 0, new BigDecimal("100")));
+        BigDecimal afterSecond = tx.execute(status ->
+                accountJpaRepository.creditBalanceBucket(account, (short) 3, new BigDecimal("50")));
+        BigDecimal afterThird = tx.execute(status ->
+                accountJpaRepository.creditBalanceBucket(account, (short) 0, new BigDecimal("25")));
+        assertThat(afterFirst).isEqualByComparingTo("10100");
+        assertThat(afterSecond).isEqualByComparingTo("10150");
+        assertThat(afterThird).isEqualByComparingTo("10175");
+        assertThat(bucketSum(account)).isEqualByComparingTo("175");
+        assertThat(getBalance(owner.token, account)).isEqualByComparingTo("10175");
+
+        // Drain alone leaves folding the sum in to the caller — roll it back so nothing is lost
+        BigDecimal drained = tx.execute(status -> {
+            accountRepository.findAllByIdForUpdate(List.of(account));
+            BigDecimal sum = accountRepository.drainBalanceBuckets(account);
+            assertThat(bucketSum(account)).isZero();
+            status.setRollbackOnly();
+            return sum;
+        });
+        assertThat(drained).isEqualByComparingTo("175");
+        assertThat(bucketSum(account)).isEqualByComparingTo("175");
+        BigDecimal nothingToDrain = tx.execute(status -> accountRepository.drainBalanceBuckets(UUID.randomUUID()));
+        assertThat(nothingToDrain).isZero();
+
+        accountRepository.consolidateBalanceBuckets(account);
+        assertThat(storedBalance(account)).isEqualByComparingTo("10175");
+        assertThat(bucketSum(account)).isZero();
+        assertThat(getBalance(owner.token, account)).isEqualByComparingTo("10175");
+
+        // Nothing left to fold in
+        Integer consolidated = tx.execute(status -> accountJpaRepository.consolidateBalanceBuckets(account));
+        assertThat(consolidated).isZero();
+    }
+
+    @Test
+    @DisplayName("credits to a hot account go to buckets, debits and batches drain them, statements derive the running balance")
+    void shardedTransfersEndToEnd() {
+        var payer = registerAndGetAuthContext("sp_" + unique);
+        var merchant = registerAndGetAuthContext("sm_" + unique);
+        UUID payerAccount = getFirstAccountId(payer.token);
+        jdbc.update("INSERT INTO accounts (id, user_id, account_number, balance) VALUES (?, ?, ?, 0)",
+                HOT_ACCOUNT, merchant.userId, "HOT" + unique);
+
+        // Credits land in buckets; the account row is not written
+        transfer(payer.token, payerAccount, HOT_ACCOUNT, "30");
+        transfer(payer.token, payerAccount, HOT_ACCOUNT, "20");
+        assertThat(storedBalance(HOT_ACCOUNT)).isZero();
+        assertThat(bucketSum(HOT_ACCOUNT)).isEqualByComparingTo("50");
+        assertThat(getBalance(merchant.token, HOT_ACCOUNT)).isEqualByComparingTo("50");
+
+        // What an interleaved concurrent bucket credit leaves behind (the fixture is the only writer)
+        jdbc.update("""
+                UPDATE ledger_entries SET balance_after = 999
+                WHERE account_id = ? AND amount = 20 AND entry_type = 'CREDIT'
+                """, HOT_ACCOUNT);
+
+        // The main balance cannot cover the debit, so it drains the buckets under the row lock
+        Map<?, ?> debit = transfer(merchant.token, HOT_ACCOUNT, payerAccount, "40");
+        assertThat(new BigDecimal(debit.get("sourceBalanceAfter").toString())).isEqualByComparingTo("10");
+        assertThat(storedBalance(HOT_ACCOUNT)).isEqualByComparingTo("10");
+        assertThat(bucketSum(HOT_ACCOUNT)).isZero();
+
+        // A batch leg that needs bucket funds drains them too
+        transfer(payer.token, payerAccount, HOT_ACCOUNT, "5");
+        ResponseEntity<Map> batch = executeBatch(merchant.token, leg(HOT_ACCOUNT, payerAccount, "15"));
+        assertThat(batch.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(storedBalance(HOT_ACCOUNT)).isZero();
+        assertThat(bucketSum(HOT_ACCOUNT)).isZero();
+
+        // Consolidation folds buckets in but never touches ledger rows
+        transfer(payer.token, payerAccount, HOT_ACCOUNT, "7");
+        List<BigDecimal> recorded = ledgerBalancesAfter(HOT_ACCOUNT);
+        accountRepository.consolidateBalanceBuckets(HOT_ACCOUNT);
+        assertThat(storedBalance(HOT_ACCOUNT)).isEqualByComparingTo("7");
+        assertThat(bucketSum(HOT_ACCOUNT)).isZero();
+        assertThat(ledgerBalancesAfter(HOT_ACCOUNT)).isEqualTo(recorded);
+        assertThat(recorded.get(1)).isEqualByComparingTo("999");
+
+        // The statement's running balance comes from the amounts, not the recorded balance_after
+        List<String> statement = getStatement(merchant.token, HOT_ACCOUNT);
+        assertThat(statement).hasSize(6);
+        String[] expected = {"30", "50", "10", "15", "0", "7"};
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(new BigDecimal(statement.get(i).split(",")[5])).isEqualByComparingTo(expected[i]);
+        }
+
+        assertThat(getBalance(payer.token, payerAccount)).isEqualByComparingTo("9993");
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private BigDecimal bucketSum(UUID accountId) {
+        return jdbc.queryForObject(
+                "SELECT COALESCE(SUM(balance), 0) FROM account_balance_buckets WHERE account_id = ?",
+                BigDecimal.class, accountId);
+    }
+
+    private BigDecimal storedBalance(UUID accountId) {
+        return jdbc.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId);
+    }
+
+    private List<BigDecimal> ledgerBalancesAfter(UUID accountId) {
+        return jdbc.queryForList(
+                "SELECT balance_after FROM ledger_entries WHERE account_id = ? ORDER BY created_at, id",
+                BigDecimal.class, accountId);
+    }
+
+    private List<String> getStatement(String token, UUID accountId) {
+        ResponseEntity<String> response = rest.exchange(ACCOUNTS_URL + "/" + accountId + "/statement?format=csv",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(token)), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().lines().skip(1).toList();
+    }
+
+    private Map<?, ?> transfer(String token, UUID source, UUID target, String amount) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", source.toString());
+        body.put("targetAccountId", target.toString());
+        body.put("amount", new BigDecimal(amount));
+        body.put("currency", "USD");
+
+        ResponseEntity<Map> response = rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+
+    private Map<String, Object> leg(UUID source, UUID target, String amount) {
+        Map<String, Object> leg = new LinkedHashMap<>();
+        leg.put("sourceAccountId", source.toString());
+        leg.put("targetAccountId", target.toString());
+        leg.put("amount", new BigDecimal(amount));
+        leg.put("currency", "USD");
+        return leg;
+    }
+
+    @SafeVarargs
+    private ResponseEntity<Map> executeBatch(String token, Map<String, Object>... legs) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("mode", "ALL_OR_NOTHING");
+        body.put("legs", List.of(legs));
+
+        return rest.postForEntity(BATCH_URL, new HttpEntity<>(body, headers), Map.class);
+    }
+
+    private BigDecimal getBalance(String token, UUID accountId) {
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + accountId, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return new BigDecimal(response.getBody().get("balance").toString());
+    }
+
+    private HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
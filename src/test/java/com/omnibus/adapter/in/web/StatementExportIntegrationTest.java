@@ -0,0 +1,187 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end integration tests for the streaming statement export.
+ * <p>
+ * Covers: NDJSON and CSV bodies, oldest-first ordering, time-range filtering,
+ * and ownership / parameter validation before the stream starts.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@DisplayName("Statement Export — Integration")
+class StatementExportIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("NDJSON statement has one line per ledger entry, oldest first")
+    void ndjsonStatement() {
+        var alice = registerAndGetAuthContext("sa_" + unique);
+        var bob = registerAndGetAuthContext("sb_" + unique);
+
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+        transfer(alice.token, aliceAccount, bobAccount, "10");
+        transfer(bob.token, bobAccount, aliceAccount, "20");
+        transfer(alice.token, aliceAccount, bobAccount, "30");
+
+        ResponseEntity<String> response = getStatement(alice.token, aliceAccount, "");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("\"entryType\":\"DEBIT\"");
+        assertThat(lines.get(1)).contains("\"entryType\":\"CREDIT\"");
+        assertThat(lines.get(2)).contains("\"entryType\":\"DEBIT\"");
+    }
+
+    @Test
+    @DisplayName("CSV statement starts with a header row")
+    void csvStatement() {
+        var alice = registerAndGetAuthContext("sc_" + unique);
+        var bob = registerAndGetAuthContext("sd_" + unique);
+
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+        transfer(alice.token, aliceAccount, bobAccount, "10");
+
+        ResponseEntity<String> response = getStatement(alice.token, aliceAccount, "?format=csv");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("entryId,transactionId,entryType");
+        assertThat(lines.get(1)).contains(",DEBIT,10.0000,USD,9990.0000,");
+    }
+
+    @Test
+    @DisplayName("range that ends before any activity yields an empty statement")
+    void rangeFiltersEntries() {
+        var alice = registerAndGetAuthContext("se_" + unique);
+        var bob = registerAndGetAuthContext("sf_" + unique);
+
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+        transfer(alice.token, aliceAccount, bobAccount, "10");
+
+        ResponseEntity<String> response = getStatement(alice.token, aliceAccount,
+                "?from=2000-01-01T00:00:00Z&to=2000-01-02T00:00:00Z");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("statement for another user's account returns 403")
+    void foreignAccountForbidden() {
+        var alice = registerAndGetAuthContext("sg_" + unique);
+        var bob = registerAndGetAuthContext("sh_" + unique);
+
+        UUID bobAccount = getFirstAccountId(bob.token);
+
+        ResponseEntity<String> response = getStatement(alice.token, bobAccount, "");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("unknown format and inverted range return 400")
+    void invalidParametersRejected() {
+        var alice = registerAndGetAuthContext("si_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+
+        ResponseEntity<String> badFormat = getStatement(alice.token, aliceAccount, "?format=xml");
+        ResponseEntity<String> badRange = getStatement(alice.token, aliceAccount,
+                "?from=2001-01-01T00:00:00Z&to=2000-01-01T00:00:00Z");
+
+        assertThat(badFormat.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(badRange.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private ResponseEntity<String> getStatement(String token, UUID accountId, String query) {
+        return rest.exchange(ACCOUNTS_URL + "/" + accountId + "/statement" + query,
+                HttpMethod.GET, new HttpEntity<>(authHeaders(token)), String.class);
+    }
+
+    private void transfer(String token, UUID source, UUID target, String amount) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", source.toString());
+        body.put("targetAccountId", target.toString());
+        body.put("amount", new BigDecimal(amount));
+        body.put("currency", "USD");
+
+        ResponseEntity<Map> response = rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
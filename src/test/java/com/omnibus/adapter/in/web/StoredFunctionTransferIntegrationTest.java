@@ -0,0 +1,246 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the {@code execute_transfer} stored-function engine.
+ * <p>
+ * Re-checks the {@link ConcurrentTransferStressTest} invariants — no lost updates,
+ * no deadlocks, conservation of money, two ledger entries per transaction — plus
+ * error mapping and idempotent replay with {@code app.transfers.engine=stored-function}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "app.transfers.engine=stored-function")
+@Tag("integration")
+@Tag("concurrency")
+@DisplayName("Stored-Function Transfer Engine — Integration")
+class StoredFunctionTransferIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("concurrent transfers drain account — exactly 10 of 15 succeed, the rest get 422")
+    void concurrentDrainAccount() throws Exception {
+        var user1 = registerAndGetAuthContext("fd1_" + unique);
+        var user2 = registerAndGetAuthContext("fd2_" + unique);
+
+        UUID src = getFirstAccountId(user1.token);
+        UUID tgt = getFirstAccountId(user2.token);
+
+        List<Callable<HttpStatusCode>> calls = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            calls.add(() -> executeTransfer(user1.token, src, tgt, new BigDecimal("1000"), null).getStatusCode());
+        }
+        List<HttpStatusCode> statuses = runConcurrently(calls);
+
+        assertThat(statuses.stream().filter(HttpStatusCode::is2xxSuccessful)).hasSize(10);
+        assertThat(statuses.stream().filter(s -> s.value() == 422)).hasSize(5);
+        assertThat(getBalance(user1.token, src)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(getBalance(user2.token, tgt)).isEqualByComparingTo(new BigDecimal("20000"));
+    }
+
+    @Test
+    @DisplayName("bidirectional concurrent transfers — no deadlocks, money conserved, ledger balanced")
+    void bidirectionalTransfers() throws Exception {
+        var user1 = registerAndGetAuthContext("fb1_" + unique);
+        var user2 = registerAndGetAuthContext("fb2_" + unique);
+
+        UUID a1 = getFirstAccountId(user1.token);
+        UUID a2 = getFirstAccountId(user2.token);
+
+        List<Callable<HttpStatusCode>> calls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            calls.add(() -> executeTransfer(user1.token, a1, a2, new BigDecimal("100"), null).getStatusCode());
+            calls.add(() -> executeTransfer(user2.token, a2, a1, new BigDecimal("50"), null).getStatusCode());
+        }
+        List<HttpStatusCode> statuses = runConcurrently(calls);
+
+        assertThat(statuses).allMatch(HttpStatusCode::is2xxSuccessful);
+        assertThat(getBalance(user1.token, a1)).isEqualByComparingTo(new BigDecimal("9500"));
+        assertThat(getBalance(user2.token, a2)).isEqualByComparingTo(new BigDecimal("10500"));
+
+        Integer transactions = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE source_account_id IN (?, ?) AND status = 'COMPLETED'",
+                Integer.class, a1, a2);
+        Integer entries = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM ledger_entries WHERE transaction_id IN "
+                        + "(SELECT id FROM transactions WHERE source_account_id IN (?, ?))",
+                Integer.class, a1, a2);
+        assertThat(transactions).isEqualTo(20);
+        assertThat(entries).isEqualTo(40);
+
+        // Latest balance_after recorded for each account matches its balance
+        BigDecimal lastA1 = jdbc.queryForObject(
+                "SELECT balance_after FROM ledger_entries WHERE account_id = ? ORDER BY created_at DESC LIMIT 1",
+                BigDecimal.class, a1);
+        assertThat(lastA1).isEqualByComparingTo(new BigDecimal("9500"));
+    }
+
+    @Test
+    @DisplayName("transfer from another user's account returns 403 and moves nothing")
+    void foreignSourceForbidden() {
+        var owner = registerAndGetAuthContext("fo1_" + unique);
+        var attacker = registerAndGetAuthContext("fo2_" + unique);
+
+        UUID victim = getFirstAccountId(owner.token);
+        UUID attackerAccount = getFirstAccountId(attacker.token);
+
+        ResponseEntity<Map> response = executeTransfer(attacker.token, victim, attackerAccount,
+                new BigDecimal("100"), null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(getBalance(owner.token, victim)).isEqualByComparingTo(new BigDecimal("10000"));
+    }
+
+    @Test
+    @DisplayName("unknown target account returns 400")
+    void unknownTargetRejected() {
+        var user = registerAndGetAuthContext("fu1_" + unique);
+        UUID src = getFirstAccountId(user.token);
+
+        ResponseEntity<Map> response = executeTransfer(user.token, src, UUID.randomUUID(),
+                new BigDecimal("100"), null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("repeated idempotency key replays the stored result without a second debit")
+    void idempotentReplay() {
+        var user1 = registerAndGetAuthContext("fi1_" + unique);
+        var user2 = registerAndGetAuthContext("fi2_" + unique);
+
+        UUID src = getFirstAccountId(user1.token);
+        UUID tgt = getFirstAccountId(user2.token);
+        String key = "sf-" + unique;
+
+        ResponseEntity<Map> first = executeTransfer(user1.token, src, tgt, new BigDecimal("250"), key);
+        ResponseEntity<Map> second = executeTransfer(user1.token, src, tgt, new BigDecimal("250"), key);
+
+        assertThat(first.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(second.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(second.getBody().get("transactionId")).isEqualTo(first.getBody().get("transactionId"));
+        assertThat(getBalance(user1.token, src)).isEqualByComparingTo(new BigDecimal("9750"));
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private List<HttpStatusCode> runConcurrently(List<Callable<HttpStatusCode>> calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch ready = new CountDownLatch(calls.size());
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> futures = new ArrayList<>();
+        for (Callable<HttpStatusCode> call : calls) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                go.await();
+                return call.call();
+            }));
+        }
+
+        ready.await();
+        go.countDown();
+
+        List<HttpStatusCode> statuses = new ArrayList<>();
+        for (Future<HttpStatusCode> future : futures) {
+            statuses.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        return statuses;
+    }
+
+    private ResponseEntity<Map> executeTransfer(String token, UUID sourceAccountId,
+                                                 UUID targetAccountId, BigDecimal amount,
+                                                 String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", sourceAccountId.toString());
+        body.put("targetAccountId", targetAccountId.toString());
+        body.put("amount", amount);
+        body.put("currency", "USD");
+
+        return rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(headers), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private BigDecimal getBalance(String token, UUID accountId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + accountId, HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return new BigDecimal(response.getBody().get("balance").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
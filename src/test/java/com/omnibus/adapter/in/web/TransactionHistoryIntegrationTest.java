@@ -0,0 +1,184 @@
+package com.Omnibus.adapter.in.web;
+
+import com.Omnibus.BaseIntegrationTest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end integration tests for keyset-paginated transaction history.
+ * <p>
+ * Covers: page sizes, cursor chaining without gaps or duplicates, newest-first
+ * ordering across sent and received transfers, and invalid cursor / limit handling.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@DisplayName("Transaction History — Integration")
+class TransactionHistoryIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("cursor pages cover every transaction once, newest first")
+    void pagesChainWithoutGapsOrDuplicates() {
+        var alice = registerAndGetAuthContext("ha_" + unique);
+        var bob = registerAndGetAuthContext("hb_" + unique);
+
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+
+        // 3 sent, 2 received — both sides of the account must appear in one ordered history
+        List<String> expected = new ArrayList<>();
+        expected.add(transfer(alice.token, aliceAccount, bobAccount, "10"));
+        expected.add(transfer(bob.token, bobAccount, aliceAccount, "20"));
+        expected.add(transfer(alice.token, aliceAccount, bobAccount, "30"));
+        expected.add(transfer(bob.token, bobAccount, aliceAccount, "40"));
+        expected.add(transfer(alice.token, aliceAccount, bobAccount, "50"));
+        Collections.reverse(expected);
+
+        List<String> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResponseEntity<List> page = getHistory(alice.token, aliceAccount, cursor, 2);
+            assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+            pageSizes.add(page.getBody().size());
+            for (Object item : page.getBody()) {
+                seen.add(((Map<?, ?>) item).get("id").toString());
+            }
+            cursor = page.getHeaders().getFirst("X-Next-Cursor");
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("single page has no next cursor")
+    void lastPageHasNoCursor() {
+        var alice = registerAndGetAuthContext("hl_" + unique);
+        var bob = registerAndGetAuthContext("hm_" + unique);
+
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+        transfer(alice.token, aliceAccount, bobAccount, "10");
+
+        ResponseEntity<List> page = getHistory(alice.token, aliceAccount, null, 50);
+
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(page.getBody()).hasSize(1);
+        assertThat(page.getHeaders().getFirst("X-Next-Cursor")).isNull();
+    }
+
+    @Test
+    @DisplayName("malformed cursor returns 400")
+    void malformedCursorRejected() {
+        var alice = registerAndGetAuthContext("hc_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + aliceAccount + "/transactions?cursor=not-a-cursor",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(alice.token)), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("limit outside 1..200 returns 400")
+    void limitOutOfRangeRejected() {
+        var alice = registerAndGetAuthContext("hz_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+
+        ResponseEntity<Map> tooSmall = rest.exchange(
+                ACCOUNTS_URL + "/" + aliceAccount + "/transactions?limit=0",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(alice.token)), Map.class);
+        ResponseEntity<Map> tooLarge = rest.exchange(
+                ACCOUNTS_URL + "/" + aliceAccount + "/transactions?limit=201",
+                HttpMethod.GET, new HttpEntity<>(authHeaders(alice.token)), Map.class);
+
+        assertThat(tooSmall.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(tooLarge.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private ResponseEntity<List> getHistory(String token, UUID accountId, String cursor, int limit) {
+        String url = ACCOUNTS_URL + "/" + accountId + "/transactions?limit=" + limit
+                + (cursor != null ? "&cursor=" + cursor : "");
+        return rest.exchange(url, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+    }
+
+    private String transfer(String token, UUID source, UUID target, String amount) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", source.toString());
+        body.put("targetAccountId", target.toString());
+        body.put("amount", new BigDecimal(amount));
+        body.put("currency", "USD");
+
+        ResponseEntity<Map> response = rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody().get("transactionId").toString();
+    }
+
+    private HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
@@ -0,0 +1,88 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.dto.AccountLookupResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the in-process recipient lookup cache decorator.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingAccountLookup")
+class CachingAccountLookupTest {
+
+    @Mock
+    private AccountLookupAdapter delegate;
+
+    private CachingAccountLookup lookup;
+
+    private final AccountLookupResponse bob = new AccountLookupResponse(UUID.randomUUID(), "bob", "1234567890");
+
+    @BeforeEach
+    void setUp() {
+        lookup = new CachingAccountLookup(delegate, new SimpleMeterRegistry(), 1000, 3600, 30);
+    }
+
+    @Test
+    @DisplayName("found username is answered from the cache")
+    void foundCached() {
+        when(delegate.findByUsername("bob")).thenReturn(Optional.of(bob));
+
+        lookup.findByUsername("bob");
+        Optional<AccountLookupResponse> second = lookup.findByUsername("bob");
+
+        assertThat(second).contains(bob);
+        verify(delegate, times(1)).findByUsername("bob");
+    }
+
+    @Test
+    @DisplayName("unknown username is cached as not found")
+    void notFoundCached() {
+        when(delegate.findByUsername("bo")).thenReturn(Optional.empty());
+
+        lookup.findByUsername("bo");
+        Optional<AccountLookupResponse> second = lookup.findByUsername("bo");
+
+        assertThat(second).isEmpty();
+        verify(delegate, times(1)).findByUsername("bo");
+    }
+
+    @Test
+    @DisplayName("registration drops a cached not-found")
+    void invalidateDropsNegativeEntry() {
+        when(delegate.findByUsername("bob"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(bob));
+        lookup.findByUsername("bob");
+
+        lookup.invalidate("bob");
+
+        assertThat(lookup.findByUsername("bob")).contains(bob);
+    }
+
+    @Test
+    @DisplayName("not-found loaded while a registration commits is not cached")
+    void racingNotFoundNotCached() {
+        when(delegate.findByUsername("bob")).thenAnswer(invocation -> {
+            lookup.invalidate("bob");
+            return Optional.empty();
+        }).thenReturn(Optional.of(bob));
+
+        lookup.findByUsername("bob");
+
+        assertThat(lookup.findByUsername("bob")).contains(bob);
+    }
+}
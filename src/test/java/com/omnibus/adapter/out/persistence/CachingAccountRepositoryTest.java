@@ -0,0 +1,207 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.domain.model.Account;
+import com.Omnibus.domain.model.AccountStatus;
+import com.Omnibus.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the in-process account snapshot cache decorator.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingAccountRepository")
+class CachingAccountRepositoryTest {
+
+    @Mock
+    private AccountPersistenceAdapter delegate;
+
+    private CachingAccountRepository repository;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingAccountRepository(delegate, new SimpleMeterRegistry(), 1000, 300, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("repeated findById is answered from the cache")
+    void findByIdCached() {
+        when(delegate.findById(accountId)).thenReturn(Optional.of(account("10000.0000", 1)));
+
+        repository.findById(accountId);
+        Optional<Account> second = repository.findById(accountId);
+
+        assertThat(second).isPresent();
+        assertThat(second.get().getBalance().getAmount()).isEqualByComparingTo("10000");
+        verify(delegate, times(1)).findById(accountId);
+    }
+
+    @Test
+    @DisplayName("callers get copies — mutating a result does not change the cache")
+    void returnsCopies() {
+        when(delegate.findById(accountId)).thenReturn(Optional.of(account("10000.0000", 1)));
+
+        repository.findById(accountId).get().debit(Money.of(new BigDecimal("500"), "USD"));
+
+        assertThat(repository.findById(accountId).get().getBalance().getAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("reads inside a read-write transaction always hit the database")
+    void readWriteTransactionBypassesCache() {
+        when(delegate.findById(accountId)).thenReturn(Optional.of(account("10000.0000", 1)));
+        repository.findById(accountId);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        repository.findById(accountId);
+
+        verify(delegate, times(2)).findById(accountId);
+    }
+
+    @Test
+    @DisplayName("balance write evicts the account only after commit")
+    void writeEvictsAfterCommit() {
+        when(delegate.findById(accountId))
+                .thenReturn(Optional.of(account("10000.0000", 1)))
+                .thenReturn(Optional.of(account("9900.0000", 2)));
+        when(delegate.applyBalanceDeltas(anyMap())).thenReturn(Map.of(accountId, new BigDecimal("9900.0000")));
+        repository.findById(accountId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.applyBalanceDeltas(Map.of(accountId, new BigDecimal("-100")));
+
+        // Not committed yet: the old snapshot is still the committed state
+        assertThat(repository.findById(accountId).get().getBalance().getAmount()).isEqualByComparingTo("10000");
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(repository.findById(accountId).get().getBalance().getAmount()).isEqualByComparingTo("9900");
+    }
+
+    @Test
+    @DisplayName("a load racing with an invalidation is not cached")
+    void racingLoadNotCached() {
+        when(delegate.findById(accountId)).thenAnswer(invocation -> {
+            // A transfer commits while this (pre-transfer) row is on its way back
+            repository.invalidate(List.of(accountId));
+            return Optional.of(account("10000.0000", 1));
+        }).thenReturn(Optional.of(account("9900.0000", 2)));
+
+        repository.findById(accountId);
+
+        assertThat(repository.findById(accountId).get().getBalance().getAmount()).isEqualByComparingTo("9900");
+        verify(delegate, times(2)).findById(accountId);
+    }
+
+    @Test
+    @DisplayName("findByUserId caches the owner's account list and the snapshots")
+    void findByUserIdCached() {
+        when(delegate.findByUserId(userId)).thenReturn(List.of(account("10000.0000", 1)));
+
+        repository.findByUserId(userId);
+        List<Account> second = repository.findByUserId(userId);
+        Optional<Account> byId = repository.findById(accountId);
+
+        assertThat(second).extracting(Account::getId).containsExactly(accountId);
+        assertThat(byId).isPresent();
+        verify(delegate, times(1)).findByUserId(userId);
+        verify(delegate, never()).findAllById(anyList());
+        verify(delegate, never()).findById(accountId);
+    }
+
+    @Test
+    @DisplayName("an evicted snapshot is reloaded on its own while the owner's list stays cached")
+    void findByUserIdReloadsEvictedSnapshot() {
+        when(delegate.findByUserId(userId)).thenReturn(List.of(account("10000.0000", 1)));
+        when(delegate.findAllById(List.of(accountId))).thenReturn(List.of(account("9900.0000", 2)));
+        repository.findByUserId(userId);
+
+        repository.invalidate(List.of(accountId));
+        List<Account> reloaded = repository.findByUserId(userId);
+
+        assertThat(reloaded.get(0).getBalance().getAmount()).isEqualByComparingTo("9900");
+        verify(delegate, times(1)).findByUserId(userId);
+        verify(delegate, times(1)).findAllById(List.of(accountId));
+    }
+
+    @Test
+    @DisplayName("with the replica enabled, loads inside a read-only transaction are not cached")
+    void replicaReadsNotCached() {
+        when(delegate.findById(accountId)).thenReturn(Optional.of(account("10000.0000", 1)));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        repository.findById(accountId);
+        repository.findById(accountId);
+
+        verify(delegate, times(2)).findById(accountId);
+    }
+
+    @Test
+    @DisplayName("without the replica, loads inside a read-only transaction are cached")
+    void primaryReadOnlyReadsCached() {
+        repository = new CachingAccountRepository(delegate, new SimpleMeterRegistry(), 1000, 300, false);
+        when(delegate.findById(accountId)).thenReturn(Optional.of(account("10000.0000", 1)));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        repository.findById(accountId);
+        repository.findById(accountId);
+
+        verify(delegate, times(1)).findById(accountId);
+    }
+
+    @Test
+    @DisplayName("saving a new account evicts the owner's account list")
+    void saveEvictsOwnerList() {
+        when(delegate.findByUserId(userId)).thenReturn(List.of(account("10000.0000", 1)));
+        repository.findByUserId(userId);
+
+        Account second = new Account(UUID.randomUUID(), userId, "ACC-2",
+                Money.of(new BigDecimal("0"), "USD"), AccountStatus.ACTIVE);
+        when(delegate.save(second)).thenReturn(second);
+        repository.save(second);
+        repository.findByUserId(userId);
+
+        verify(delegate, times(2)).findByUserId(userId);
+    }
+
+    private Account account(String balance, long version) {
+        Account account = new Account(accountId, userId, "ACC-1",
+                Money.of(new BigDecimal(balance), "USD"), AccountStatus.ACTIVE);
+        account.setVersion(version);
+        return account;
+    }
+}
@@ -0,0 +1,142 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.application.dto.TransferResult;
+import com.Omnibus.application.port.out.IdempotencyStorePort.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the in-process idempotency cache decorator.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingIdempotencyStore")
+class CachingIdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyPersistenceAdapter delegate;
+
+    private CachingIdempotencyStore store;
+
+    private final UUID owner = UUID.randomUUID();
+
+    private final Instant expiresAt = Instant.now().plus(Duration.ofHours(24));
+
+    private final TransferResult result = new TransferResult(UUID.randomUUID(), UUID.randomUUID(),
+            UUID.randomUUID(), new BigDecimal("100.0000"), "USD", new BigDecimal("9900.0000"),
+            new BigDecimal("10100.0000"), "COMPLETED", Instant.now(), false);
+
+    @BeforeEach
+    void setUp() {
+        store = new CachingIdempotencyStore(delegate, new SimpleMeterRegistry(), 1000);
+    }
+
+    @Test
+    @DisplayName("completed key is rejected by tryInsert without touching the database")
+    void completedKeyShortCircuitsTryInsert() {
+        when(delegate.storeResponse("k1", owner, 200, result)).thenReturn(Optional.of(expiresAt));
+        store.updateResponse("k1", owner, 200, result);
+
+        boolean inserted = store.tryInsert("k1", UUID.randomUUID());
+
+        assertThat(inserted).isFalse();
+        verify(delegate, never()).tryInsert(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("completed key is answered from the cache")
+    void completedKeyServedFromCache() {
+        when(delegate.storeResponse("k2", owner, 200, result)).thenReturn(Optional.of(expiresAt));
+        store.updateResponse("k2", owner, 200, result);
+
+        Optional<CachedResponse> cached = store.findByKey("k2");
+
+        assertThat(cached).contains(new CachedResponse(owner, 200, result));
+        verify(delegate, never()).findStored(anyString());
+    }
+
+    @Test
+    @DisplayName("unknown key falls through to the database")
+    void unknownKeyDelegates() {
+        UUID userId = UUID.randomUUID();
+        when(delegate.tryInsert("k3", userId)).thenReturn(true);
+
+        assertThat(store.tryInsert("k3", userId)).isTrue();
+        verify(delegate).tryInsert("k3", userId);
+    }
+
+    @Test
+    @DisplayName("database hit on findByKey is cached for the next replay")
+    void databaseHitIsCached() {
+        when(delegate.findStored("k4")).thenReturn(Optional.of(stored(expiresAt)));
+
+        store.findByKey("k4");
+        store.findByKey("k4");
+
+        verify(delegate, times(1)).findStored("k4");
+    }
+
+    @Test
+    @DisplayName("database hit inside a transaction is cached only after commit")
+    void databaseHitInTransactionWaitsForCommit() {
+        when(delegate.findStored("k5")).thenReturn(Optional.of(stored(expiresAt)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            store.findByKey("k5");
+            store.findByKey("k5");
+            verify(delegate, times(2)).findStored("k5");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        store.findByKey("k5");
+        verify(delegate, times(2)).findStored("k5");
+    }
+
+    @Test
+    @DisplayName("entry expires with the row's expires_at")
+    void entryExpiresWithRow() {
+        when(delegate.findStored("k6")).thenReturn(Optional.of(stored(Instant.now().minusSeconds(1))));
+
+        store.findByKey("k6");
+        store.findByKey("k6");
+
+        verify(delegate, times(2)).findStored("k6");
+    }
+
+    @Test
+    @DisplayName("response for a key owned by someone else is not cached")
+    void foreignKeyNotCached() {
+        when(delegate.storeResponse("k7", owner, 200, result)).thenReturn(Optional.empty());
+        store.updateResponse("k7", owner, 200, result);
+
+        store.findByKey("k7");
+
+        verify(delegate).findStored("k7");
+    }
+
+    private IdempotencyPersistenceAdapter.StoredResponse stored(Instant rowExpiresAt) {
+        return new IdempotencyPersistenceAdapter.StoredResponse(new CachedResponse(owner, 200, result), rowExpiresAt);
+    }
+}
@@ -0,0 +1,141 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.adapter.out.persistence.ColumnarArchive.ColumnType;
+import com.Omnibus.adapter.out.persistence.ColumnarArchive.RowGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ColumnarArchive} — the cold-storage file format.
+ */
+@Tag("unit")
+class ColumnarArchiveTest {
+
+    private static final List<ColumnType> SCHEMA = List.of(
+            ColumnType.UUID, ColumnType.STRING, ColumnType.TIMESTAMP, ColumnType.LONG, ColumnType.DECIMAL);
+
+    @Test
+    @DisplayName("rows round-trip column by column, nulls included")
+    void roundTrip() throws IOException {
+        UUID account = UUID.randomUUID();
+        Instant first = Instant.parse("2001-03-04T05:06:07.123456Z");
+
+        byte[] file = write(2,
+                new Object[]{account, "DEBIT", first, 7L, new BigDecimal("10.5")},
+                new Object[]{null, null, first.plusSeconds(1), 3L, null});
+
+        try (var reader = new ColumnarArchive.Reader(new ByteArrayInputStream(file), SCHEMA)) {
+            RowGroup group = reader.next();
+            assertThat(group.rowCount()).isEqualTo(2);
+            assertThat(group.uuids(0)).containsExactly(account, null);
+            assertThat(group.strings(1)).containsExactly("DEBIT", null);
+            assertThat(group.timestamps(2)).containsExactly(first, first.plusSeconds(1));
+            assertThat(group.longs(3)).containsExactly(7L, 3L);
+            assertThat(group.decimals(4)).containsExactly(new BigDecimal("10.5000"), null);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("rows are split into groups whose dictionaries can be probed without decoding")
+    void rowGroupsAndContains() throws IOException {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        Instant now = Instant.parse("2001-03-01T00:00:00Z");
+
+        byte[] file = write(2,
+                new Object[]{a, "x", now, 1L, BigDecimal.ONE},
+                new Object[]{a, "x", now, 2L, BigDecimal.ONE},
+                new Object[]{b, "y", now, 3L, BigDecimal.ONE});
+
+        List<Integer> sizes = new ArrayList<>();
+        List<Boolean> containsB = new ArrayList<>();
+        try (var reader = new ColumnarArchive.Reader(new ByteArrayInputStream(file), SCHEMA)) {
+            for (RowGroup group = reader.next(); group != null; group = reader.next()) {
+                sizes.add(group.rowCount());
+                containsB.add(group.contains(0, b));
+            }
+        }
+
+        assertThat(sizes).containsExactly(2, 1);
+        assertThat(containsB).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("a file written with different columns is rejected")
+    void schemaMismatchRejected() throws IOException {
+        byte[] file = write(10);
+
+        assertThatThrownBy(() -> new ColumnarArchive.Reader(new ByteArrayInputStream(file),
+                List.of(ColumnType.UUID, ColumnType.LONG)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("do not match");
+    }
+
+    @Test
+    @DisplayName("reading to the end checks the gzip trailer, so a damaged or truncated file is rejected")
+    void damagedFileRejected() throws IOException {
+        byte[] file = write(2,
+                new Object[]{UUID.randomUUID(), "x", Instant.parse("2001-03-01T00:00:00Z"), 1L, BigDecimal.ONE});
+
+        readFully(file);
+
+        byte[] damaged = file.clone();
+        damaged[damaged.length - 8] ^= 0x01;  // CRC-32
+        assertThatThrownBy(() -> readFully(damaged)).isInstanceOf(IOException.class);
+
+        byte[] truncated = Arrays.copyOf(file, file.length - 4);
+        assertThatThrownBy(() -> readFully(truncated)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("varints round-trip across their full range")
+    void varints() throws IOException {
+        long[] values = {0, 1, 127, 128, 300, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        for (long value : values) {
+            ColumnarArchive.writeVarint(out, value);
+        }
+
+        var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (long value : values) {
+            assertThat(ColumnarArchive.readVarint(in)).isEqualTo(value);
+        }
+    }
+
+    private static void readFully(byte[] file) throws IOException {
+        try (var reader = new ColumnarArchive.Reader(new ByteArrayInputStream(file), SCHEMA)) {
+            while (reader.next() != null) {
+                // Decode nothing; only the framing and the trailer are checked
+            }
+            reader.verifyEnd();
+        }
+    }
+
+    private static byte[] write(int rowGroupSize, Object[]... rows) throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        try (var writer = new ColumnarArchive.Writer(file, SCHEMA, rowGroupSize)) {
+            for (Object[] row : rows) {
+                writer.append(row);
+            }
+        }
+        return file.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package com.Omnibus.adapter.out.persistence;
+
+import com.Omnibus.BaseIntegrationTest;
+import com.Omnibus.application.port.out.PartitionMaintenancePort;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.MonthlyPartition;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the monthly partitions created by Flyway V10 and maintained through
+ * {@link PartitionMaintenancePort}.
+ * <p>
+ * Uses a month far in the future so nothing else in the shared database writes to it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@DisplayName("Partition Maintenance — Integration")
+class PartitionMaintenanceIntegrationTest extends BaseIntegrationTest {
+
+    private static final YearMonth FUTURE = YearMonth.of(2099, 7);
+
+    @Autowired
+    private PartitionMaintenancePort partitions;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("migration created partitions through the coming months")
+    void upcomingPartitionsExist() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+
+        for (PartitionedTable table : PartitionedTable.values()) {
+            assertThat(partitions.listMonthlyPartitions(table))
+                    .extracting(MonthlyPartition::month)
+                    .contains(current, current.plusMonths(1));
+        }
+    }
+
+    @Test
+    @DisplayName("a new partition takes over its month's rows from the default partition, then detaches")
+    void createMovesDefaultRowsThenDetach() {
+        UUID entityId = UUID.randomUUID();
+        jdbc.update("INSERT INTO audit_logs (entity_type, entity_id, action, created_at) VALUES ('TEST', ?, 'CREATE', ?)",
+                entityId, OffsetDateTime.of(2099, 7, 15, 12, 0, 0, 0, ZoneOffset.UTC));
+        assertThat(countIn("audit_logs_default", entityId)).isEqualTo(1);
+
+        try {
+            assertThat(partitions.createMonthlyPartition(PartitionedTable.AUDIT_LOGS, FUTURE)).isTrue();
+            assertThat(partitions.createMonthlyPartition(PartitionedTable.AUDIT_LOGS, FUTURE)).isFalse();
+
+            assertThat(countIn("audit_logs_default", entityId)).isZero();
+            assertThat(countIn("audit_logs_2099_07", entityId)).isEqualTo(1);
+            assertThat(countIn("audit_logs", entityId)).isEqualTo(1);
+
+            MonthlyPartition partition = partitions.listMonthlyPartitions(PartitionedTable.AUDIT_LOGS).stream()
+                    .filter(p -> p.month().equals(FUTURE))
+                    .findFirst().orElseThrow();
+            partitions.detachPartition(PartitionedTable.AUDIT_LOGS, partition);
+
+            assertThat(countIn("audit_logs", entityId)).isZero();
+            assertThat(countIn("audit_logs_2099_07", entityId)).isEqualTo(1);
+            assertThat(partitions.listMonthlyPartitions(PartitionedTable.AUDIT_LOGS))
+                    .extracting(MonthlyPartition::month)
+                    .doesNotContain(FUTURE);
+        } finally {
+            jdbc.execute("DROP TABLE IF EXISTS audit_logs_2099_07");
+            jdbc.update("DELETE FROM audit_logs WHERE entity_id = ?", entityId);
+        }
+    }
+
+    private int countIn(String table, UUID entityId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE entity_id = ?", Integer.class, entityId);
+    }
+}
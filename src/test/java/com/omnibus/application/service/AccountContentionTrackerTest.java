@@ -0,0 +1,73 @@
+package com.Omnibus.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AccountContentionTracker} — the per-account switch from
+ * optimistic writes to row locks.
+ */
+@Tag("unit")
+class AccountContentionTrackerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AccountContentionTracker tracker =
+            new AccountContentionTracker(0.5, 4, 1_000, 5_000, 100, clock::get);
+    private final UUID account = UUID.randomUUID();
+
+    @Test
+    @DisplayName("account turns pessimistic once the conflict ratio is reached over enough samples")
+    void tripsAtThreshold() {
+        assertThat(tracker.record(account, true)).isFalse();
+        assertThat(tracker.record(account, false)).isFalse();
+        assertThat(tracker.record(account, true)).isFalse();
+        assertThat(tracker.record(account, false)).isTrue();
+
+        assertThat(tracker.isPessimistic(account)).isTrue();
+        assertThat(tracker.pessimisticCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("conflicts below the ratio keep the account optimistic")
+    void staysOptimisticBelowThreshold() {
+        tracker.record(account, true);
+        for (int i = 0; i < 10; i++) {
+            tracker.record(account, false);
+        }
+
+        assertThat(tracker.isPessimistic(account)).isFalse();
+    }
+
+    @Test
+    @DisplayName("pessimistic mode ends after the cool-down")
+    void coolDownExpires() {
+        for (int i = 0; i < 4; i++) {
+            tracker.record(account, true);
+        }
+        assertThat(tracker.isPessimistic(account)).isTrue();
+
+        clock.addAndGet(5_001 * MS);
+
+        assertThat(tracker.isPessimistic(account)).isFalse();
+    }
+
+    @Test
+    @DisplayName("samples from an expired window are discarded")
+    void windowResets() {
+        tracker.record(account, true);
+        tracker.record(account, true);
+        tracker.record(account, true);
+        clock.addAndGet(1_001 * MS);
+
+        assertThat(tracker.record(account, true)).isFalse();
+        assertThat(tracker.isPessimistic(account)).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.Omnibus.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AccountLockStripes}.
+ */
+@Tag("unit")
+class AccountLockStripesTest {
+
+    @Test
+    @DisplayName("transfers on the same account never overlap")
+    void serializesSameAccount() throws Exception {
+        AccountLockStripes stripes = new AccountLockStripes(true, 64);
+        UUID account = UUID.randomUUID();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(executor.submit(() -> stripes.withLocks(List.of(account, UUID.randomUUID()), () -> {
+                maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                Thread.yield();
+                return inside.decrementAndGet();
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(maxInside.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("opposite-direction transfers on a shared pair do not deadlock")
+    void oppositeOrderDoesNotDeadlock() throws Exception {
+        AccountLockStripes stripes = new AccountLockStripes(true, 1024);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        CountDownLatch done = new CountDownLatch(200);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < 100; i++) {
+            executor.submit(() -> stripes.withLocks(List.of(a, b), () -> {
+                done.countDown();
+                return null;
+            }));
+            executor.submit(() -> stripes.withLocks(List.of(b, a), () -> {
+                done.countDown();
+                return null;
+            }));
+        }
+        executor.shutdown();
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("accounts sharing one stripe are locked once")
+    void sharedStripeIsNotReacquired() {
+        AccountLockStripes stripes = new AccountLockStripes(true, 1);
+
+        String result = stripes.withLocks(List.of(UUID.randomUUID(), UUID.randomUUID()), () -> "ran");
+
+        assertThat(result).isEqualTo("ran");
+    }
+
+    @Test
+    @DisplayName("stripes are released when the action throws")
+    void releasedOnException() throws Exception {
+        AccountLockStripes stripes = new AccountLockStripes(true, 16);
+        UUID account = UUID.randomUUID();
+
+        try {
+            stripes.withLocks(List.of(account), () -> {
+                throw new IllegalStateException("boom");
+            });
+        } catch (IllegalStateException expected) {
+            // fall through
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> other = executor.submit(() -> stripes.withLocks(List.of(account), () -> "ok"));
+        assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        executor.shutdown();
+    }
+}
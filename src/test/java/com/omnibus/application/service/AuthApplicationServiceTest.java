@@ -3,6 +3,7 @@ package com.Omnibus.application.service;
 import com.Omnibus.application.dto.AuthResponse;
 import com.Omnibus.application.dto.LoginCommand;
 import com.Omnibus.application.dto.RegisterCommand;
+import com.Omnibus.application.port.out.AccountLookupPort;
 import com.Omnibus.application.port.out.AccountRepositoryPort;
 import com.Omnibus.application.port.out.PasswordEncoderPort;
 import com.Omnibus.application.port.out.TokenProviderPort;
@@ -35,6 +36,7 @@ class AuthApplicationServiceTest {
     private AccountRepositoryPort accountRepository;
     private PasswordEncoderPort passwordEncoder;
     private TokenProviderPort tokenProvider;
+    private AccountLookupPort accountLookup;
     private AuthApplicationService authService;
 
     @BeforeEach
@@ -43,8 +45,9 @@ class AuthApplicationServiceTest {
         accountRepository = mock(AccountRepositoryPort.class);
         passwordEncoder = mock(PasswordEncoderPort.class);
         tokenProvider = mock(TokenProviderPort.class);
+        accountLookup = mock(AccountLookupPort.class);
         authService = new AuthApplicationService(
-                userRepository, accountRepository, passwordEncoder, tokenProvider);
+                userRepository, accountRepository, passwordEncoder, tokenProvider, accountLookup);
     }
 
     @Nested
@@ -116,6 +119,14 @@ class AuthApplicationServiceTest {
             verify(tokenProvider).generateToken(response.userId(), "alice");
         }
 
+        @Test
+        @DisplayName("should invalidate any cached lookup of the new username")
+        void shouldInvalidateLookupCache() {
+            authService.register(command);
+
+            verify(accountLookup).invalidate("alice");
+        }
+
         @Test
         @DisplayName("should reject duplicate username")
         void shouldRejectDuplicateUsername() {
@@ -0,0 +1,156 @@
+package com.Omnibus.application.service;
+
+import com.Omnibus.BaseIntegrationTest;
+import com.Omnibus.application.dto.LedgerVerificationResult;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the streaming ledger invariant verifier against real transfers.
+ * <p>
+ * Uses its own shard count so its checkpoints are independent of other test contexts.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@TestPropertySource(properties = {
+        "app.ledger.verifier.shards=3",
+        "app.ledger.verifier.settle-seconds=0",
+        "app.ledger.verifier.initial-delay-ms=3600000"
+})
+@DisplayName("Ledger Invariant Verifier — Integration")
+class LedgerInvariantVerifierIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private LedgerInvariantVerifier verifier;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("transfers verify clean; incremental runs read only new entries")
+    void transfersVerifyClean() {
+        var alice = registerAndGetAuthContext("va_" + unique);
+        var bob = registerAndGetAuthContext("vb_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+
+        transfer(alice.token, aliceAccount, bobAccount, "100");
+        transfer(bob.token, bobAccount, aliceAccount, "30");
+        List<LedgerVerificationResult> first = verifier.verifyAll();
+
+        transfer(alice.token, aliceAccount, bobAccount, "5");
+        List<LedgerVerificationResult> second = verifier.verifyAll();
+
+        assertThat(first).hasSize(3);
+        assertThat(mismatched(first)).doesNotContain(aliceAccount, bobAccount);
+        assertThat(mismatched(second)).doesNotContain(aliceAccount, bobAccount);
+        // One transfer = two entries, each read by its account's shard and its transaction's shard
+        long secondEntries = second.stream().mapToLong(LedgerVerificationResult::entries).sum();
+        assertThat(secondEntries).isBetween(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("stored balance drifting from the ledger is reported")
+    void balanceDriftDetected() {
+        var alice = registerAndGetAuthContext("vc_" + unique);
+        var bob = registerAndGetAuthContext("vd_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+        transfer(alice.token, aliceAccount, bobAccount, "100");
+        verifier.verifyAll();
+
+        jdbc.update("UPDATE accounts SET balance = balance + 1 WHERE id = ?", aliceAccount);
+        try {
+            List<LedgerVerificationResult> results = verifier.verifyAll();
+
+            assertThat(mismatched(results)).contains(aliceAccount).doesNotContain(bobAccount);
+        } finally {
+            jdbc.update("UPDATE accounts SET balance = balance - 1 WHERE id = ?", aliceAccount);
+        }
+        assertThat(mismatched(verifier.verifyAll())).doesNotContain(aliceAccount);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private static List<UUID> mismatched(List<LedgerVerificationResult> results) {
+        return results.stream().flatMap(result -> result.mismatchedAccounts().stream()).toList();
+    }
+
+    private void transfer(String token, UUID source, UUID target, String amount) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", source.toString());
+        body.put("targetAccountId", target.toString());
+        body.put("amount", new BigDecimal(amount));
+        body.put("currency", "USD");
+
+        ResponseEntity<Map> response = rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(authHeaders(token)), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
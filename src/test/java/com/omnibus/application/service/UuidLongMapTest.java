@@ -0,0 +1,64 @@
+package com.Omnibus.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link UuidLongMap} — the primitive map behind the ledger verifier.
+ */
+@Tag("unit")
+class UuidLongMapTest {
+
+    @Test
+    @DisplayName("put, get and tag round-trip; missing keys return the default")
+    void putAndGet() {
+        UuidLongMap map = new UuidLongMap(4);
+        UUID key = UUID.randomUUID();
+
+        map.put(key, 42, 7);
+
+        assertThat(map.get(key, -1)).isEqualTo(42);
+        assertThat(map.tag(key, -1)).isEqualTo(7);
+        assertThat(map.get(UUID.randomUUID(), -1)).isEqualTo(-1);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("matches a HashMap through growth and random removals")
+    void matchesHashMap() {
+        Random random = new Random(42);
+        UuidLongMap map = new UuidLongMap(8);
+        Map<UUID, Long> expected = new HashMap<>();
+        List<UUID> keys = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            if (!keys.isEmpty() && random.nextInt(3) == 0) {
+                UUID key = keys.remove(random.nextInt(keys.size()));
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                UUID key = new UUID(random.nextLong(), random.nextLong());
+                long value = random.nextLong();
+                keys.add(key);
+                map.put(key, value, 0);
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key, Long.MIN_VALUE)).isEqualTo(value));
+        Map<UUID, Long> visited = new HashMap<>();
+        map.forEach((key, value, tag) -> visited.put(key, value));
+        assertThat(visited).isEqualTo(expected);
+    }
+}
@@ -129,4 +129,39 @@ class AccountTest {
         active.setStatus(AccountStatus.FROZEN);
         assertFalse(active.isActive());
     }
+
+    // ---- Sharded balance ----
+
+    @Test
+    @DisplayName("total balance includes unconsolidated bucket credits")
+    void totalBalanceIncludesBuckets() {
+        Account account = createAccount("100");
+        assertEquals(Money.of("100", "USD"), account.getTotalBalance());
+
+        account.setBucketBalance(Money.of("250", "USD"));
+        assertEquals(Money.of("100", "USD"), account.getBalance());
+        assertEquals(Money.of("350", "USD"), account.getTotalBalance());
+    }
+
+    @Test
+    @DisplayName("consolidate folds drained bucket credits into the balance")
+    void consolidateFoldsBuckets() {
+        Account account = createAccount("100");
+        account.setBucketBalance(Money.of("250", "USD"));
+
+        Money result = account.consolidate(Money.of("250", "USD"));
+
+        assertEquals(Money.of("350", "USD"), result);
+        assertEquals(Money.of("350", "USD"), account.getTotalBalance());
+        // A debit larger than the pre-consolidation balance now succeeds
+        assertEquals(Money.of("50", "USD"), account.debit(Money.of("300", "USD")));
+    }
+
+    @Test
+    @DisplayName("consolidate rejects a negative amount")
+    void consolidateRejectsNegative() {
+        Account account = createAccount("100");
+        assertThrows(IllegalArgumentException.class,
+                () -> account.consolidate(Money.of("-1", "USD")));
+    }
 }
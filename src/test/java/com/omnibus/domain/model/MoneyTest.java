@@ -90,4 +90,51 @@ class MoneyTest {
     void equalityShouldIgnoreTrailingZeros() {
         assertEquals(Money.of("100", "USD"), Money.of("100.0000", "USD"));
     }
+
+    @Test
+    void shouldRoundHalfEvenToScaleFour() {
+        assertEquals(new BigDecimal("1.0000"), Money.of("1.00005", "USD").getAmount());
+        assertEquals(new BigDecimal("1.0002"), Money.of("1.00015", "USD").getAmount());
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalOnOverflow() {
+        Money max = Money.of(new BigDecimal(Long.MAX_VALUE).movePointLeft(4), "USD");
+        Money overflowed = max.add(Money.of("0.0001", "USD"));
+
+        assertEquals(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE).movePointLeft(4),
+                overflowed.getAmount());
+        assertTrue(overflowed.isGreaterThanOrEqual(max));
+        assertEquals(max, overflowed.subtract(Money.of("0.0001", "USD")));
+    }
+
+    @Test
+    void shouldHandleAmountsBeyondLongRange() {
+        Money huge = Money.of("99999999999999999999.1234", "USD");
+        assertEquals(new BigDecimal("99999999999999999999.1234"), huge.getAmount());
+        assertEquals(Money.of("-99999999999999999999.1234", "USD"), huge.negate());
+        assertTrue(Money.of("1", "USD").isLessThan(huge));
+    }
+
+    @Test
+    void equalValuesShouldShareHashCodeAcrossConstructionPaths() {
+        Money viaLong = Money.of(100L, "USD");
+        Money viaString = Money.of("100.00", "usd");
+        Money viaArithmetic = Money.of("60", "USD").add(Money.of("40", "USD"));
+
+        assertEquals(viaLong, viaString);
+        assertEquals(viaLong, viaArithmetic);
+        assertEquals(viaLong.hashCode(), viaString.hashCode());
+        assertEquals(viaLong.hashCode(), viaArithmetic.hashCode());
+    }
+
+    @Test
+    void shouldInternCurrencyCodes() {
+        assertSame(Money.of("1", "usd").getCurrency(), Money.of("2", "USD").getCurrency());
+    }
+
+    @Test
+    void toStringShouldUsePlainScaleFourAmount() {
+        assertEquals("12.5000 USD", Money.of("12.5", "USD").toString());
+    }
 }
@@ -0,0 +1,148 @@
+package com.Omnibus.infrastructure.audit;
+
+import com.Omnibus.BaseIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link AsyncAuditLogWriter} against Postgres.
+ * <p>
+ * Each test runs its own writer over a private spill directory, next to the context's writer;
+ * rows are told apart by a per-test entity id.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integration")
+@DisplayName("Async Audit Writer — Integration")
+class AsyncAuditLogWriterIntegrationTest extends BaseIntegrationTest {
+
+    private static final long SEGMENT_BYTES = 16 * 1024 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    Path spill;
+
+    private UUID entityId;
+
+    @BeforeEach
+    void setUp() {
+        entityId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("events are inserted in batches and all of them are drained on shutdown")
+    void batchesDrainedOnShutdown() throws Exception {
+        AsyncAuditLogWriter writer = writer(50, 5);
+        writer.start();
+        for (int i = 0; i < 120; i++) {
+            writer.logAccountChange(entityId, null, "BATCH_" + i, null, null,
+                    BigDecimal.valueOf(i), BigDecimal.valueOf(i + 1));
+        }
+
+        writer.stop();
+
+        assertThat(countRows()).isEqualTo(120);
+        assertThat(spillLines()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("events left in the spill file by a crashed run are written on the next start")
+    void spilledEventsReplayed() throws Exception {
+        AuditWriteAheadLog crashed = new AuditWriteAheadLog(spill, SEGMENT_BYTES, objectMapper);
+        crashed.recover();
+        for (int i = 0; i < 3; i++) {
+            crashed.append(event("SPILLED_" + i, null));
+        }
+        crashed.close();
+
+        AsyncAuditLogWriter writer = writer(50, 5);
+        writer.start();
+        writer.stop();
+
+        assertThat(countRows()).isEqualTo(3);
+        assertThat(spillLines()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a row the database rejects is dead-lettered and the rest of its batch is still written")
+    void rejectedRowDeadLettered() throws Exception {
+        AuditWriteAheadLog crashed = new AuditWriteAheadLog(spill, SEGMENT_BYTES, objectMapper);
+        crashed.recover();
+        crashed.append(event("GOOD_1", "{}"));
+        crashed.append(event("POISON", "not json"));
+        crashed.append(event("GOOD_2", "{}"));
+        crashed.close();
+
+        AsyncAuditLogWriter writer = writer(50, 2);
+        writer.start();
+        writer.stop();
+
+        assertThat(jdbc.queryForList("SELECT action FROM audit_logs WHERE entity_id = ? ORDER BY action",
+                String.class, entityId)).containsExactly("GOOD_1", "GOOD_2");
+        List<String> deadLetters = Files.readAllLines(spill.resolve("dead-letter.jsonl"), StandardCharsets.UTF_8);
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0)).contains("POISON").contains(entityId.toString());
+        assertThat(spillLines()).isEmpty();
+
+        // A dead letter is not replayed
+        AsyncAuditLogWriter restarted = writer(50, 2);
+        restarted.start();
+        restarted.stop();
+        assertThat(countRows()).isEqualTo(2);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private AsyncAuditLogWriter writer(int batchSize, int maxFlushAttempts) {
+        return new AsyncAuditLogWriter(jdbc, objectMapper, new SimpleMeterRegistry(),
+                1000, batchSize, 10, maxFlushAttempts, 10000, spill.toString(), SEGMENT_BYTES, true);
+    }
+
+    private AuditEvent event(String action, String afterSnapshot) {
+        return new AuditEvent("ACCOUNT", entityId, action, null, null, afterSnapshot, null, null,
+                Instant.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private int countRows() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM audit_logs WHERE entity_id = ?", Integer.class, entityId);
+    }
+
+    private List<String> spillLines() throws IOException {
+        try (var segments = Files.list(spill)) {
+            return segments.filter(file -> file.getFileName().toString().endsWith(".wal"))
+                    .flatMap(file -> {
+                        try {
+                            return Files.readAllLines(file, StandardCharsets.UTF_8).stream();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .filter(line -> !line.isBlank())
+                    .toList();
+        }
+    }
+}
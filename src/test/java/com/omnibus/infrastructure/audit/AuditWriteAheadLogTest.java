@@ -0,0 +1,131 @@
+package com.Omnibus.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AuditWriteAheadLog}.
+ * Verifies recovery of unacknowledged events and release of acknowledged segments.
+ */
+@Tag("unit")
+class AuditWriteAheadLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("unacknowledged events are recovered by the next instance")
+    void recoversPendingEvents() {
+        AuditEvent event = event("DEBIT");
+        AuditWriteAheadLog first = new AuditWriteAheadLog(directory, 1024 * 1024, objectMapper);
+        first.recover();
+        first.append(event);
+        first.close();
+
+        AuditWriteAheadLog second = new AuditWriteAheadLog(directory, 1024 * 1024, objectMapper);
+        List<AuditEvent> recovered = second.recover();
+
+        assertThat(recovered).containsExactly(event);
+    }
+
+    @Test
+    @DisplayName("acknowledged events are not recovered")
+    void acknowledgedEventsAreReleased() {
+        AuditWriteAheadLog wal = new AuditWriteAheadLog(directory, 1024 * 1024, objectMapper);
+        wal.recover();
+        long segment = wal.append(event("DEBIT"));
+        wal.append(event("CREDIT"));
+        wal.acknowledge(segment, 2);
+        wal.close();
+
+        assertThat(wal.pendingCount()).isZero();
+        assertThat(new AuditWriteAheadLog(directory, 1024 * 1024, objectMapper).recover()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fully acknowledged closed segments are deleted")
+    void closedSegmentsAreDeleted() throws IOException {
+        AuditWriteAheadLog wal = new AuditWriteAheadLog(directory, 1, objectMapper);
+        wal.recover();
+        long firstSegment = wal.append(event("DEBIT"));
+        long secondSegment = wal.append(event("CREDIT"));
+
+        assertThat(secondSegment).isGreaterThan(firstSegment);
+
+        wal.acknowledge(firstSegment, 1);
+        wal.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).hasSize(1);
+        }
+        assertThat(wal.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("recovered segments are removed once discarded")
+    void discardRecoveredRemovesOldSegments() throws IOException {
+        AuditWriteAheadLog first = new AuditWriteAheadLog(directory, 1024 * 1024, objectMapper);
+        first.recover();
+        first.append(event("DEBIT"));
+        first.close();
+
+        AuditWriteAheadLog second = new AuditWriteAheadLog(directory, 1024 * 1024, objectMapper);
+        List<AuditEvent> recovered = second.recover();
+        recovered.forEach(second::append);
+        second.discardRecovered();
+        second.close();
+
+        assertThat(new AuditWriteAheadLog(directory, 1024 * 1024, objectMapper).recover()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("forced appends from concurrent callers across segment rotations are all recovered")
+    void concurrentForcedAppendsAreRecovered() throws Exception {
+        AuditWriteAheadLog wal = new AuditWriteAheadLog(directory, 512, objectMapper, true);
+        wal.recover();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 25; i++) {
+                    wal.append(event("DEBIT"));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        wal.close();
+
+        assertThat(new AuditWriteAheadLog(directory, 512, objectMapper).recover()).hasSize(200);
+    }
+
+    private AuditEvent event(String action) {
+        return new AuditEvent("ACCOUNT", UUID.randomUUID(), action, UUID.randomUUID(),
+                "{\"balance\": 100}", "{\"balance\": 90}",
+                new BigDecimal("100.0000"), new BigDecimal("90.0000"), Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.Omnibus.infrastructure.datasource;
+
+import com.Omnibus.BaseIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for read replica routing. The "replica" is a second pool on the test
+ * container, which is enough to observe which pool serves each read.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=${spring.datasource.url}",
+        "app.datasource.replica.username=${spring.datasource.username}",
+        "app.datasource.replica.password=${spring.datasource.password}",
+        "app.datasource.replica.poll-interval-ms=20"
+})
+@Tag("integration")
+@DisplayName("Read Replica Routing — Integration")
+class ReadReplicaRoutingIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REGISTER_URL = "/api/v1/auth/register";
+    private static final String TRANSFER_URL = "/api/v1/transfers";
+    private static final String ACCOUNTS_URL = "/api/v1/accounts";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String unique;
+
+    @BeforeEach
+    void setUp() {
+        unique = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("balance reads are served by the replica once it has caught up")
+    void readsUseReplica() throws InterruptedException {
+        var user = registerAndGetAuthContext("rr_" + unique);
+        getFirstAccountId(user.token);
+        Thread.sleep(200);
+
+        double before = reads("replica");
+        getFirstAccountId(user.token);
+
+        assertThat(reads("replica")).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("a transfer returns its commit position and the sender reads its own write")
+    void readYourWrites() {
+        var alice = registerAndGetAuthContext("rw1_" + unique);
+        var bob = registerAndGetAuthContext("rw2_" + unique);
+        UUID aliceAccount = getFirstAccountId(alice.token);
+        UUID bobAccount = getFirstAccountId(bob.token);
+
+        ResponseEntity<Map> transfer = executeTransfer(alice.token, aliceAccount, bobAccount, new BigDecimal("250"));
+
+        assertThat(transfer.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(transfer.getHeaders().getFirst(ReadYourWritesFilter.COMMIT_LSN_HEADER)).matches("[0-9A-F]+/[0-9A-F]+");
+        assertThat(getBalance(alice.token, aliceAccount, null)).isEqualByComparingTo(new BigDecimal("9750"));
+    }
+
+    @Test
+    @DisplayName("a position the replica has not replayed sends the read to the primary")
+    void minLsnForcesPrimary() {
+        var user = registerAndGetAuthContext("rp_" + unique);
+        UUID account = getFirstAccountId(user.token);
+
+        double before = reads("primary");
+        getBalance(user.token, account, "FFFFFFFF/FFFFFFFF");
+
+        assertThat(reads("primary")).isGreaterThan(before);
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private double reads(String target) {
+        return meterRegistry.counter("omnibus.datasource.reads", "target", target).count();
+    }
+
+    private ResponseEntity<Map> executeTransfer(String token, UUID sourceAccountId,
+                                                 UUID targetAccountId, BigDecimal amount) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountId", sourceAccountId.toString());
+        body.put("targetAccountId", targetAccountId.toString());
+        body.put("amount", amount);
+        body.put("currency", "USD");
+
+        return rest.postForEntity(TRANSFER_URL, new HttpEntity<>(body, headers), Map.class);
+    }
+
+    private AuthContext registerAndGetAuthContext(String username) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(
+                Map.of("username", username,
+                        "email", username + "@test.com",
+                        "password", "P@ssw0rd!!"),
+                headers);
+
+        ResponseEntity<Map> response = rest.postForEntity(REGISTER_URL, request, Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<?, ?> body = response.getBody();
+        return new AuthContext(
+                UUID.fromString(body.get("userId").toString()),
+                body.get("token").toString()
+        );
+    }
+
+    private UUID getFirstAccountId(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<List> response = rest.exchange(
+                ACCOUNTS_URL, HttpMethod.GET, new HttpEntity<>(headers), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> account = (Map<String, Object>) response.getBody().get(0);
+        return UUID.fromString(account.get("id").toString());
+    }
+
+    private BigDecimal getBalance(String token, UUID accountId, String minLsn) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        if (minLsn != null) {
+            headers.set(ReadYourWritesFilter.MIN_LSN_HEADER, minLsn);
+        }
+
+        ResponseEntity<Map> response = rest.exchange(
+                ACCOUNTS_URL + "/" + accountId, HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return new BigDecimal(response.getBody().get("balance").toString());
+    }
+
+    private record AuthContext(UUID userId, String token) {}
+}
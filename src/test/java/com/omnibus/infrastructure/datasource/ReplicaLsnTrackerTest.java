@@ -0,0 +1,28 @@
+package com.Omnibus.infrastructure.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@code pg_lsn} parsing in {@link ReplicaLsnTracker}.
+ */
+@Tag("unit")
+class ReplicaLsnTrackerTest {
+
+    @Test
+    @DisplayName("parsed positions compare in WAL order")
+    void parsedPositionsAreOrdered() {
+        assertThat(ReplicaLsnTracker.parse("0/16B3748")).isLessThan(ReplicaLsnTracker.parse("0/16B3750"));
+        assertThat(ReplicaLsnTracker.parse("0/FFFFFFFF")).isLessThan(ReplicaLsnTracker.parse("1/0"));
+        assertThat(ReplicaLsnTracker.parse(null)).isNegative();
+    }
+
+    @Test
+    @DisplayName("format is the inverse of parse")
+    void formatRoundTrips() {
+        assertThat(ReplicaLsnTracker.format(ReplicaLsnTracker.parse("16/B374D848"))).isEqualTo("16/B374D848");
+    }
+}
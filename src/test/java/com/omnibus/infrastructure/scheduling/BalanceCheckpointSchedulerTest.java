@@ -0,0 +1,72 @@
+package com.Omnibus.infrastructure.scheduling;
+
+import com.Omnibus.application.port.out.BalanceCheckpointPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the scheduled balance checkpoint run.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceCheckpointScheduler")
+class BalanceCheckpointSchedulerTest {
+
+    @Mock
+    private BalanceCheckpointPort balanceCheckpoints;
+
+    @Test
+    @DisplayName("writeCheckpoints uses a cut-off trailing the clock by the settle time")
+    void cutoffTrailsClock() {
+        BalanceCheckpointScheduler scheduler = new BalanceCheckpointScheduler(balanceCheckpoints, 60);
+        when(balanceCheckpoints.writeCheckpoints(any())).thenReturn(3);
+
+        Instant before = Instant.now();
+        scheduler.writeCheckpoints();
+        Instant after = Instant.now();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(balanceCheckpoints, times(1)).writeCheckpoints(cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(before.minusSeconds(60), after.minusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("the cut-off stays behind the oldest open transaction, so its entries are checkpointed later")
+    void cutoffTrailsOldestOpenTransaction() {
+        BalanceCheckpointScheduler scheduler = new BalanceCheckpointScheduler(balanceCheckpoints, 60);
+        Instant oldestOpen = Instant.now().minus(Duration.ofMinutes(30));
+        when(balanceCheckpoints.oldestOpenTransactionStart()).thenReturn(Optional.of(oldestOpen));
+
+        scheduler.writeCheckpoints();
+
+        verify(balanceCheckpoints).writeCheckpoints(oldestOpen.minusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("an open transaction reported ahead of the application clock does not move the cut-off forward")
+    void futureTransactionStartIgnored() {
+        BalanceCheckpointScheduler scheduler = new BalanceCheckpointScheduler(balanceCheckpoints, 60);
+        when(balanceCheckpoints.oldestOpenTransactionStart())
+                .thenReturn(Optional.of(Instant.now().plus(Duration.ofMinutes(5))));
+
+        Instant before = Instant.now();
+        scheduler.writeCheckpoints();
+        Instant after = Instant.now();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(balanceCheckpoints).writeCheckpoints(cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(before.minusSeconds(60), after.minusSeconds(60));
+    }
+}
@@ -1,45 +1,93 @@
 package com.Omnibus.infrastructure.scheduling;
 
 import com.Omnibus.application.port.out.IdempotencyStorePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for the scheduled idempotency key cleanup.
  */
+@Tag("unit")
 @ExtendWith(MockitoExtension.class)
 @DisplayName("IdempotencyKeyCleanupScheduler")
 class IdempotencyKeyCleanupSchedulerTest {
 
+    private static final int BATCH_SIZE = 100;
+
     @Mock
     private IdempotencyStorePort idempotencyStore;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private IdempotencyKeyCleanupScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new IdempotencyKeyCleanupScheduler(idempotencyStore, meterRegistry, BATCH_SIZE, 0);
+    }
+
     @Test
     @DisplayName("purgeExpiredKeys calls deleteExpired on the store")
     void purgeCallsDeleteExpired() {
-        when(idempotencyStore.deleteExpired()).thenReturn(5);
+        when(idempotencyStore.deleteExpired(BATCH_SIZE)).thenReturn(5);
 
         scheduler.purgeExpiredKeys();
 
-        verify(idempotencyStore, times(1)).deleteExpired();
+        verify(idempotencyStore, times(1)).deleteExpired(BATCH_SIZE);
     }
 
     @Test
     @DisplayName("purgeExpiredKeys works when no keys are expired")
     void purgeWithNoExpiredKeys() {
-        when(idempotencyStore.deleteExpired()).thenReturn(0);
+        when(idempotencyStore.deleteExpired(BATCH_SIZE)).thenReturn(0);
+
+        scheduler.purgeExpiredKeys();
+
+        verify(idempotencyStore, times(1)).deleteExpired(BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("full batches are followed by another until a short one drains the backlog")
+    void purgesInBatchesUntilDrained() {
+        when(idempotencyStore.deleteExpired(BATCH_SIZE)).thenReturn(BATCH_SIZE, BATCH_SIZE, 7);
 
         scheduler.purgeExpiredKeys();
 
-        verify(idempotencyStore, times(1)).deleteExpired();
+        verify(idempotencyStore, times(3)).deleteExpired(BATCH_SIZE);
+        assertThat(meterRegistry.get("omnibus.idempotency.purged").counter().count()).isEqualTo(207.0);
+        assertThat(meterRegistry.get("omnibus.idempotency.purge.batch").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("an interrupt stops the run after the current batch")
+    void interruptStopsBetweenBatches() {
+        scheduler = new IdempotencyKeyCleanupScheduler(idempotencyStore, meterRegistry, BATCH_SIZE, 10);
+        when(idempotencyStore.deleteExpired(BATCH_SIZE)).thenReturn(BATCH_SIZE);
+
+        Thread.currentThread().interrupt();
+        try {
+            scheduler.purgeExpiredKeys();
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        verify(idempotencyStore, times(1)).deleteExpired(BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("a batch size below one is rejected")
+    void invalidBatchSizeRejected() {
+        assertThatThrownBy(() -> new IdempotencyKeyCleanupScheduler(idempotencyStore, meterRegistry, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
@@ -0,0 +1,99 @@
+package com.Omnibus.infrastructure.scheduling;
+
+import com.Omnibus.application.port.out.PartitionMaintenancePort;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.MonthlyPartition;
+import com.Omnibus.application.port.out.PartitionMaintenancePort.PartitionedTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the scheduled partition maintenance.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartitionMaintenanceScheduler")
+class PartitionMaintenanceSchedulerTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 3);
+
+    @Mock
+    private PartitionMaintenancePort partitions;
+
+    @Test
+    @DisplayName("maintain creates the current and premade months of every table")
+    void createsUpcomingPartitions() {
+        PartitionMaintenanceScheduler scheduler = new PartitionMaintenanceScheduler(partitions, 2, 0, 0, "detach");
+
+        scheduler.maintain(CURRENT);
+
+        for (PartitionedTable table : PartitionedTable.values()) {
+            verify(partitions).createMonthlyPartition(table, YearMonth.of(2026, 3));
+            verify(partitions).createMonthlyPartition(table, YearMonth.of(2026, 4));
+            verify(partitions).createMonthlyPartition(table, YearMonth.of(2026, 5));
+        }
+        verify(partitions, never()).listMonthlyPartitions(any());
+    }
+
+    @Test
+    @DisplayName("maintain detaches months older than the retention and keeps the rest")
+    void detachesExpiredPartitions() {
+        PartitionMaintenanceScheduler scheduler = new PartitionMaintenanceScheduler(partitions, 0, 0, 2, "detach");
+        MonthlyPartition december = new MonthlyPartition("audit_logs_2025_12", YearMonth.of(2025, 12));
+        MonthlyPartition january = new MonthlyPartition("audit_logs_2026_01", YearMonth.of(2026, 1));
+        MonthlyPartition february = new MonthlyPartition("audit_logs_2026_02", YearMonth.of(2026, 2));
+        when(partitions.listMonthlyPartitions(PartitionedTable.AUDIT_LOGS))
+                .thenReturn(List.of(december, january, february));
+
+        scheduler.maintain(CURRENT);
+
+        verify(partitions).detachPartition(PartitionedTable.AUDIT_LOGS, december);
+        verify(partitions, never()).detachPartition(PartitionedTable.AUDIT_LOGS, january);
+        verify(partitions, never()).detachPartition(PartitionedTable.AUDIT_LOGS, february);
+        verify(partitions, never()).dropPartition(any(), any());
+        verify(partitions, never()).listMonthlyPartitions(PartitionedTable.LEDGER_ENTRIES);
+    }
+
+    @Test
+    @DisplayName("maintain drops expired months when expired-action is drop")
+    void dropsExpiredPartitions() {
+        PartitionMaintenanceScheduler scheduler = new PartitionMaintenanceScheduler(partitions, 0, 1, 0, "drop");
+        MonthlyPartition january = new MonthlyPartition("ledger_entries_2026_01", YearMonth.of(2026, 1));
+        when(partitions.listMonthlyPartitions(PartitionedTable.LEDGER_ENTRIES)).thenReturn(List.of(january));
+        when(partitions.listMonthlyPartitions(PartitionedTable.TRANSACTIONS)).thenReturn(List.of());
+
+        scheduler.maintain(CURRENT);
+
+        verify(partitions).dropPartition(PartitionedTable.LEDGER_ENTRIES, january);
+        verify(partitions, never()).detachPartition(any(), any());
+    }
+
+    @Test
+    @DisplayName("a failing table does not stop the others")
+    void failureIsIsolatedPerTable() {
+        PartitionMaintenanceScheduler scheduler = new PartitionMaintenanceScheduler(partitions, 0, 0, 0, "detach");
+        when(partitions.createMonthlyPartition(PartitionedTable.TRANSACTIONS, CURRENT))
+                .thenThrow(new IllegalStateException("lock timeout"));
+
+        scheduler.maintain(CURRENT);
+
+        verify(partitions).createMonthlyPartition(PartitionedTable.LEDGER_ENTRIES, CURRENT);
+        verify(partitions).createMonthlyPartition(PartitionedTable.AUDIT_LOGS, CURRENT);
+    }
+
+    @Test
+    @DisplayName("an unknown expired-action is rejected at startup")
+    void unknownExpiredActionRejected() {
+        assertThatThrownBy(() -> new PartitionMaintenanceScheduler(partitions, 3, 0, 0, "archive"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
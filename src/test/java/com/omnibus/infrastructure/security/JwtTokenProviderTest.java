@@ -132,6 +132,52 @@ class JwtTokenProviderTest {
         assertThat(expiredProvider.validateToken(token)).isFalse();
     }
 
+    @Test
+    @DisplayName("verify should return subject, username and expiry in one parse")
+    void verifyReturnsClaims() {
+        UUID userId = UUID.randomUUID();
+        String token = tokenProvider.generateToken(userId, "alice");
+
+        VerifiedToken verified = tokenProvider.verify(token).orElseThrow();
+
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(verified.username()).isEqualTo("alice");
+        assertThat(verified.expiresAt()).isAfter(java.time.Instant.now());
+    }
+
+    @Test
+    @DisplayName("verify should serve a repeated token from the cache")
+    void verifyCachesResult() {
+        String token = tokenProvider.generateToken(UUID.randomUUID(), "alice");
+
+        VerifiedToken first = tokenProvider.verify(token).orElseThrow();
+        VerifiedToken second = tokenProvider.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("verify should reject a tampered token even after the original was cached")
+    void verifyRejectsTamperedAfterCaching() {
+        String token = tokenProvider.generateToken(UUID.randomUUID(), "alice");
+        tokenProvider.verify(token);
+
+        String tampered = token.substring(0, token.length() - 1) +
+                (token.charAt(token.length() - 1) == 'a' ? 'b' : 'a');
+
+        assertThat(tokenProvider.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verify should reject null and expired tokens")
+    void verifyRejectsNullAndExpired() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, 0);
+        String expired = expiredProvider.generateToken(UUID.randomUUID(), "alice");
+
+        assertThat(tokenProvider.verify(null)).isEmpty();
+        assertThat(expiredProvider.verify(expired)).isEmpty();
+    }
+
     @Test
     @DisplayName("should return configured expiration milliseconds")
     void shouldReturnExpirationMs() {